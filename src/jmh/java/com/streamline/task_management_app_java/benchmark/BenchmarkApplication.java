@@ -0,0 +1,53 @@
+package com.streamline.task_management_app_java.benchmark;
+
+import com.streamline.task_management_app_java.TaskManagementAppJavaApplication;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Starts the application against a private H2 database, so every benchmark trial measures the
+ * same beans, transactions and caches as production. Properties are passed as command line
+ * arguments so they win over {@code application.yaml}.
+ */
+final class BenchmarkApplication {
+
+  private BenchmarkApplication() {}
+
+  /** Starts the application without the web server. */
+  static ConfigurableApplicationContext start(String database) {
+    return start(database, WebApplicationType.NONE);
+  }
+
+  static ConfigurableApplicationContext start(
+      String database, WebApplicationType webApplicationType, String... properties) {
+    List<String> all = new ArrayList<>(List.of(
+        "spring.datasource.url=jdbc:h2:mem:" + database + ";DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=create-drop"));
+    all.addAll(List.of(properties));
+    return run(webApplicationType, all);
+  }
+
+  /** Starts with the prod profile: a file database in {@code dataDirectory}, migrated by Flyway. */
+  static ConfigurableApplicationContext startFile(Path dataDirectory, String... properties) {
+    List<String> all = new ArrayList<>(List.of(
+        "spring.profiles.active=prod",
+        "app.data-dir=" + dataDirectory.toAbsolutePath()));
+    all.addAll(List.of(properties));
+    return run(WebApplicationType.NONE, all);
+  }
+
+  private static ConfigurableApplicationContext run(
+      WebApplicationType webApplicationType, List<String> properties) {
+    List<String> args =
+        new ArrayList<>(List.of("--spring.jpa.show-sql=false", "--logging.level.root=WARN"));
+    properties.forEach(property -> args.add("--" + property));
+    return new SpringApplicationBuilder(TaskManagementAppJavaApplication.class)
+        .web(webApplicationType)
+        .logStartupInfo(false)
+        .run(args.toArray(String[]::new));
+  }
+}
@@ -0,0 +1,115 @@
+package com.streamline.task_management_app_java.benchmark;
+
+import com.streamline.task_management_app_java.domain.Priority;
+import com.streamline.task_management_app_java.domain.ProjectStatus;
+import com.streamline.task_management_app_java.domain.Status;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Seeds large datasets with plain JDBC batches, which is orders of magnitude faster than going
+ * through the services. Caches and in-memory indexes are not told about the rows, so start a new
+ * context after seeding when the benchmark depends on them.
+ */
+final class BenchmarkData {
+
+  private static final int BATCH_SIZE = 10_000;
+
+  private BenchmarkData() {}
+
+  /** Seeded task ids are contiguous from {@code firstTaskId}. */
+  record Dataset(List<Long> projectIds, long firstTaskId, int tasks) {
+
+    long taskId(long index) {
+      return firstTaskId + Math.floorMod(index, tasks);
+    }
+  }
+
+  /** Inserts {@code tasks} tasks spread evenly over {@code projects} new projects. */
+  static Dataset seed(ConfigurableApplicationContext context, int projects, int tasks)
+      throws SQLException {
+    DataSource dataSource = context.getBean(DataSource.class);
+    try (Connection connection = dataSource.getConnection()) {
+      connection.setAutoCommit(false);
+      List<Long> projectIds = insertProjects(connection, projects);
+      long firstTaskId = insertTasks(connection, projectIds, tasks);
+      // Hibernate hands out pooled blocks of 50 from task_seq; start past the seeded ids.
+      try (PreparedStatement restart = connection.prepareStatement(
+          "alter sequence task_seq restart with " + (firstTaskId + tasks + 100))) {
+        restart.execute();
+      }
+      connection.commit();
+      return new Dataset(projectIds, firstTaskId, tasks);
+    }
+  }
+
+  private static List<Long> insertProjects(Connection connection, int projects) throws SQLException {
+    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+    ProjectStatus[] statuses = ProjectStatus.values();
+    try (PreparedStatement insert = connection.prepareStatement(
+        "insert into project (name, status, created_at, updated_at, version) "
+            + "values (?, ?, ?, ?, 0)")) {
+      for (int i = 0; i < projects; i++) {
+        insert.setString(1, "Project " + i);
+        insert.setString(2, statuses[i % statuses.length].name());
+        insert.setTimestamp(3, now);
+        insert.setTimestamp(4, now);
+        insert.addBatch();
+      }
+      insert.executeBatch();
+    }
+    List<Long> ids = new ArrayList<>(projects);
+    try (PreparedStatement select =
+            connection.prepareStatement("select id from project order by id");
+        ResultSet rows = select.executeQuery()) {
+      while (rows.next()) {
+        ids.add(rows.getLong(1));
+      }
+    }
+    return ids;
+  }
+
+  private static long insertTasks(Connection connection, List<Long> projectIds, int tasks)
+      throws SQLException {
+    long firstId;
+    try (PreparedStatement select =
+            connection.prepareStatement("select coalesce(max(id), 0) + 1 from task");
+        ResultSet row = select.executeQuery()) {
+      row.next();
+      firstId = row.getLong(1);
+    }
+    LocalDateTime now = LocalDateTime.now();
+    Timestamp created = Timestamp.valueOf(now);
+    Status[] statuses = Status.values();
+    Priority[] priorities = Priority.values();
+    try (PreparedStatement insert = connection.prepareStatement(
+        "insert into task (id, name, status, priority, due_date, project_id, created_at, "
+            + "updated_at, version) values (?, ?, ?, ?, ?, ?, ?, ?, 0)")) {
+      for (int i = 0; i < tasks; i++) {
+        insert.setLong(1, firstId + i);
+        insert.setString(2, "Task " + i + " review release notes");
+        insert.setString(3, statuses[i % statuses.length].name());
+        insert.setString(4, priorities[i % priorities.length].name());
+        insert.setTimestamp(5, Timestamp.valueOf(now.plusHours(i % 2_000 - 500)));
+        insert.setLong(6, projectIds.get(i % projectIds.size()));
+        insert.setTimestamp(7, created);
+        insert.setTimestamp(8, created);
+        insert.addBatch();
+        if ((i + 1) % BATCH_SIZE == 0) {
+          insert.executeBatch();
+          connection.commit();
+        }
+      }
+      insert.executeBatch();
+    }
+    return firstId;
+  }
+}
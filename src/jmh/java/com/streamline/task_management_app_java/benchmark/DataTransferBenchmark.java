@@ -0,0 +1,107 @@
+package com.streamline.task_management_app_java.benchmark;
+
+import com.streamline.task_management_app_java.controller.dto.ImportJobResponse;
+import com.streamline.task_management_app_java.domain.EntityType;
+import com.streamline.task_management_app_java.domain.TransferFormat;
+import com.streamline.task_management_app_java.service.DataTransferService;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Full export and import of the task table. Rows per second and the peak heap of each run are
+ * printed, since JMH only reports times; with streaming both ends the peak should not grow with
+ * {@code tasks} (use 10000000 for the migration-sized run).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+public class DataTransferBenchmark {
+
+  private static final int SEEDED_PROJECTS = 100;
+
+  @Param({"1000000"})
+  private int tasks;
+
+  @Param({"ndjson", "csv"})
+  private String format;
+
+  private ConfigurableApplicationContext context;
+  private DataTransferService dataTransferService;
+  private TransferFormat transferFormat;
+  private Path file;
+  private long startNanos;
+
+  @Setup(Level.Trial)
+  public void setUp() throws IOException, SQLException {
+    context = BenchmarkApplication.start("transfer-benchmark-" + format);
+    BenchmarkData.seed(context, SEEDED_PROJECTS, tasks);
+    dataTransferService = context.getBean(DataTransferService.class);
+    transferFormat = TransferFormat.from(format);
+    file = Files.createTempFile("transfer-benchmark", "." + format);
+    try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file))) {
+      dataTransferService.exportTasks(transferFormat, null, out);
+    }
+    System.out.printf("%n%s export of %d tasks: %d MB%n", format, tasks, Files.size(file) >> 20);
+  }
+
+  @Setup(Level.Invocation)
+  public void resetPeak() {
+    System.gc();
+    ManagementFactory.getMemoryPoolMXBeans().forEach(MemoryPoolMXBean::resetPeakUsage);
+    startNanos = System.nanoTime();
+  }
+
+  @TearDown(Level.Invocation)
+  public void report() {
+    long millis = Math.max(1, (System.nanoTime() - startNanos) / 1_000_000);
+    long peak = ManagementFactory.getMemoryPoolMXBeans().stream()
+        .filter(pool -> pool.getType() == MemoryType.HEAP)
+        .mapToLong(pool -> pool.getPeakUsage().getUsed())
+        .sum();
+    System.out.printf("%n%d rows/s, peak heap %d MB%n", tasks * 1000L / millis, peak >> 20);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    context.close();
+    Files.deleteIfExists(file);
+  }
+
+  @Benchmark
+  public void exportTasks() {
+    dataTransferService.exportTasks(transferFormat, null, OutputStream.nullOutputStream());
+  }
+
+  @Benchmark
+  public ImportJobResponse importTasks() throws IOException {
+    Long jobId = dataTransferService.createImport(EntityType.TASK, transferFormat, null).id();
+    try (InputStream in = new BufferedInputStream(Files.newInputStream(file))) {
+      return dataTransferService.runImport(jobId, in);
+    }
+  }
+}
@@ -0,0 +1,104 @@
+package com.streamline.task_management_app_java.benchmark;
+
+import com.streamline.task_management_app_java.service.ProjectStatisticsService;
+import com.streamline.task_management_app_java.service.SearchIndexService;
+import com.streamline.task_management_app_java.service.SnapshotService;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.util.FileSystemUtils;
+
+/**
+ * Time until the application serves a seeded dataset again after a restart. The file database
+ * only has to be opened and checked by Flyway; the in-memory one starts empty and has to be
+ * reloaded, either by replaying the inserts ({@code mem}) or from a snapshot file ({@code
+ * snapshot}). The in-memory statistics and search index are rebuilt in every mode.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 5)
+public class DatabaseStartupBenchmark {
+
+  private static final int SEEDED_PROJECTS = 1_000;
+
+  @Param({"mem", "snapshot", "file"})
+  private String mode;
+
+  @Param({"1000000"})
+  private int tasks;
+
+  private Path dataDirectory;
+  private ConfigurableApplicationContext context;
+
+  @Setup(Level.Trial)
+  public void seedDatabase() throws IOException, SQLException {
+    if (mode.equals("mem")) {
+      return;
+    }
+    dataDirectory = Files.createTempDirectory("startup-benchmark");
+    if (mode.equals("file")) {
+      try (ConfigurableApplicationContext seeding = BenchmarkApplication.startFile(dataDirectory)) {
+        BenchmarkData.seed(seeding, SEEDED_PROJECTS, tasks);
+      }
+      return;
+    }
+    try (ConfigurableApplicationContext seeding = startWithSnapshot()) {
+      BenchmarkData.seed(seeding, SEEDED_PROJECTS, tasks);
+      seeding.getBean(SnapshotService.class).writeSnapshot();
+    }
+  }
+
+  @TearDown(Level.Invocation)
+  public void stop() {
+    context.close();
+  }
+
+  @TearDown(Level.Trial)
+  public void deleteDataDirectory() throws IOException {
+    if (dataDirectory != null) {
+      FileSystemUtils.deleteRecursively(dataDirectory);
+    }
+  }
+
+  @Benchmark
+  public ConfigurableApplicationContext startUntilReady() throws SQLException {
+    if (mode.equals("file")) {
+      context = BenchmarkApplication.startFile(dataDirectory);
+      return context;
+    }
+    if (mode.equals("snapshot")) {
+      // Restored before the statistics and search index are built on startup.
+      context = startWithSnapshot();
+      return context;
+    }
+    context = BenchmarkApplication.start("startup-benchmark");
+    BenchmarkData.seed(context, SEEDED_PROJECTS, tasks);
+    context.getBean(ProjectStatisticsService.class).rebuild();
+    context.getBean(SearchIndexService.class).rebuild();
+    return context;
+  }
+
+  private ConfigurableApplicationContext startWithSnapshot() {
+    return BenchmarkApplication.start("startup-benchmark", WebApplicationType.NONE,
+        "app.snapshot.enabled=true",
+        "app.snapshot.path=" + dataDirectory.resolve("snapshot.bin").toAbsolutePath());
+  }
+}
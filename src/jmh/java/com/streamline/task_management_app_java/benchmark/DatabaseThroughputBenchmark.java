@@ -0,0 +1,92 @@
+package com.streamline.task_management_app_java.benchmark;
+
+import com.streamline.task_management_app_java.config.CacheConfig;
+import com.streamline.task_management_app_java.controller.dto.TaskCreateRequest;
+import com.streamline.task_management_app_java.controller.dto.TaskResponse;
+import com.streamline.task_management_app_java.domain.Priority;
+import com.streamline.task_management_app_java.domain.Status;
+import com.streamline.task_management_app_java.service.TaskService;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.util.FileSystemUtils;
+
+/**
+ * Read and write throughput of the in-memory and the file database with a million seeded tasks.
+ * Reads bypass the task cache so they reach the page cache of the database.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class DatabaseThroughputBenchmark {
+
+  private static final int SEEDED_PROJECTS = 1_000;
+
+  @Param({"mem", "file"})
+  private String mode;
+
+  @Param({"1000000"})
+  private int tasks;
+
+  private Path dataDirectory;
+  private ConfigurableApplicationContext context;
+  private TaskService taskService;
+  private Cache taskCache;
+  private BenchmarkData.Dataset dataset;
+  // Spreads reads over the whole table instead of walking it in order.
+  private long cursor;
+
+  @Setup
+  public void setUp() throws IOException, SQLException {
+    if (mode.equals("file")) {
+      dataDirectory = Files.createTempDirectory("throughput-benchmark");
+      try (ConfigurableApplicationContext seeding = BenchmarkApplication.startFile(dataDirectory)) {
+        dataset = BenchmarkData.seed(seeding, SEEDED_PROJECTS, tasks);
+      }
+      context = BenchmarkApplication.startFile(dataDirectory);
+    } else {
+      context = BenchmarkApplication.start("throughput-benchmark");
+      dataset = BenchmarkData.seed(context, SEEDED_PROJECTS, tasks);
+    }
+    taskService = context.getBean(TaskService.class);
+    taskCache = context.getBean(CacheManager.class).getCache(CacheConfig.TASKS);
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    context.close();
+    if (dataDirectory != null) {
+      FileSystemUtils.deleteRecursively(dataDirectory);
+    }
+  }
+
+  @Benchmark
+  public TaskResponse getTaskUncached() {
+    Long id = dataset.taskId(cursor += 7_919);
+    taskCache.evict(CacheConfig.tenantKey(id));
+    return taskService.getTask(id);
+  }
+
+  @Benchmark
+  public TaskResponse createTask() {
+    long next = cursor++;
+    Long projectId = dataset.projectIds().get((int) (next % dataset.projectIds().size()));
+    return taskService.createTask(new TaskCreateRequest("Task " + next, Status.TODO, Priority.MEDIUM,
+        LocalDateTime.now().plusDays(next % 30), projectId));
+  }
+}
@@ -0,0 +1,56 @@
+package com.streamline.task_management_app_java.benchmark;
+
+import com.streamline.task_management_app_java.controller.dto.ApiResponse;
+import com.streamline.task_management_app_java.controller.dto.ProjectResponse;
+import com.streamline.task_management_app_java.domain.ProjectStatus;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Jackson serialization of the project listing envelope. Sizes cover a default page, the maximum
+ * page and an unpaged export-sized list.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProjectSerializationBenchmark {
+
+  @Param({"20", "100", "1000"})
+  private int size;
+
+  private ObjectWriter writer;
+  private ApiResponse<List<ProjectResponse>> response;
+
+  @Setup
+  public void setUp() {
+    writer = JsonMapper.builder().build()
+        .writerFor(new TypeReference<ApiResponse<List<ProjectResponse>>>() {});
+
+    ProjectStatus[] statuses = ProjectStatus.values();
+    LocalDateTime createdAt = LocalDateTime.of(2025, 1, 1, 9, 0);
+    List<ProjectResponse> projects = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      projects.add(new ProjectResponse(createdAt.plusMinutes(i), (long) i + 1,
+          "Project " + i, statuses[i % statuses.length], 0L));
+    }
+    response = ApiResponse.success(projects);
+  }
+
+  @Benchmark
+  public byte[] serialize() {
+    return writer.writeValueAsBytes(response);
+  }
+}
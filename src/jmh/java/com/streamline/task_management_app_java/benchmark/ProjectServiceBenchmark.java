@@ -0,0 +1,67 @@
+package com.streamline.task_management_app_java.benchmark;
+
+import com.streamline.task_management_app_java.controller.dto.CursorPage;
+import com.streamline.task_management_app_java.controller.dto.ProjectCreateRequest;
+import com.streamline.task_management_app_java.controller.dto.ProjectResponse;
+import com.streamline.task_management_app_java.domain.ProjectStatus;
+import com.streamline.task_management_app_java.service.ProjectService;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/** Latency of one page of the project listing, unfiltered and filtered by status. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProjectServiceBenchmark {
+
+  private static final int SEEDED_PROJECTS = 5_000;
+
+  @Param({"20", "100"})
+  private int size;
+
+  @Param({"all", "TODO"})
+  private String filter;
+
+  private ConfigurableApplicationContext context;
+  private ProjectService projectService;
+  private Long middleCursor;
+
+  @Setup
+  public void setUp() {
+    context = BenchmarkApplication.start("project-benchmark");
+    projectService = context.getBean(ProjectService.class);
+
+    ProjectStatus[] statuses = ProjectStatus.values();
+    Long id = null;
+    for (int i = 0; i < SEEDED_PROJECTS; i++) {
+      id = projectService
+          .createProject(new ProjectCreateRequest("Project " + i, statuses[i % statuses.length]))
+          .id();
+    }
+    middleCursor = id - SEEDED_PROJECTS / 2;
+  }
+
+  @TearDown
+  public void tearDown() {
+    context.close();
+  }
+
+  @Benchmark
+  public CursorPage<ProjectResponse> firstPage() {
+    return projectService.getProjects(filter, null, size);
+  }
+
+  @Benchmark
+  public CursorPage<ProjectResponse> deepPage() {
+    return projectService.getProjects(filter, middleCursor, size);
+  }
+}
@@ -0,0 +1,74 @@
+package com.streamline.task_management_app_java.benchmark;
+
+import com.streamline.task_management_app_java.controller.dto.ProjectCreateRequest;
+import com.streamline.task_management_app_java.service.ProjectService;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.web.server.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Load test of a database-bound endpoint with more concurrent clients than Tomcat has worker
+ * threads and far more than the connection pool has connections. Compare the p0.99 percentile of
+ * {@code virtualThreads=false} and {@code virtualThreads=true} in the JSON results.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(400)
+public class RequestLatencyBenchmark {
+
+  private static final int SEEDED_PROJECTS = 1_000;
+
+  @Param({"false", "true"})
+  private boolean virtualThreads;
+
+  private ConfigurableApplicationContext context;
+  private HttpClient client;
+  private HttpRequest listProjects;
+
+  @Setup
+  public void setUp() {
+    context = BenchmarkApplication.start("latency-benchmark", WebApplicationType.SERVLET,
+        "server.port=0",
+        "spring.threads.virtual.enabled=" + virtualThreads);
+    ProjectService projectService = context.getBean(ProjectService.class);
+    for (int i = 0; i < SEEDED_PROJECTS; i++) {
+      projectService.createProject(new ProjectCreateRequest("Project " + i, null));
+    }
+
+    int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+    client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    listProjects = HttpRequest
+        .newBuilder(URI.create("http://localhost:" + port + "/api/v1/project?filter=all&size=20"))
+        .GET()
+        .build();
+  }
+
+  @TearDown
+  public void tearDown() {
+    client.close();
+    context.close();
+  }
+
+  @Benchmark
+  public int listProjects() throws IOException, InterruptedException {
+    // Requests rejected by the connection guard still count: their latency is what a client sees.
+    return client.send(listProjects, HttpResponse.BodyHandlers.discarding()).statusCode();
+  }
+}
@@ -0,0 +1,68 @@
+package com.streamline.task_management_app_java.benchmark;
+
+import com.streamline.task_management_app_java.controller.dto.SearchResultResponse;
+import com.streamline.task_management_app_java.domain.EntityType;
+import com.streamline.task_management_app_java.domain.Priority;
+import com.streamline.task_management_app_java.domain.Status;
+import com.streamline.task_management_app_java.service.SearchIndexService;
+import com.streamline.task_management_app_java.service.event.TaskChangedEvent;
+import com.streamline.task_management_app_java.service.event.TaskSnapshot;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Latency of task name search over a large index. No database: the index is filled through the
+ * same listener that follows committed task events. Names are three words from a small common
+ * vocabulary plus one rare code, so queries can mix broad prefixes with selective terms.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SearchIndexBenchmark {
+
+  private static final int PROJECTS = 1_000;
+  private static final int LIMIT = 20;
+  private static final String[] WORDS = {
+    "write", "review", "release", "refactor", "report", "deploy", "design", "document",
+    "fix", "feature", "test", "triage", "update", "upgrade", "migrate", "monitor",
+    "backend", "frontend", "billing", "search", "login", "export", "import", "notes"
+  };
+
+  @Param({"100000", "1000000"})
+  private int tasks;
+
+  /** A broad prefix, two broad prefixes, and a rare code next to a broad prefix. */
+  @Param({"re", "re fe", "c4242 re"})
+  private String query;
+
+  private SearchIndexService searchIndexService;
+
+  @Setup
+  public void setUp() {
+    // Only the event listeners and search are used, which need no repository.
+    searchIndexService = new SearchIndexService(null, null);
+    SplittableRandom random = new SplittableRandom(42);
+    for (long id = 1; id <= tasks; id++) {
+      String name = WORDS[random.nextInt(WORDS.length)] + " "
+          + WORDS[random.nextInt(WORDS.length)] + " "
+          + WORDS[random.nextInt(WORDS.length)] + " c" + random.nextInt(tasks / 10);
+      searchIndexService.onTaskChanged(TaskChangedEvent.created(new TaskSnapshot(
+          id, id % PROJECTS + 1, name, Status.TODO, Priority.MEDIUM, null)));
+    }
+    System.out.printf("%n%d tasks: %s%n", tasks, searchIndexService.getStats());
+  }
+
+  @Benchmark
+  public List<SearchResultResponse> search() {
+    return searchIndexService.search(query, EntityType.TASK, LIMIT);
+  }
+}
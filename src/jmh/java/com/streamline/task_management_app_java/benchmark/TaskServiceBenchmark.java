@@ -0,0 +1,114 @@
+package com.streamline.task_management_app_java.benchmark;
+
+import com.streamline.task_management_app_java.config.CacheConfig;
+import com.streamline.task_management_app_java.controller.dto.ProjectCreateRequest;
+import com.streamline.task_management_app_java.controller.dto.TaskBulkCreateResult;
+import com.streamline.task_management_app_java.controller.dto.TaskCreateRequest;
+import com.streamline.task_management_app_java.controller.dto.TaskResponse;
+import com.streamline.task_management_app_java.controller.dto.TaskUpdateRequest;
+import com.streamline.task_management_app_java.domain.Priority;
+import com.streamline.task_management_app_java.domain.Status;
+import com.streamline.task_management_app_java.service.ProjectService;
+import com.streamline.task_management_app_java.service.TaskService;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Throughput of the task write and read paths. {@link #createTasks()} reports tasks per second
+ * (not requests per second) so it can be compared with {@link #createTask()} directly.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class TaskServiceBenchmark {
+
+  private static final int SEEDED_TASKS = 1_000;
+  private static final int BULK_SIZE = 100;
+
+  private ConfigurableApplicationContext context;
+  private TaskService taskService;
+  private Cache taskCache;
+  private Long projectId;
+  private List<Long> taskIds;
+  private List<TaskCreateRequest> bulkRequests;
+  private int cursor;
+
+  @Setup
+  public void setUp() {
+    context = BenchmarkApplication.start("task-benchmark");
+    taskService = context.getBean(TaskService.class);
+    taskCache = context.getBean(CacheManager.class).getCache(CacheConfig.TASKS);
+    projectId = context.getBean(ProjectService.class)
+        .createProject(new ProjectCreateRequest("Benchmark", null))
+        .id();
+
+    taskIds = new ArrayList<>(SEEDED_TASKS);
+    for (int i = 0; i < SEEDED_TASKS; i++) {
+      taskIds.add(taskService.createTask(newRequest(i)).id());
+    }
+    bulkRequests = new ArrayList<>(BULK_SIZE);
+    for (int i = 0; i < BULK_SIZE; i++) {
+      bulkRequests.add(newRequest(i));
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+    context.close();
+  }
+
+  @Benchmark
+  public TaskResponse createTask() {
+    return taskService.createTask(newRequest(cursor++));
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BULK_SIZE)
+  public List<TaskBulkCreateResult> createTasks() {
+    return taskService.createTasks(bulkRequests);
+  }
+
+  @Benchmark
+  public TaskResponse getTaskCached() {
+    return taskService.getTask(taskIds.get(0));
+  }
+
+  @Benchmark
+  public TaskResponse getTaskUncached() {
+    Long id = nextTaskId();
+    taskCache.evict(CacheConfig.tenantKey(id));
+    return taskService.getTask(id);
+  }
+
+  @Benchmark
+  public TaskResponse updateTask() {
+    int next = cursor++;
+    Status status = next % 2 == 0 ? Status.IN_PROGRESS : Status.TODO;
+    return taskService.updateTask(nextTaskId(),
+        new TaskUpdateRequest("Task " + next, Priority.MEDIUM, LocalDateTime.now().plusDays(1), status),
+        null);
+  }
+
+  private Long nextTaskId() {
+    return taskIds.get(Math.floorMod(cursor++, SEEDED_TASKS));
+  }
+
+  private TaskCreateRequest newRequest(int i) {
+    return new TaskCreateRequest("Task " + i, Status.TODO, Priority.values()[i % Priority.values().length],
+        LocalDateTime.now().plusDays(i % 30), projectId);
+  }
+}
@@ -0,0 +1,90 @@
+package com.streamline.task_management_app_java.benchmark;
+
+import com.streamline.task_management_app_java.controller.dto.ApiResponse;
+import com.streamline.task_management_app_java.controller.dto.TaskResponse;
+import com.streamline.task_management_app_java.domain.Priority;
+import com.streamline.task_management_app_java.domain.Status;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.cfg.DateTimeFeature;
+import tools.jackson.databind.cfg.EnumFeature;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+
+/**
+ * Encode time of a task list envelope as JSON and as CBOR, with and without the gzip step that
+ * response compression adds. Payload sizes are printed once per trial since JMH only reports
+ * times.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class WireFormatBenchmark {
+
+  @Param({"100", "1000"})
+  private int size;
+
+  @Param({"json", "cbor"})
+  private String format;
+
+  private ObjectWriter writer;
+  private ApiResponse<List<TaskResponse>> response;
+
+  @Setup
+  public void setUp() {
+    ObjectMapper mapper = format.equals("cbor")
+        // Same settings as WebConfig#cborHttpMessageConverter.
+        ? CBORMapper.builder()
+            .enable(EnumFeature.WRITE_ENUMS_USING_INDEX)
+            .enable(DateTimeFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build()
+        : JsonMapper.builder().build();
+    writer = mapper.writerFor(new TypeReference<ApiResponse<List<TaskResponse>>>() {});
+
+    Status[] statuses = Status.values();
+    Priority[] priorities = Priority.values();
+    LocalDateTime dueDate = LocalDateTime.of(2025, 1, 1, 9, 0);
+    List<TaskResponse> tasks = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      tasks.add(new TaskResponse((long) i + 1, "Task " + i, statuses[i % statuses.length],
+          priorities[i % priorities.length], dueDate.plusHours(i), (long) i % 5));
+    }
+    response = ApiResponse.success(tasks);
+
+    System.out.printf("%n%s, %d tasks: %d bytes, %d bytes gzipped%n",
+        format, size, serialize().length, serializeGzip().length);
+  }
+
+  @Benchmark
+  public byte[] serialize() {
+    return writer.writeValueAsBytes(response);
+  }
+
+  @Benchmark
+  public byte[] serializeGzip() {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+      writer.writeValue(gzip, response);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return bytes.toByteArray();
+  }
+}
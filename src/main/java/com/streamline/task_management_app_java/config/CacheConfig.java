@@ -0,0 +1,47 @@
+package com.streamline.task_management_app_java.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.streamline.task_management_app_java.tenant.TenantContext;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+  public static final String PROJECTS = "projects";
+  public static final String TASKS = "tasks";
+
+  /**
+   * Prepended to every key expression: ids are unique across tenants, but a cached entry must
+   * still only be served to the tenant whose query loaded it.
+   */
+  public static final String TENANT_KEY =
+      "T(com.streamline.task_management_app_java.tenant.TenantContext).current() + ':' + ";
+
+  /** The key {@code TENANT_KEY + "#id"} evaluates to, for evicting entries in code. */
+  public static String tenantKey(Object id) {
+    return TenantContext.current() + ":" + id;
+  }
+
+  @Bean
+  public CacheManager cacheManager(
+      @Value("${app.cache.maximum-size:10000}") long maximumSize,
+      @Value("${app.cache.expire-after-write:60s}") Duration expireAfterWrite) {
+    CaffeineCacheManager cacheManager = new CaffeineCacheManager(PROJECTS, TASKS);
+    cacheManager.setCaffeine(
+        Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(expireAfterWrite)
+            .recordStats());
+    // Puts and evictions inside a transaction are applied after commit, so a reader can never
+    // re-cache the state that the transaction is about to replace.
+    return new TransactionAwareCacheManagerProxy(cacheManager);
+  }
+}
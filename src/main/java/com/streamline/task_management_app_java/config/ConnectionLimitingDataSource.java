@@ -0,0 +1,125 @@
+package com.streamline.task_management_app_java.config;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * Lets at most {@code maxConcurrency} threads hold a connection at a time. Callers beyond that
+ * park on a fair semaphore, which unmounts virtual threads instead of pinning their carrier, and
+ * give up after {@code acquireTimeout} rather than piling up inside the pool. The permit is
+ * returned when the connection is closed. How long callers waited is kept as a moving average for
+ * load shedding.
+ */
+public class ConnectionLimitingDataSource extends DelegatingDataSource {
+
+  private final Semaphore permits;
+  private final Duration acquireTimeout;
+  private final AtomicLong averageWaitNanos = new AtomicLong();
+
+  public ConnectionLimitingDataSource(
+      DataSource targetDataSource, int maxConcurrency, Duration acquireTimeout) {
+    super(targetDataSource);
+    this.permits = new Semaphore(maxConcurrency, true);
+    this.acquireTimeout = acquireTimeout;
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    acquire();
+    try {
+      return releaseOnClose(obtainTargetDataSource().getConnection());
+    } catch (SQLException | RuntimeException e) {
+      permits.release();
+      throw e;
+    }
+  }
+
+  @Override
+  public Connection getConnection(String username, String password) throws SQLException {
+    acquire();
+    try {
+      return releaseOnClose(obtainTargetDataSource().getConnection(username, password));
+    } catch (SQLException | RuntimeException e) {
+      permits.release();
+      throw e;
+    }
+  }
+
+  public int getAvailablePermits() {
+    return permits.availablePermits();
+  }
+
+  public int getWaitingThreads() {
+    return permits.getQueueLength();
+  }
+
+  /**
+   * Exponentially weighted average of the time callers waited for a permit, timeouts included. It
+   * only moves when connections are requested, so read it together with
+   * {@link #getWaitingThreads()}.
+   */
+  public Duration getAverageWait() {
+    return Duration.ofNanos(averageWaitNanos.get());
+  }
+
+  private void acquire() throws SQLException {
+    long start = System.nanoTime();
+    try {
+      boolean acquired = permits.tryAcquire(acquireTimeout.toNanos(), TimeUnit.NANOSECONDS);
+      recordWait(System.nanoTime() - start);
+      if (!acquired) {
+        throw new SQLTransientConnectionException(
+            "Timed out after " + acquireTimeout.toMillis() + "ms waiting for a database connection");
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new SQLTransientConnectionException("Interrupted while waiting for a database connection", e);
+    }
+  }
+
+  private void recordWait(long waitedNanos) {
+    // Each sample moves the average an eighth of the way, like TCP's smoothed round-trip time.
+    averageWaitNanos.accumulateAndGet(
+        waitedNanos, (average, sample) -> average + (sample - average) / 8);
+  }
+
+  private Connection releaseOnClose(Connection target) {
+    AtomicBoolean released = new AtomicBoolean();
+    return (Connection) Proxy.newProxyInstance(
+        Connection.class.getClassLoader(),
+        new Class<?>[] {Connection.class},
+        (proxy, method, args) -> {
+          switch (method.getName()) {
+            case "equals":
+              return proxy == args[0];
+            case "hashCode":
+              return System.identityHashCode(proxy);
+            case "close":
+              if (released.compareAndSet(false, true)) {
+                try {
+                  target.close();
+                } finally {
+                  permits.release();
+                }
+              }
+              return null;
+            default:
+              try {
+                return method.invoke(target, args);
+              } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+              }
+          }
+        });
+  }
+}
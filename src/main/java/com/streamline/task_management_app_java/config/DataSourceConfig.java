@@ -0,0 +1,41 @@
+package com.streamline.task_management_app_java.config;
+
+import java.time.Duration;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+@Configuration
+public class DataSourceConfig {
+
+  /**
+   * Wraps the auto-configured pool instead of replacing it, so every {@code spring.datasource.*}
+   * setting still applies. Set {@code app.datasource.max-concurrency} to the pool size. Data
+   * sources that only hand out connections of other beans, like the {@link ReadReplicaConfig}
+   * router, are left alone so each pool is limited exactly once.
+   */
+  @Bean
+  public static BeanPostProcessor connectionLimitingDataSourcePostProcessor(
+      @Value("${app.datasource.max-concurrency:10}") int maxConcurrency,
+      @Value("${app.datasource.acquire-timeout:2s}") Duration acquireTimeout) {
+    return new BeanPostProcessor() {
+      @Override
+      public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !isWrapper(dataSource)) {
+          return new ConnectionLimitingDataSource(dataSource, maxConcurrency, acquireTimeout);
+        }
+        return bean;
+      }
+    };
+  }
+
+  private static boolean isWrapper(DataSource dataSource) {
+    // Covers ConnectionLimitingDataSource itself and LazyConnectionDataSourceProxy.
+    return dataSource instanceof DelegatingDataSource
+        || dataSource instanceof AbstractRoutingDataSource;
+  }
+}
@@ -0,0 +1,84 @@
+package com.streamline.task_management_app_java.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * Replaces the single auto-configured pool with a primary and a replica pool behind one routing
+ * {@code dataSource}, which everything (JPA, Flyway, plain JDBC) keeps using. Read-only
+ * transactions go to the replica while its lag is within {@code app.datasource.replica.max-lag};
+ * all other work, and all work outside a transaction, goes to the primary. Both pools are
+ * wrapped by {@link DataSourceConfig}'s connection limit separately.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.replica.enabled", havingValue = "true")
+public class ReadReplicaConfig {
+
+  /** Same settings as the auto-configured pool: {@code spring.datasource.*} and its hikari. */
+  @Bean
+  @ConfigurationProperties("spring.datasource.hikari")
+  public DataSource primaryDataSource(DataSourceProperties properties) {
+    HikariDataSource dataSource =
+        properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    dataSource.setPoolName("primary");
+    return dataSource;
+  }
+
+  @Bean
+  @ConfigurationProperties("app.datasource.replica.hikari")
+  public DataSource replicaDataSource(
+      @Value("${app.datasource.replica.url}") String url,
+      @Value("${app.datasource.replica.username:${spring.datasource.username:}}") String username,
+      @Value("${app.datasource.replica.password:${spring.datasource.password:}}") String password) {
+    HikariDataSource dataSource = new HikariDataSource();
+    dataSource.setJdbcUrl(url);
+    dataSource.setUsername(username);
+    dataSource.setPassword(password);
+    dataSource.setPoolName("replica");
+    // Drivers that enforce it reject writes that slip through to the replica.
+    dataSource.setReadOnly(true);
+    return dataSource;
+  }
+
+  @Bean(initMethod = "start")
+  public ReplicaLagMonitor replicaLagMonitor(
+      @Qualifier("primaryDataSource") DataSource primary,
+      @Qualifier("replicaDataSource") DataSource replica,
+      ObjectProvider<MeterRegistry> meterRegistry,
+      @Value("${app.datasource.replica.heartbeat:1s}") Duration heartbeat,
+      @Value("${app.datasource.replica.max-lag:5s}") Duration maxLag) {
+    ReplicaLagMonitor monitor =
+        new ReplicaLagMonitor(primary, replica, heartbeat, maxLag, Clock.systemDefaultZone());
+    Gauge.builder("app.datasource.replica.lag", monitor, ReplicaLagMonitor::getLagMillis)
+        .description("Milliseconds the replica is behind the primary; Long.MAX_VALUE if unknown")
+        .baseUnit("milliseconds")
+        .register(meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
+    return monitor;
+  }
+
+  /** Lazy, so the connection is fetched after the transaction's read-only flag is set. */
+  @Bean
+  @Primary
+  public DataSource dataSource(
+      @Qualifier("primaryDataSource") DataSource primary,
+      @Qualifier("replicaDataSource") DataSource replica,
+      ReplicaLagMonitor replicaLagMonitor) {
+    return new LazyConnectionDataSourceProxy(
+        new ReadWriteRoutingDataSource(primary, replica, replicaLagMonitor));
+  }
+}
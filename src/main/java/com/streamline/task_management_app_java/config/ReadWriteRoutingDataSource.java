@@ -0,0 +1,61 @@
+package com.streamline.task_management_app_java.config;
+
+import java.util.Map;
+import java.util.function.Supplier;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Sends connections of {@code @Transactional(readOnly = true)} work to the replica while {@link
+ * ReplicaLagMonitor} considers it usable, everything else to the primary. The transaction flags are
+ * only known once the transaction has begun, so this must sit behind a {@code
+ * LazyConnectionDataSourceProxy} that defers fetching the connection to the first statement.
+ * Reads that must see every commit so far run inside {@link #readFromPrimary}.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+  public enum Route {
+    PRIMARY,
+    REPLICA
+  }
+
+  private static final ThreadLocal<Boolean> PRIMARY_ONLY = new ThreadLocal<>();
+
+  private final ReplicaLagMonitor lagMonitor;
+
+  public ReadWriteRoutingDataSource(
+      DataSource primary, DataSource replica, ReplicaLagMonitor lagMonitor) {
+    this.lagMonitor = lagMonitor;
+    setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+    setDefaultTargetDataSource(primary);
+    afterPropertiesSet();
+  }
+
+  /**
+   * Sends the read-only work of {@code work} to the primary, for reads that move a watermark or
+   * fill a cache, which a replica up to {@code max-lag} behind would get wrong. The connection is
+   * chosen at a transaction's first statement, so this also covers the transaction {@code work}
+   * is called in if that has not run one yet. Without a replica it changes nothing.
+   */
+  public static <T> T readFromPrimary(Supplier<T> work) {
+    boolean outermost = PRIMARY_ONLY.get() == null;
+    PRIMARY_ONLY.set(Boolean.TRUE);
+    try {
+      return work.get();
+    } finally {
+      if (outermost) {
+        PRIMARY_ONLY.remove();
+      }
+    }
+  }
+
+  @Override
+  protected Route determineCurrentLookupKey() {
+    return PRIMARY_ONLY.get() == null
+            && TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+            && lagMonitor.isReplicaUsable()
+        ? Route.REPLICA
+        : Route.PRIMARY;
+  }
+}
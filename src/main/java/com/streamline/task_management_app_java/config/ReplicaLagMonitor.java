@@ -0,0 +1,128 @@
+package com.streamline.task_management_app_java.config;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Measures how far the replica is behind the primary. Every {@code heartbeat} a timestamp is
+ * written to the {@code replication_heartbeat} row on the primary and the replica's copy of that
+ * row is read right after; the lag is the difference between the two. The replica counts as usable
+ * only while the last successful check is recent and its lag is within {@code maxLag}, so reads
+ * fall back to the primary when replication stalls or the replica is unreachable.
+ */
+@Slf4j
+public class ReplicaLagMonitor implements AutoCloseable {
+
+  static final String CREATE_TABLE = "create table if not exists replication_heartbeat "
+      + "(id int not null primary key, beat_at timestamp(6) not null)";
+
+  private final DataSource primary;
+  private final DataSource replica;
+  private final Duration heartbeat;
+  private final Duration maxLag;
+  private final Clock clock;
+
+  private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+      Thread.ofPlatform().name("replica-lag-monitor").daemon().factory());
+
+  // Unknown until the first successful check, which keeps reads on the primary until then.
+  private volatile long lagMillis = Long.MAX_VALUE;
+  private volatile long checkedAtMillis = Long.MIN_VALUE;
+  // Only touched by the monitor thread.
+  private boolean tableCreated;
+  private boolean usable;
+
+  public ReplicaLagMonitor(
+      DataSource primary, DataSource replica, Duration heartbeat, Duration maxLag, Clock clock) {
+    this.primary = primary;
+    this.replica = replica;
+    this.heartbeat = heartbeat;
+    this.maxLag = maxLag;
+    this.clock = clock;
+  }
+
+  public void start() {
+    long millis = heartbeat.toMillis();
+    scheduler.scheduleWithFixedDelay(this::safeCheck, 0, millis, TimeUnit.MILLISECONDS);
+  }
+
+  @Override
+  public void close() {
+    scheduler.shutdownNow();
+  }
+
+  /** A replica that has not been checked for three heartbeats is treated as unreachable. */
+  public boolean isReplicaUsable() {
+    long age = clock.millis() - checkedAtMillis;
+    return age <= 3 * heartbeat.toMillis() && lagMillis <= maxLag.toMillis();
+  }
+
+  /** Milliseconds behind the primary at the last check, or {@code Long.MAX_VALUE} if unknown. */
+  public long getLagMillis() {
+    return lagMillis;
+  }
+
+  /** Writes one heartbeat and reads it back from the replica. */
+  void check() throws SQLException {
+    LocalDateTime written = LocalDateTime.now(clock);
+    try (Connection connection = primary.getConnection()) {
+      if (!tableCreated) {
+        try (Statement create = connection.createStatement()) {
+          create.execute(CREATE_TABLE);
+        }
+        tableCreated = true;
+      }
+      writeHeartbeat(connection, written);
+    }
+    try (Connection connection = replica.getConnection();
+        PreparedStatement select = connection.prepareStatement(
+            "select beat_at from replication_heartbeat where id = 1");
+        ResultSet row = select.executeQuery()) {
+      lagMillis = row.next()
+          ? Math.max(0, Duration.between(row.getTimestamp(1).toLocalDateTime(), written).toMillis())
+          : Long.MAX_VALUE;
+    }
+    checkedAtMillis = clock.millis();
+  }
+
+  private static void writeHeartbeat(Connection connection, LocalDateTime written)
+      throws SQLException {
+    try (PreparedStatement merge = connection.prepareStatement(
+        "merge into replication_heartbeat key (id) values (1, ?)")) {
+      merge.setTimestamp(1, Timestamp.valueOf(written));
+      merge.executeUpdate();
+    }
+  }
+
+  private void safeCheck() {
+    try {
+      check();
+    } catch (SQLException | RuntimeException e) {
+      lagMillis = Long.MAX_VALUE;
+      log.debug("Replica lag check failed", e);
+    }
+    boolean nowUsable = isReplicaUsable();
+    if (nowUsable != usable) {
+      usable = nowUsable;
+      if (nowUsable) {
+        log.info("Replica caught up ({} ms behind), routing read-only transactions to it",
+            lagMillis);
+      } else {
+        log.warn("Replica lag is {}, routing read-only transactions to the primary",
+            lagMillis == Long.MAX_VALUE ? "unknown" : lagMillis + " ms");
+      }
+    }
+  }
+}
@@ -1,12 +1,23 @@
 package com.streamline.task_management_app_java.config;
 
+import com.streamline.task_management_app_java.ratelimit.RateLimitInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.JacksonCborHttpMessageConverter;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import tools.jackson.databind.cfg.DateTimeFeature;
+import tools.jackson.databind.cfg.EnumFeature;
+import tools.jackson.dataformat.cbor.CBORMapper;
 
+@RequiredArgsConstructor
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
 
+    private final RateLimitInterceptor rateLimitInterceptor;
+
     @Override
     public void addCorsMappings(CorsRegistry registry) {
         registry.addMapping("/**")
@@ -14,4 +25,22 @@ public class WebConfig implements WebMvcConfigurer {
                 .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS")
                 .allowCredentials(true);
     }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(rateLimitInterceptor).addPathPatterns("/v1/**");
+    }
+
+    /**
+     * Binary alternative to JSON for clients sending {@code Accept: application/cbor}. Enums are
+     * written as ordinals and dates as numeric arrays, so clients must share the enum order.
+     */
+    @Bean
+    public JacksonCborHttpMessageConverter cborHttpMessageConverter() {
+        CBORMapper cborMapper = CBORMapper.builder()
+                .enable(EnumFeature.WRITE_ENUMS_USING_INDEX)
+                .enable(DateTimeFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        return new JacksonCborHttpMessageConverter(cborMapper);
+    }
 }
@@ -0,0 +1,39 @@
+package com.streamline.task_management_app_java.controller;
+
+import com.streamline.task_management_app_java.controller.dto.ActivityLogResponse;
+import com.streamline.task_management_app_java.controller.dto.ApiResponse;
+import com.streamline.task_management_app_java.controller.dto.CursorPage;
+import com.streamline.task_management_app_java.service.ActivityLogService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/** Newest first. Entries are written behind the change, so the latest may take a moment to show. */
+@RequiredArgsConstructor
+@RestController
+public class ActivityLogController {
+
+  private final ActivityLogService activityLogService;
+
+  @GetMapping("/v1/task/{id}/activity")
+  public ResponseEntity<ApiResponse<CursorPage<ActivityLogResponse>>> getTaskActivity(
+      @PathVariable Long id,
+      @RequestParam(name = "cursor", required = false) Long cursor,
+      @RequestParam(name = "size", defaultValue = "50") int size) {
+    return ResponseEntity.ok(
+        ApiResponse.success(activityLogService.getTaskActivity(id, cursor, size)));
+  }
+
+  /** Includes the activity of the project's tasks. */
+  @GetMapping("/v1/project/{id}/activity")
+  public ResponseEntity<ApiResponse<CursorPage<ActivityLogResponse>>> getProjectActivity(
+      @PathVariable Long id,
+      @RequestParam(name = "cursor", required = false) Long cursor,
+      @RequestParam(name = "size", defaultValue = "50") int size) {
+    return ResponseEntity.ok(
+        ApiResponse.success(activityLogService.getProjectActivity(id, cursor, size)));
+  }
+}
@@ -0,0 +1,25 @@
+package com.streamline.task_management_app_java.controller;
+
+import com.streamline.task_management_app_java.controller.dto.ApiResponse;
+import com.streamline.task_management_app_java.controller.dto.InvalidCursorException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+@RestControllerAdvice
+public class ApiExceptionHandler {
+
+  /** A stale {@code If-Match}, or a concurrent writer caught by the version column. */
+  @ExceptionHandler(OptimisticLockingFailureException.class)
+  public ResponseEntity<ApiResponse<Void>> handleOptimisticLockingFailure(
+      OptimisticLockingFailureException e) {
+    return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(ApiResponse.error(e.getMessage()));
+  }
+
+  @ExceptionHandler(InvalidCursorException.class)
+  public ResponseEntity<ApiResponse<Void>> handleInvalidCursor(InvalidCursorException e) {
+    return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ApiResponse.error(e.getMessage()));
+  }
+}
@@ -0,0 +1,22 @@
+package com.streamline.task_management_app_java.controller;
+
+import com.streamline.task_management_app_java.controller.dto.ApiResponse;
+import com.streamline.task_management_app_java.controller.dto.CacheStatsResponse;
+import com.streamline.task_management_app_java.service.CacheStatsService;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RequiredArgsConstructor
+@RestController
+public class CacheController {
+
+  private final CacheStatsService cacheStatsService;
+
+  @GetMapping("/v1/cache/stats")
+  public ResponseEntity<ApiResponse<List<CacheStatsResponse>>> getCacheStats() {
+    return ResponseEntity.ok(ApiResponse.success(cacheStatsService.getStats()));
+  }
+}
@@ -0,0 +1,28 @@
+package com.streamline.task_management_app_java.controller;
+
+import com.streamline.task_management_app_java.service.ChangeFeedService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RequiredArgsConstructor
+@RestController
+public class ChangeFeedController {
+
+  private final ChangeFeedService changeFeedService;
+
+  /**
+   * EventSource sends {@code Last-Event-ID} by itself when it reconnects; {@code since} is for the
+   * first connection of a client that already has a position.
+   */
+  @GetMapping(value = "/v1/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  public SseEmitter streamChanges(
+      @RequestHeader(name = "Last-Event-ID", required = false) Long lastEventId,
+      @RequestParam(name = "since", required = false) Long since) {
+    return changeFeedService.subscribe(lastEventId != null ? lastEventId : since);
+  }
+}
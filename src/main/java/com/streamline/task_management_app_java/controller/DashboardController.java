@@ -0,0 +1,58 @@
+package com.streamline.task_management_app_java.controller;
+
+import com.streamline.task_management_app_java.controller.dto.ApiResponse;
+import com.streamline.task_management_app_java.controller.dto.CursorPage;
+import com.streamline.task_management_app_java.controller.dto.ProjectDashboardResponse;
+import com.streamline.task_management_app_java.ratelimit.RateLimited;
+import com.streamline.task_management_app_java.ratelimit.RateLimited.Budget;
+import com.streamline.task_management_app_java.service.DashboardService;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.ObjectMapper;
+
+@RateLimited(Budget.LIST)
+@RequiredArgsConstructor
+@RestController
+public class DashboardController {
+
+  private final DashboardService dashboardService;
+  private final ObjectMapper objectMapper;
+
+  /** Replaces listing projects and then fetching their tasks one by one. */
+  @GetMapping("/v1/dashboard")
+  public ResponseEntity<ApiResponse<CursorPage<ProjectDashboardResponse>>> getDashboard(
+      @RequestParam(name = "filter", defaultValue = "all") String filter,
+      @RequestParam(name = "cursor", required = false) Long cursor,
+      @RequestParam(name = "size", defaultValue = "20") int size,
+      @RequestParam(name = "tasksPerProject", defaultValue = "5") int tasksPerProject) {
+    return ResponseEntity.ok(ApiResponse.success(
+        dashboardService.getDashboard(filter, cursor, size, tasksPerProject)));
+  }
+
+  /** Every matching project as one NDJSON line, for exports and very large accounts. */
+  @GetMapping(value = "/v1/dashboard/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+  public ResponseEntity<StreamingResponseBody> streamDashboard(
+      @RequestParam(name = "filter", defaultValue = "all") String filter,
+      @RequestParam(name = "tasksPerProject", defaultValue = "5") int tasksPerProject) {
+    StreamingResponseBody body = out -> dashboardService.streamDashboard(
+        filter, tasksPerProject, project -> writeLine(out, project));
+    return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+  }
+
+  private void writeLine(OutputStream out, Object value) {
+    try {
+      out.write(objectMapper.writeValueAsBytes(value));
+      out.write('\n');
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
@@ -0,0 +1,85 @@
+package com.streamline.task_management_app_java.controller;
+
+import com.streamline.task_management_app_java.controller.dto.ApiResponse;
+import com.streamline.task_management_app_java.controller.dto.ImportJobResponse;
+import com.streamline.task_management_app_java.domain.EntityType;
+import com.streamline.task_management_app_java.domain.TransferFormat;
+import com.streamline.task_management_app_java.service.DataTransferService;
+import java.io.InputStream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * Bulk export and import. An import is created first and then fed the file; if the upload breaks
+ * off, post the same file to the same import again to continue after the last committed batch.
+ */
+@RequiredArgsConstructor
+@RestController
+public class DataTransferController {
+
+  private final DataTransferService dataTransferService;
+
+  @GetMapping("/v1/export/projects")
+  public ResponseEntity<StreamingResponseBody> exportProjects(
+      @RequestParam(name = "format", defaultValue = "ndjson") String format) {
+    TransferFormat transferFormat = TransferFormat.from(format);
+    return download("projects", transferFormat,
+        out -> dataTransferService.exportProjects(transferFormat, out));
+  }
+
+  /** Without {@code projectId} the tasks of all projects are exported. */
+  @GetMapping("/v1/export/tasks")
+  public ResponseEntity<StreamingResponseBody> exportTasks(
+      @RequestParam(name = "format", defaultValue = "ndjson") String format,
+      @RequestParam(name = "projectId", required = false) Long projectId) {
+    TransferFormat transferFormat = TransferFormat.from(format);
+    return download("tasks", transferFormat,
+        out -> dataTransferService.exportTasks(transferFormat, projectId, out));
+  }
+
+  /**
+   * To import the projects and tasks of one export, import the projects first and pass that
+   * import's id as {@code projectImport}, so the tasks are linked to the new projects.
+   */
+  @PostMapping("/v1/import")
+  public ResponseEntity<ApiResponse<ImportJobResponse>> createImport(
+      @RequestParam(name = "type") EntityType type,
+      @RequestParam(name = "format", defaultValue = "ndjson") String format,
+      @RequestParam(name = "projectImport", required = false) Long projectImport) {
+    ImportJobResponse response =
+        dataTransferService.createImport(type, TransferFormat.from(format), projectImport);
+    return new ResponseEntity<>(ApiResponse.success(response), HttpStatusCode.valueOf(201));
+  }
+
+  /** The body is read as a stream in the import's format, whatever its content type says. */
+  @PostMapping("/v1/import/{id}")
+  public ResponseEntity<ApiResponse<ImportJobResponse>> runImport(
+      @PathVariable("id") Long id, InputStream body) {
+    return ResponseEntity.ok(ApiResponse.success(dataTransferService.runImport(id, body)));
+  }
+
+  @GetMapping("/v1/import/{id}")
+  public ResponseEntity<ApiResponse<ImportJobResponse>> getImport(@PathVariable("id") Long id) {
+    return ResponseEntity.ok(ApiResponse.success(dataTransferService.getImport(id)));
+  }
+
+  private ResponseEntity<StreamingResponseBody> download(
+      String name, TransferFormat format, StreamingResponseBody body) {
+    String filename = name + "." + format.name().toLowerCase();
+    return ResponseEntity.ok()
+        .contentType(MediaType.parseMediaType(format.contentType()))
+        .header(HttpHeaders.CONTENT_DISPOSITION,
+            ContentDisposition.attachment().filename(filename).build().toString())
+        .body(body);
+  }
+}
@@ -0,0 +1,33 @@
+package com.streamline.task_management_app_java.controller;
+
+/** Strong entity tags derived from the entity version, e.g. {@code "3"}. */
+final class ETags {
+
+  // Never equal to a real version, so a tag we can't read fails the precondition.
+  private static final long NO_MATCH = -1L;
+
+  private ETags() {}
+
+  static String of(Long version) {
+    return "\"" + version + "\"";
+  }
+
+  /**
+   * Returns the version a client expects from its {@code If-Match} header, or null when the header
+   * is absent or {@code *}. Weak tags never match, as If-Match requires strong comparison.
+   */
+  static Long parseIfMatch(String ifMatch) {
+    if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+      return null;
+    }
+    String tag = ifMatch.trim();
+    if (!tag.startsWith("\"") || !tag.endsWith("\"") || tag.length() < 3) {
+      return NO_MATCH;
+    }
+    try {
+      return Long.valueOf(tag.substring(1, tag.length() - 1));
+    } catch (NumberFormatException e) {
+      return NO_MATCH;
+    }
+  }
+}
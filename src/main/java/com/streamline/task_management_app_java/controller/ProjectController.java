@@ -1,14 +1,25 @@
 package com.streamline.task_management_app_java.controller;
 
 import com.streamline.task_management_app_java.controller.dto.ApiResponse;
+import com.streamline.task_management_app_java.controller.dto.CursorPage;
 import com.streamline.task_management_app_java.controller.dto.ProjectCreateRequest;
+import com.streamline.task_management_app_java.controller.dto.ProjectDeletionResponse;
 import com.streamline.task_management_app_java.controller.dto.ProjectResponse;
+import com.streamline.task_management_app_java.controller.dto.ProjectSummaryResponse;
 import com.streamline.task_management_app_java.controller.dto.ProjectUpdateRequest;
+import com.streamline.task_management_app_java.ratelimit.RateLimited;
+import com.streamline.task_management_app_java.ratelimit.RateLimited.Budget;
+import com.streamline.task_management_app_java.service.ProjectDeletionService;
 import com.streamline.task_management_app_java.service.ProjectService;
+import com.streamline.task_management_app_java.service.ProjectStatisticsService;
 import jakarta.validation.Valid;
-import java.util.List;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -16,24 +27,51 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.ObjectMapper;
 
+@RateLimited
 @RequiredArgsConstructor
 @RestController
 public class ProjectController {
 
   private final ProjectService projectService;
+  private final ProjectDeletionService projectDeletionService;
+  private final ProjectStatisticsService projectStatisticsService;
+  private final ObjectMapper objectMapper;
 
   @GetMapping("/v1/project/{id}")
   public ResponseEntity<ApiResponse<ProjectResponse>> getProject(@PathVariable("id") Long id) {
-    return ResponseEntity.ok(ApiResponse.success(projectService.getProject(id)));
+    ProjectResponse response = projectService.getProject(id);
+    // With an ETag set, a matching If-None-Match is answered with 304 before the body is written.
+    return ResponseEntity.ok().eTag(ETags.of(response.version())).body(ApiResponse.success(response));
   }
 
+  @RateLimited(Budget.LIST)
   @GetMapping("/v1/project")
-  public ResponseEntity<ApiResponse<List<ProjectResponse>>> getProjects(
+  public ResponseEntity<ApiResponse<CursorPage<ProjectResponse>>> getProjects(
+      @RequestParam(name = "filter", defaultValue = "all") String filter,
+      @RequestParam(name = "cursor", required = false) Long cursor,
+      @RequestParam(name = "size", defaultValue = "20") int size) {
+    return ResponseEntity.ok(ApiResponse.success(projectService.getProjects(filter, cursor, size)));
+  }
+
+  @RateLimited(Budget.LIST)
+  @GetMapping(value = "/v1/project/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+  public ResponseEntity<StreamingResponseBody> streamProjects(
       @RequestParam(name = "filter", defaultValue = "all") String filter) {
-    return ResponseEntity.ok(ApiResponse.success(projectService.getProjects(filter)));
+    StreamingResponseBody body =
+        out -> projectService.streamProjects(filter, project -> writeLine(out, project));
+    return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+  }
+
+  @GetMapping("/v1/project/{id}/summary")
+  public ResponseEntity<ApiResponse<ProjectSummaryResponse>> getProjectSummary(
+      @PathVariable("id") Long id) {
+    return ResponseEntity.ok(ApiResponse.success(projectStatisticsService.getSummary(id)));
   }
 
   @PostMapping("/v1/project")
@@ -44,15 +82,40 @@ public class ProjectController {
   }
 
   @DeleteMapping("/v1/project/{id}")
-  public ResponseEntity<ApiResponse<Void>> deleteProject(@PathVariable("id") Long id) {
-    projectService.deleteProject(id);
-    return ResponseEntity.ok(ApiResponse.success(null));
+  public ResponseEntity<ApiResponse<ProjectDeletionResponse>> deleteProject(
+      @PathVariable("id") Long id,
+      @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+      @RequestParam(name = "background", defaultValue = "false") boolean background) {
+    Long expectedVersion = ETags.parseIfMatch(ifMatch);
+    if (background) {
+      return ResponseEntity.accepted()
+          .body(ApiResponse.success(projectDeletionService.startDeletion(id, expectedVersion)));
+    }
+    return ResponseEntity.ok(ApiResponse.success(projectService.deleteProject(id, expectedVersion)));
+  }
+
+  @GetMapping("/v1/project/{id}/deletion")
+  public ResponseEntity<ApiResponse<ProjectDeletionResponse>> getProjectDeletion(
+      @PathVariable("id") Long id) {
+    return ResponseEntity.ok(ApiResponse.success(projectDeletionService.getDeletion(id)));
   }
 
   @PutMapping("/v1/project/{id}")
   public ResponseEntity<ApiResponse<ProjectResponse>> updateProject(
-      @PathVariable("id") Long id, @Valid @RequestBody ProjectUpdateRequest request) {
-    ProjectResponse response = projectService.updateProject(id, request);
-    return ResponseEntity.ok(ApiResponse.success(response));
+      @PathVariable("id") Long id,
+      @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+      @Valid @RequestBody ProjectUpdateRequest request) {
+    ProjectResponse response =
+        projectService.updateProject(id, request, ETags.parseIfMatch(ifMatch));
+    return ResponseEntity.ok().eTag(ETags.of(response.version())).body(ApiResponse.success(response));
+  }
+
+  private void writeLine(OutputStream out, Object value) {
+    try {
+      out.write(objectMapper.writeValueAsBytes(value));
+      out.write('\n');
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
   }
 }
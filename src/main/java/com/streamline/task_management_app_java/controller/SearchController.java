@@ -0,0 +1,34 @@
+package com.streamline.task_management_app_java.controller;
+
+import com.streamline.task_management_app_java.controller.dto.ApiResponse;
+import com.streamline.task_management_app_java.controller.dto.SearchIndexStatsResponse;
+import com.streamline.task_management_app_java.controller.dto.SearchResultResponse;
+import com.streamline.task_management_app_java.domain.EntityType;
+import com.streamline.task_management_app_java.service.SearchIndexService;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RequiredArgsConstructor
+@RestController
+public class SearchController {
+
+  private final SearchIndexService searchIndexService;
+
+  /** Typeahead search; the last word may be partial. Without {@code type} both are searched. */
+  @GetMapping("/v1/search")
+  public ResponseEntity<ApiResponse<List<SearchResultResponse>>> search(
+      @RequestParam(name = "q") String query,
+      @RequestParam(name = "type", required = false) EntityType type,
+      @RequestParam(name = "limit", defaultValue = "20") int limit) {
+    return ResponseEntity.ok(ApiResponse.success(searchIndexService.search(query, type, limit)));
+  }
+
+  @GetMapping("/v1/search/stats")
+  public ResponseEntity<ApiResponse<List<SearchIndexStatsResponse>>> getStats() {
+    return ResponseEntity.ok(ApiResponse.success(searchIndexService.getStats()));
+  }
+}
@@ -0,0 +1,25 @@
+package com.streamline.task_management_app_java.controller;
+
+import com.streamline.task_management_app_java.controller.dto.ApiResponse;
+import com.streamline.task_management_app_java.controller.dto.SyncResponse;
+import com.streamline.task_management_app_java.service.SyncService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RequiredArgsConstructor
+@RestController
+public class SyncController {
+
+  private final SyncService syncService;
+
+  /** Without {@code since} the first call returns everything, page by page. */
+  @GetMapping("/v1/sync")
+  public ResponseEntity<ApiResponse<SyncResponse>> sync(
+      @RequestParam(name = "since", required = false) String since,
+      @RequestParam(name = "size", defaultValue = "200") int size) {
+    return ResponseEntity.ok(ApiResponse.success(syncService.getChanges(since, size)));
+  }
+}
@@ -1,18 +1,25 @@
 package com.streamline.task_management_app_java.controller;
 
 import com.streamline.task_management_app_java.controller.dto.*;
+import com.streamline.task_management_app_java.ratelimit.RateLimited;
+import com.streamline.task_management_app_java.ratelimit.RateLimited.Budget;
 import com.streamline.task_management_app_java.service.TaskService;
 import jakarta.validation.Valid;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RestController;
 
+@RateLimited
 @RequiredArgsConstructor
 @RestController
 public class TaskController {
@@ -27,22 +34,50 @@ public class TaskController {
     return ResponseEntity.ok(ApiResponse.success(response));
   }
 
+  @PostMapping("/v1/task/bulk")
+  public ResponseEntity<ApiResponse<List<TaskBulkCreateResult>>> createTasks(
+      @Valid @RequestBody TaskBulkCreateRequest request) {
+    List<TaskBulkCreateResult> results = taskService.createTasks(request.tasks());
+    return ResponseEntity.ok(ApiResponse.success(results));
+  }
+
   @GetMapping("/v1/task/{id}")
   public ResponseEntity<ApiResponse<TaskResponse>> getTask(@PathVariable("id") Long id) {
     TaskResponse taskResponse = taskService.getTask(id);
-    return ResponseEntity.ok(ApiResponse.success(taskResponse));
+    // With an ETag set, a matching If-None-Match is answered with 304 before the body is written.
+    return ResponseEntity.ok()
+        .eTag(ETags.of(taskResponse.version()))
+        .body(ApiResponse.success(taskResponse));
+  }
+
+  @RateLimited(Budget.LIST)
+  @GetMapping("/v1/project/{projectId}/tasks")
+  public ResponseEntity<ApiResponse<CursorPage<TaskResponse>>> getTasks(
+      @PathVariable("projectId") Long projectId, @ModelAttribute TaskSearchCondition condition) {
+    return ResponseEntity.ok(ApiResponse.success(taskService.getTasks(projectId, condition)));
+  }
+
+  @PostMapping("/v1/project/{projectId}/tasks/status-transition")
+  public ResponseEntity<ApiResponse<TaskStatusTransitionResponse>> transitionStatus(
+      @PathVariable("projectId") Long projectId,
+      @Valid @RequestBody TaskStatusTransitionRequest request) {
+    return ResponseEntity.ok(ApiResponse.success(taskService.transitionStatus(projectId, request)));
   }
 
   @DeleteMapping("/v1/task/{id}")
-  public ResponseEntity<ApiResponse<Void>> deleteTask(@PathVariable("id") Long id) {
-    taskService.deleteTask(id);
+  public ResponseEntity<ApiResponse<Void>> deleteTask(
+      @PathVariable("id") Long id,
+      @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+    taskService.deleteTask(id, ETags.parseIfMatch(ifMatch));
     return ResponseEntity.ok(ApiResponse.success(null));
   }
 
   @PutMapping("/v1/task/{id}")
   public ResponseEntity<ApiResponse<TaskResponse>> updateTask(
-      @PathVariable("id") Long id, @Valid @RequestBody TaskUpdateRequest request) {
-    TaskResponse response = taskService.updateTask(id, request);
-    return ResponseEntity.ok(ApiResponse.success(response));
+      @PathVariable("id") Long id,
+      @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+      @Valid @RequestBody TaskUpdateRequest request) {
+    TaskResponse response = taskService.updateTask(id, request, ETags.parseIfMatch(ifMatch));
+    return ResponseEntity.ok().eTag(ETags.of(response.version())).body(ApiResponse.success(response));
   }
 }
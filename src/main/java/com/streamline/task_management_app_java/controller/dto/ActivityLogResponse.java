@@ -0,0 +1,29 @@
+package com.streamline.task_management_app_java.controller.dto;
+
+import com.streamline.task_management_app_java.domain.ActivityLog;
+import com.streamline.task_management_app_java.domain.ActivityType;
+import com.streamline.task_management_app_java.domain.EntityType;
+import java.time.LocalDateTime;
+
+public record ActivityLogResponse(
+    Long id,
+    EntityType entityType,
+    Long entityId,
+    Long projectId,
+    ActivityType type,
+    String actor,
+    String details,
+    LocalDateTime occurredAt) {
+
+  public static ActivityLogResponse of(ActivityLog activityLog) {
+    return new ActivityLogResponse(
+        activityLog.getId(),
+        activityLog.getEntityType(),
+        activityLog.getEntityId(),
+        activityLog.getProjectId(),
+        activityLog.getType(),
+        activityLog.getActor(),
+        activityLog.getDetails(),
+        activityLog.getOccurredAt());
+  }
+}
@@ -0,0 +1,24 @@
+package com.streamline.task_management_app_java.controller.dto;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+public record CacheStatsResponse(
+    String name,
+    long size,
+    long hitCount,
+    long missCount,
+    double hitRate,
+    long evictionCount) {
+
+  public static CacheStatsResponse of(String name, Cache<?, ?> cache) {
+    CacheStats stats = cache.stats();
+    return new CacheStatsResponse(
+        name,
+        cache.estimatedSize(),
+        stats.hitCount(),
+        stats.missCount(),
+        stats.hitRate(),
+        stats.evictionCount());
+  }
+}
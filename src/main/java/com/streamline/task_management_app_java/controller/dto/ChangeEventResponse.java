@@ -0,0 +1,18 @@
+package com.streamline.task_management_app_java.controller.dto;
+
+import com.streamline.task_management_app_java.domain.EntityType;
+import com.streamline.task_management_app_java.service.event.ChangeType;
+import java.time.LocalDateTime;
+
+/**
+ * One entry of the change feed. Ids increase, so a client resumes with the last id it saw; gaps are
+ * expected, since ids are shared by all tenants and a client only sees its own tenant's events.
+ * {@code entityId} is null when a bulk statement changed many tasks of {@code projectId}.
+ */
+public record ChangeEventResponse(
+    long id,
+    EntityType entity,
+    ChangeType type,
+    Long entityId,
+    Long projectId,
+    LocalDateTime occurredAt) {}
@@ -0,0 +1,19 @@
+package com.streamline.task_management_app_java.controller.dto;
+
+import java.util.List;
+import java.util.function.Function;
+
+/** One keyset page; pass {@code nextCursor} back as {@code cursor} to read the following page. */
+public record CursorPage<T>(List<T> items, String nextCursor, boolean hasNext) {
+
+  /**
+   * @param fetched rows read with a limit of {@code size + 1}, the extra row only signals that
+   *     another page exists
+   */
+  public static <T> CursorPage<T> of(List<T> fetched, int size, Function<T, String> cursorOf) {
+    boolean hasNext = fetched.size() > size;
+    List<T> items = hasNext ? fetched.subList(0, size) : fetched;
+    String nextCursor = hasNext ? cursorOf.apply(items.getLast()) : null;
+    return new CursorPage<>(List.copyOf(items), nextCursor, hasNext);
+  }
+}
@@ -0,0 +1,34 @@
+package com.streamline.task_management_app_java.controller.dto;
+
+import com.streamline.task_management_app_java.domain.EntityType;
+import com.streamline.task_management_app_java.domain.ImportJob;
+import com.streamline.task_management_app_java.domain.ImportJob.State;
+import com.streamline.task_management_app_java.domain.TransferFormat;
+import java.time.LocalDateTime;
+
+public record ImportJobResponse(
+    Long id,
+    EntityType entityType,
+    TransferFormat format,
+    State state,
+    long processedRows,
+    long rejectedRows,
+    String lastError,
+    Long projectImportId,
+    LocalDateTime createdAt,
+    LocalDateTime updatedAt) {
+
+  public static ImportJobResponse of(ImportJob job) {
+    return new ImportJobResponse(
+        job.getId(),
+        job.getEntityType(),
+        job.getFormat(),
+        job.getState(),
+        job.getProcessedRows(),
+        job.getRejectedRows(),
+        job.getLastError(),
+        job.getProjectImportId(),
+        job.getCreatedAt(),
+        job.getUpdatedAt());
+  }
+}
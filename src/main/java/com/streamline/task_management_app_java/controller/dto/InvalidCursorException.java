@@ -0,0 +1,9 @@
+package com.streamline.task_management_app_java.controller.dto;
+
+/** A cursor or watermark the client sent back that this server did not hand out; answered 400. */
+public class InvalidCursorException extends IllegalArgumentException {
+
+  public InvalidCursorException(String message, Throwable cause) {
+    super(message, cause);
+  }
+}
@@ -0,0 +1,22 @@
+package com.streamline.task_management_app_java.controller.dto;
+
+import com.streamline.task_management_app_java.domain.Project;
+import com.streamline.task_management_app_java.domain.ProjectStatus;
+import java.util.List;
+
+/** A project with its open tasks due first; {@code openTasks} counts all of them. */
+public record ProjectDashboardResponse(
+    Long id,
+    String name,
+    ProjectStatus status,
+    Long version,
+    long openTasks,
+    List<TaskSummaryResponse> tasks) {
+
+  public static ProjectDashboardResponse of(
+      Project project, long openTasks, List<TaskSummaryResponse> tasks) {
+    return new ProjectDashboardResponse(
+        project.getId(), project.getName(), project.getStatus(), project.getVersion(), openTasks,
+        tasks);
+  }
+}
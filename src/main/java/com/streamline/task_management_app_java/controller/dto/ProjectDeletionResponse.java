@@ -0,0 +1,33 @@
+package com.streamline.task_management_app_java.controller.dto;
+
+public record ProjectDeletionResponse(
+    Long projectId, State state, long totalTasks, long deletedTasks) {
+
+  public enum State {
+    RUNNING,
+    COMPLETED,
+    FAILED
+  }
+
+  public static ProjectDeletionResponse running(Long projectId, long totalTasks) {
+    return new ProjectDeletionResponse(projectId, State.RUNNING, totalTasks, 0);
+  }
+
+  public static ProjectDeletionResponse completed(Long projectId, long deletedTasks) {
+    return new ProjectDeletionResponse(projectId, State.COMPLETED, deletedTasks, deletedTasks);
+  }
+
+  public ProjectDeletionResponse plusDeleted(long count) {
+    return new ProjectDeletionResponse(projectId, state, totalTasks, deletedTasks + count);
+  }
+
+  public ProjectDeletionResponse complete(long count) {
+    long deleted = deletedTasks + count;
+    return new ProjectDeletionResponse(
+        projectId, State.COMPLETED, Math.max(totalTasks, deleted), deleted);
+  }
+
+  public ProjectDeletionResponse fail() {
+    return new ProjectDeletionResponse(projectId, State.FAILED, totalTasks, deletedTasks);
+  }
+}
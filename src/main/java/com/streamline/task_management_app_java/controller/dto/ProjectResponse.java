@@ -5,10 +5,15 @@ import com.streamline.task_management_app_java.domain.ProjectStatus;
 import java.time.LocalDateTime;
 
 /** DTO for {@link Project} */
-public record ProjectResponse(LocalDateTime createdAt, Long id, String name, ProjectStatus status) {
+public record ProjectResponse(
+    LocalDateTime createdAt, Long id, String name, ProjectStatus status, Long version) {
 
   public static ProjectResponse of(Project project) {
     return new ProjectResponse(
-        project.getCreatedAt(), project.getId(), project.getName(), project.getStatus());
+        project.getCreatedAt(),
+        project.getId(),
+        project.getName(),
+        project.getStatus(),
+        project.getVersion());
   }
 }
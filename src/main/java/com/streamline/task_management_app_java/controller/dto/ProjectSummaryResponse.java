@@ -0,0 +1,12 @@
+package com.streamline.task_management_app_java.controller.dto;
+
+import com.streamline.task_management_app_java.domain.Priority;
+import com.streamline.task_management_app_java.domain.Status;
+import java.util.Map;
+
+public record ProjectSummaryResponse(
+    Long projectId,
+    long totalTasks,
+    Map<Status, Long> byStatus,
+    Map<Priority, Long> byPriority,
+    long overdueTasks) {}
@@ -0,0 +1,6 @@
+package com.streamline.task_management_app_java.controller.dto;
+
+import com.streamline.task_management_app_java.domain.EntityType;
+
+public record SearchIndexStatsResponse(
+    EntityType type, long documents, long terms, long postings, long estimatedBytes) {}
@@ -0,0 +1,6 @@
+package com.streamline.task_management_app_java.controller.dto;
+
+import com.streamline.task_management_app_java.domain.EntityType;
+
+/** {@code projectId} is the project itself for {@code PROJECT} results. */
+public record SearchResultResponse(EntityType type, Long id, Long projectId, String name) {}
@@ -0,0 +1,49 @@
+package com.streamline.task_management_app_java.controller.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * Watermark of a sync client: the last {@code (updatedAt, id)} it received of projects and tasks
+ * and the {@code (deletedAt, id)} up to which it received tombstones, encoded as an opaque URL-safe
+ * string.
+ */
+public record SyncCursor(Position projects, Position tasks, Position tombstones) {
+
+  private static final String SEPARATOR = "|";
+
+  public static final SyncCursor START =
+      new SyncCursor(Position.START, Position.START, Position.START);
+
+  public record Position(LocalDateTime at, long id) {
+
+    public static final Position START = new Position(LocalDateTime.of(1970, 1, 1, 0, 0), 0);
+  }
+
+  public static SyncCursor decode(String since) {
+    if (since == null || since.isBlank()) {
+      return START;
+    }
+    try {
+      String[] parts =
+          new String(Base64.getUrlDecoder().decode(since), StandardCharsets.UTF_8).split("\\|");
+      return new SyncCursor(
+          new Position(LocalDateTime.parse(parts[0]), Long.parseLong(parts[1])),
+          new Position(LocalDateTime.parse(parts[2]), Long.parseLong(parts[3])),
+          new Position(LocalDateTime.parse(parts[4]), Long.parseLong(parts[5])));
+    } catch (RuntimeException e) {
+      throw new InvalidCursorException("Invalid sync watermark: " + since, e);
+    }
+  }
+
+  public String encode() {
+    String raw = String.join(SEPARATOR,
+        projects.at().toString(), String.valueOf(projects.id()),
+        tasks.at().toString(), String.valueOf(tasks.id()),
+        tombstones.at().toString(), String.valueOf(tombstones.id()));
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+}
@@ -0,0 +1,18 @@
+package com.streamline.task_management_app_java.controller.dto;
+
+import java.util.List;
+
+/**
+ * One page of changes. Apply projects, then tasks, then tombstones, and call again with {@code
+ * nextSince} while {@code hasMore} is true; keep the last {@code nextSince} for the next reconnect.
+ *
+ * <p>{@code reset} means the watermark was older than the tombstone retention: drop the local copy
+ * and load it again from this page on, as on a first sync.
+ */
+public record SyncResponse(
+    List<ProjectResponse> projects,
+    List<TaskChangeResponse> tasks,
+    List<TombstoneResponse> tombstones,
+    String nextSince,
+    boolean hasMore,
+    boolean reset) {}
@@ -0,0 +1,10 @@
+package com.streamline.task_management_app_java.controller.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+public record TaskBulkCreateRequest(
+    @NotEmpty @Size(max = 1000) List<@Valid @NotNull TaskCreateRequest> tasks) {}
@@ -0,0 +1,13 @@
+package com.streamline.task_management_app_java.controller.dto;
+
+/** Per-item outcome of a bulk task creation, {@code index} points into the request list. */
+public record TaskBulkCreateResult(int index, boolean success, String message, TaskResponse task) {
+
+  public static TaskBulkCreateResult created(int index, TaskResponse task) {
+    return new TaskBulkCreateResult(index, true, "Success", task);
+  }
+
+  public static TaskBulkCreateResult failed(int index, String message) {
+    return new TaskBulkCreateResult(index, false, message, null);
+  }
+}
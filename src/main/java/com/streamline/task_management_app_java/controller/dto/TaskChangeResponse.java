@@ -0,0 +1,31 @@
+package com.streamline.task_management_app_java.controller.dto;
+
+import com.streamline.task_management_app_java.domain.Priority;
+import com.streamline.task_management_app_java.domain.Status;
+import com.streamline.task_management_app_java.domain.Task;
+import java.time.LocalDateTime;
+
+/** Task as sent by delta sync; unlike {@link TaskResponse} it says which project it belongs to. */
+public record TaskChangeResponse(
+    Long id,
+    Long projectId,
+    String name,
+    Status status,
+    Priority priority,
+    LocalDateTime dueDate,
+    LocalDateTime updatedAt,
+    Long version) {
+
+  public static TaskChangeResponse of(Task task) {
+    return new TaskChangeResponse(
+        task.getId(),
+        // Reading the id of the lazy proxy does not load the project.
+        task.getProject().getId(),
+        task.getName(),
+        task.getStatus(),
+        task.getPriority(),
+        task.getDueDate(),
+        task.getUpdatedAt(),
+        task.getVersion());
+  }
+}
@@ -0,0 +1,52 @@
+package com.streamline.task_management_app_java.controller.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * Keyset position of the last task on a page, encoded as an opaque URL-safe string. A null
+ * {@code dueDate} is a task without one, which {@link TaskSort#DUE_DATE} puts last.
+ */
+public record TaskCursor(TaskSort sort, LocalDateTime dueDate, Long id) {
+
+  private static final String SEPARATOR = "|";
+  private static final String NO_DUE_DATE = "null";
+
+  public static TaskCursor of(TaskSort sort, TaskResponse task) {
+    return new TaskCursor(sort, task.dueDate(), task.id());
+  }
+
+  public static TaskCursor decode(TaskSort sort, String cursor) {
+    if (cursor == null || cursor.isBlank()) {
+      return null;
+    }
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      return switch (sort) {
+        case ID -> new TaskCursor(sort, null, Long.parseLong(raw));
+        case DUE_DATE -> {
+          int separator = raw.lastIndexOf(SEPARATOR);
+          String dueDate = raw.substring(0, separator);
+          yield new TaskCursor(
+              sort,
+              dueDate.equals(NO_DUE_DATE) ? null : LocalDateTime.parse(dueDate),
+              Long.parseLong(raw.substring(separator + 1)));
+        }
+      };
+    } catch (RuntimeException e) {
+      throw new InvalidCursorException("Invalid cursor for sort " + sort + ": " + cursor, e);
+    }
+  }
+
+  public String encode() {
+    String raw =
+        switch (sort) {
+          case ID -> String.valueOf(id);
+          case DUE_DATE -> (dueDate != null ? dueDate.toString() : NO_DUE_DATE) + SEPARATOR + id;
+        };
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+}
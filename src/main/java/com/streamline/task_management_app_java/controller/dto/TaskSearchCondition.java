@@ -0,0 +1,31 @@
+package com.streamline.task_management_app_java.controller.dto;
+
+import com.streamline.task_management_app_java.domain.Priority;
+import com.streamline.task_management_app_java.domain.Status;
+import jakarta.annotation.Nullable;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.annotation.DateTimeFormat.ISO;
+
+/** Query parameters of {@code GET /v1/project/{id}/tasks}; every filter is optional. */
+public record TaskSearchCondition(
+    @Nullable List<Status> status,
+    @Nullable List<Priority> priority,
+    @Nullable @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime dueFrom,
+    @Nullable @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime dueTo,
+    @Nullable TaskSort sort,
+    @Nullable String cursor,
+    @Nullable Integer size) {
+
+  public static final int DEFAULT_SIZE = 20;
+
+  public TaskSort sortOrDefault() {
+    return Objects.requireNonNullElse(sort, TaskSort.DUE_DATE);
+  }
+
+  public int sizeOrDefault() {
+    return Objects.requireNonNullElse(size, DEFAULT_SIZE);
+  }
+}
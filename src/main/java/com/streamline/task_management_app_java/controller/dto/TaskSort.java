@@ -0,0 +1,19 @@
+package com.streamline.task_management_app_java.controller.dto;
+
+import org.springframework.data.domain.Sort;
+
+/**
+ * Orderings supported by the task listing; {@code id} always breaks ties so keysets are unique.
+ * Tasks without a due date come after all others, matching {@code TaskSpecifications}.
+ */
+public enum TaskSort {
+  DUE_DATE,
+  ID;
+
+  public Sort toSort() {
+    return switch (this) {
+      case DUE_DATE -> Sort.by(Sort.Order.asc("dueDate").nullsLast(), Sort.Order.asc("id"));
+      case ID -> Sort.by("id");
+    };
+  }
+}
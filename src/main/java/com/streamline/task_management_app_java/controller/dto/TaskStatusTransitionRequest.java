@@ -0,0 +1,18 @@
+package com.streamline.task_management_app_java.controller.dto;
+
+import com.streamline.task_management_app_java.domain.Priority;
+import com.streamline.task_management_app_java.domain.Status;
+import jakarta.annotation.Nullable;
+import jakarta.validation.constraints.NotNull;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Moves every task of a project that matches all given filters to {@code targetStatus}. Omitted
+ * filters match everything.
+ */
+public record TaskStatusTransitionRequest(
+    @Nullable List<Status> status,
+    @Nullable List<Priority> priority,
+    @Nullable LocalDateTime dueBefore,
+    @NotNull Status targetStatus) {}
@@ -0,0 +1,5 @@
+package com.streamline.task_management_app_java.controller.dto;
+
+import com.streamline.task_management_app_java.domain.Status;
+
+public record TaskStatusTransitionResponse(Long projectId, Status targetStatus, int updatedTasks) {}
@@ -0,0 +1,15 @@
+package com.streamline.task_management_app_java.controller.dto;
+
+import com.streamline.task_management_app_java.domain.Priority;
+import com.streamline.task_management_app_java.domain.Status;
+import com.streamline.task_management_app_java.repository.TaskDashboardRow;
+import java.time.LocalDateTime;
+
+public record TaskSummaryResponse(
+    Long id, String name, Status status, Priority priority, LocalDateTime dueDate) {
+
+  public static TaskSummaryResponse of(TaskDashboardRow row) {
+    return new TaskSummaryResponse(
+        row.getId(), row.getName(), row.getStatus(), row.getPriority(), row.getDueDate());
+  }
+}
@@ -0,0 +1,18 @@
+package com.streamline.task_management_app_java.controller.dto;
+
+import com.streamline.task_management_app_java.domain.EntityType;
+import com.streamline.task_management_app_java.domain.Tombstone;
+import java.time.LocalDateTime;
+
+/** A deletion; a {@code PROJECT} tombstone also removes every task of that project. */
+public record TombstoneResponse(
+    EntityType entityType, Long entityId, Long projectId, LocalDateTime deletedAt) {
+
+  public static TombstoneResponse of(Tombstone tombstone) {
+    return new TombstoneResponse(
+        tombstone.getEntityType(),
+        tombstone.getEntityId(),
+        tombstone.getProjectId(),
+        tombstone.getDeletedAt());
+  }
+}
@@ -0,0 +1,100 @@
+package com.streamline.task_management_app_java.domain;
+
+import com.streamline.task_management_app_java.tenant.TenantContext;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.annotations.TenantId;
+import org.hibernate.type.SqlTypes;
+
+/**
+ * Append-only history of who changed a project or task. Rows are written in batches after the
+ * change committed, so the sequence id (not IDENTITY) lets Hibernate batch the inserts.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(
+    indexes = {
+      @Index(
+          name = "idx_activity_log_tenant_entity",
+          columnList = "tenant_id, entity_type, entity_id, id"),
+      @Index(name = "idx_activity_log_tenant_project", columnList = "tenant_id, project_id, id")
+    })
+public class ActivityLog {
+
+  public static final int MAX_DETAILS_LENGTH = 1000;
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "activity_log_seq")
+  @SequenceGenerator(
+      name = "activity_log_seq",
+      sequenceName = "activity_log_seq",
+      allocationSize = 50)
+  private Long id;
+
+  /**
+   * Taken from the request that made the change; the writer thread inserts entries of every
+   * tenant as root, which keeps the assigned value.
+   */
+  @TenantId
+  @Column(
+      name = "tenant_id", nullable = false, updatable = false, length = TenantContext.MAX_LENGTH)
+  private String tenantId;
+
+  @Enumerated(EnumType.STRING)
+  @JdbcTypeCode(SqlTypes.VARCHAR)
+  @Column(name = "entity_type", nullable = false)
+  private EntityType entityType;
+
+  /** Null for {@link ActivityType#BULK_UPDATED}. */
+  @Column(name = "entity_id")
+  private Long entityId;
+
+  @Column(name = "project_id")
+  private Long projectId;
+
+  @Enumerated(EnumType.STRING)
+  @JdbcTypeCode(SqlTypes.VARCHAR)
+  @Column(nullable = false)
+  private ActivityType type;
+
+  @Column(nullable = false, length = 100)
+  private String actor;
+
+  @Column(length = MAX_DETAILS_LENGTH)
+  private String details;
+
+  @Column(name = "occurred_at", nullable = false)
+  private LocalDateTime occurredAt;
+
+  public ActivityLog(
+      EntityType entityType,
+      Long entityId,
+      Long projectId,
+      ActivityType type,
+      String actor,
+      String details,
+      LocalDateTime occurredAt) {
+    this.tenantId = TenantContext.current();
+    this.entityType = entityType;
+    this.entityId = entityId;
+    this.projectId = projectId;
+    this.type = type;
+    this.actor = actor;
+    this.details = details;
+    this.occurredAt = occurredAt;
+  }
+}
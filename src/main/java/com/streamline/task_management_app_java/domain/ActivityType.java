@@ -0,0 +1,9 @@
+package com.streamline.task_management_app_java.domain;
+
+/** What an activity log entry records; {@code BULK_UPDATED} covers many tasks of one project. */
+public enum ActivityType {
+  CREATED,
+  UPDATED,
+  DELETED,
+  BULK_UPDATED
+}
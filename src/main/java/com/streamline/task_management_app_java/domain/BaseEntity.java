@@ -1,9 +1,15 @@
 package com.streamline.task_management_app_java.domain;
 
+import com.streamline.task_management_app_java.monitoring.EntityLoadCountingListener;
+import com.streamline.task_management_app_java.tenant.TenantContext;
+import jakarta.persistence.Column;
 import jakarta.persistence.EntityListeners;
 import jakarta.persistence.MappedSuperclass;
+import jakarta.persistence.Version;
 import lombok.Getter;
+import org.hibernate.annotations.TenantId;
 import org.springframework.data.annotation.CreatedDate;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
@@ -11,14 +17,35 @@ import java.time.LocalDateTime;
 
 @Getter
 @MappedSuperclass
-@EntityListeners(AuditingEntityListener.class)
+@EntityListeners({AuditingEntityListener.class, EntityLoadCountingListener.class})
 public abstract class BaseEntity {
 
+    /**
+     * Assigned from {@link TenantContext} on insert; Hibernate adds it to every query of the
+     * entity, so repositories never filter by it themselves.
+     */
+    @TenantId
+    @Column(name = "tenant_id", nullable = false, updatable = false,
+            length = TenantContext.MAX_LENGTH)
+    private String tenantId;
+
     @CreatedDate
     private LocalDateTime createdAt;
 
     @LastModifiedDate
     private LocalDateTime updatedAt;
+
+    @Version
+    private Long version;
+
+    /** Rejects the change when the caller edited an older version (a null expectation skips the check). */
+    public void checkVersion(Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(version)) {
+            throw new OptimisticLockingFailureException(
+                    getClass().getSimpleName() + " was modified: expected version " + expectedVersion
+                            + " but was " + version);
+        }
+    }
 }
 
 
@@ -0,0 +1,7 @@
+package com.streamline.task_management_app_java.domain;
+
+/** Entity kinds referred to by change events and tombstones. */
+public enum EntityType {
+  PROJECT,
+  TASK
+}
@@ -0,0 +1,113 @@
+package com.streamline.task_management_app_java.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+/**
+ * Checkpoint of a bulk import. {@code processedRows} is advanced in the same transaction as the
+ * batch it covers, so after a failure the upload can be sent again and resumes right after the
+ * last committed batch. Only one upload runs a job at a time; a running job is taken over only
+ * once it has committed nothing for a while, which is what a broken-off upload looks like.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+public class ImportJob extends BaseEntity {
+
+  public enum State {
+    PENDING,
+    RUNNING,
+    COMPLETED,
+    FAILED
+  }
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Enumerated(EnumType.STRING)
+  @JdbcTypeCode(SqlTypes.VARCHAR)
+  @Column(nullable = false)
+  private EntityType entityType;
+
+  @Enumerated(EnumType.STRING)
+  @JdbcTypeCode(SqlTypes.VARCHAR)
+  @Column(nullable = false)
+  private TransferFormat format;
+
+  @Enumerated(EnumType.STRING)
+  @JdbcTypeCode(SqlTypes.VARCHAR)
+  @Column(nullable = false)
+  private State state = State.PENDING;
+
+  /** Data rows of the file consumed so far, imported or rejected; the header is not counted. */
+  @Column(nullable = false)
+  private long processedRows;
+
+  @Column(nullable = false)
+  private long rejectedRows;
+
+  @Column(length = 1000)
+  private String lastError;
+
+  /** Project import whose file the {@code projectId} of this task import's rows refers to. */
+  private Long projectImportId;
+
+  public ImportJob(EntityType entityType, TransferFormat format, Long projectImportId) {
+    this.entityType = entityType;
+    this.format = format;
+    this.projectImportId = projectImportId;
+  }
+
+  /** Claims the job; a running one only when its last commit was before {@code staleBefore}. */
+  public void start(LocalDateTime staleBefore) {
+    if (state == State.COMPLETED) {
+      throw new IllegalArgumentException("Import " + id + " is already completed");
+    }
+    if (state == State.RUNNING && getUpdatedAt() != null && getUpdatedAt().isAfter(staleBefore)) {
+      throw new OptimisticLockingFailureException("Import " + id + " is already running");
+    }
+    state = State.RUNNING;
+  }
+
+  /**
+   * Moves the checkpoint past a batch that started at row {@code offset}. Any other offset means
+   * another upload committed rows in the meantime, and this batch would import them twice.
+   */
+  public void checkpoint(long offset, long processed, long rejected, String error) {
+    if (offset != processedRows) {
+      throw new OptimisticLockingFailureException("Import " + id + " is at row " + processedRows
+          + ", not " + offset + "; another upload is running");
+    }
+    processedRows += processed;
+    rejectedRows += rejected;
+    if (error != null) {
+      lastError = truncate(error);
+    }
+  }
+
+  public void complete() {
+    state = State.COMPLETED;
+  }
+
+  public void fail(String error) {
+    state = State.FAILED;
+    lastError = truncate(error);
+  }
+
+  private static String truncate(String error) {
+    return error == null || error.length() <= 1000 ? error : error.substring(0, 1000);
+  }
+}
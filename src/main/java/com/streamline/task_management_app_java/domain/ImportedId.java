@@ -0,0 +1,48 @@
+package com.streamline.task_management_app_java.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * The id a row had in an imported file and the id it got here, so a later task import can link
+ * its tasks to the projects of an earlier project import. Always read through the import job,
+ * which already belongs to one tenant.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(
+    indexes =
+        @Index(
+            name = "idx_imported_id_job_source",
+            columnList = "job_id, source_id",
+            unique = true))
+public class ImportedId {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Column(name = "job_id", nullable = false)
+  private Long jobId;
+
+  @Column(name = "source_id", nullable = false)
+  private Long sourceId;
+
+  @Column(nullable = false)
+  private Long targetId;
+
+  public ImportedId(Long jobId, Long sourceId, Long targetId) {
+    this.jobId = jobId;
+    this.sourceId = sourceId;
+    this.targetId = targetId;
+  }
+}
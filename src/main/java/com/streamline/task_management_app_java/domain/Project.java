@@ -8,16 +8,26 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.Table;
 import java.util.ArrayList;
 import java.util.List;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 @Entity
+@Table(
+    indexes = {
+      @Index(name = "idx_project_tenant_id", columnList = "tenant_id, id"),
+      @Index(name = "idx_project_tenant_status", columnList = "tenant_id, status, id"),
+      @Index(name = "idx_project_tenant_updated_at", columnList = "tenant_id, updated_at, id")
+    })
 public class Project extends BaseEntity {
 
   @Id
@@ -28,6 +38,7 @@ public class Project extends BaseEntity {
   private String name;
 
   @Enumerated(EnumType.STRING)
+  @JdbcTypeCode(SqlTypes.VARCHAR)
   @Column(nullable = false)
   private ProjectStatus status = ProjectStatus.TODO;
 
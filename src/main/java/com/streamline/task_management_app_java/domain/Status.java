@@ -1,5 +1,7 @@
 package com.streamline.task_management_app_java.domain;
 
+import java.util.Arrays;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
@@ -9,5 +11,13 @@ public enum Status {
   TODO,
   IN_PROGRESS,
   DONE,
-  CANCLED
+  CANCLED;
+
+  public boolean isOpen() {
+    return this == TODO || this == IN_PROGRESS;
+  }
+
+  public static List<Status> openStatuses() {
+    return Arrays.stream(values()).filter(Status::isOpen).toList();
+  }
 }
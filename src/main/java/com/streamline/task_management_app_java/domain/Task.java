@@ -9,32 +9,56 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
 import java.time.LocalDateTime;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
+@Table(
+    indexes = {
+      @Index(name = "idx_task_tenant_id", columnList = "tenant_id, id"),
+      @Index(
+          name = "idx_task_tenant_project_status_due",
+          columnList = "tenant_id, project_id, status, due_date"),
+      @Index(
+          name = "idx_task_tenant_project_priority_due",
+          columnList = "tenant_id, project_id, priority, due_date"),
+      @Index(name = "idx_task_tenant_project_due", columnList = "tenant_id, project_id, due_date"),
+      @Index(name = "idx_task_tenant_updated_at", columnList = "tenant_id, updated_at, id"),
+      // Reminders scan every tenant at once.
+      @Index(name = "idx_task_due_date", columnList = "due_date")
+    })
 public class Task extends BaseEntity {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_seq")
+  @SequenceGenerator(name = "task_seq", sequenceName = "task_seq", allocationSize = 50)
   private Long id;
 
   @Column(nullable = false)
   private String name;
 
+  // Enums are varchar columns in the migrations, not H2's native enum, so validate them as such.
   @Enumerated(EnumType.STRING)
+  @JdbcTypeCode(SqlTypes.VARCHAR)
   private Status status;
 
   @Enumerated(EnumType.STRING)
+  @JdbcTypeCode(SqlTypes.VARCHAR)
   private Priority priority;
 
+  @Column(name = "due_date")
   private LocalDateTime dueDate;
 
   @ManyToOne(fetch = FetchType.LAZY)
@@ -42,11 +66,13 @@ public class Task extends BaseEntity {
   private Project project;
 
   @Builder
-  public Task(String name, Status status, Priority priority, LocalDateTime dueDate) {
+  public Task(
+      String name, Status status, Priority priority, LocalDateTime dueDate, Project project) {
     this.name = name;
     this.status = status;
     this.priority = priority;
     this.dueDate = dueDate;
+    this.project = project;
   }
 
   protected void assignProject(Project project) {
@@ -0,0 +1,62 @@
+package com.streamline.task_management_app_java.domain;
+
+import com.streamline.task_management_app_java.tenant.TenantContext;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.annotations.TenantId;
+import org.hibernate.type.SqlTypes;
+
+/**
+ * Record of a deleted project or task for delta sync. A project tombstone also stands for all of
+ * its tasks, which are deleted in bulk without tombstones of their own.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(
+    indexes =
+        @Index(name = "idx_tombstone_tenant_deleted_at", columnList = "tenant_id, deleted_at, id"))
+public class Tombstone {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  /** Same partitioning as {@link BaseEntity}, which this entity does not extend. */
+  @TenantId
+  @Column(
+      name = "tenant_id", nullable = false, updatable = false, length = TenantContext.MAX_LENGTH)
+  private String tenantId;
+
+  @Enumerated(EnumType.STRING)
+  @JdbcTypeCode(SqlTypes.VARCHAR)
+  @Column(nullable = false)
+  private EntityType entityType;
+
+  @Column(nullable = false)
+  private Long entityId;
+
+  private Long projectId;
+
+  @Column(name = "deleted_at", nullable = false)
+  private LocalDateTime deletedAt;
+
+  public Tombstone(EntityType entityType, Long entityId, Long projectId, LocalDateTime deletedAt) {
+    this.entityType = entityType;
+    this.entityId = entityId;
+    this.projectId = projectId;
+    this.deletedAt = deletedAt;
+  }
+}
@@ -0,0 +1,25 @@
+package com.streamline.task_management_app_java.domain;
+
+/** File formats for bulk import and export. Both are written and read one row at a time. */
+public enum TransferFormat {
+  NDJSON("application/x-ndjson"),
+  CSV("text/csv");
+
+  private final String contentType;
+
+  TransferFormat(String contentType) {
+    this.contentType = contentType;
+  }
+
+  public String contentType() {
+    return contentType;
+  }
+
+  public static TransferFormat from(String format) {
+    try {
+      return TransferFormat.valueOf(format.toUpperCase());
+    } catch (IllegalArgumentException | NullPointerException e) {
+      throw new IllegalArgumentException("Unsupported format: " + format);
+    }
+  }
+}
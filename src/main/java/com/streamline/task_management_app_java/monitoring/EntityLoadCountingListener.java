@@ -0,0 +1,12 @@
+package com.streamline.task_management_app_java.monitoring;
+
+import jakarta.persistence.PostLoad;
+
+/** Counts entities hydrated from the database, including those loaded by lazy collections. */
+public class EntityLoadCountingListener {
+
+  @PostLoad
+  public void onLoad(Object entity) {
+    RequestQueryStats.recordEntityLoad();
+  }
+}
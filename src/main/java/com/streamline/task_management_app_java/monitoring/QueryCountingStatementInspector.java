@@ -0,0 +1,16 @@
+package com.streamline.task_management_app_java.monitoring;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts every statement Hibernate prepares. Registered by class name through
+ * {@code hibernate.session_factory.statement_inspector}.
+ */
+public class QueryCountingStatementInspector implements StatementInspector {
+
+  @Override
+  public String inspect(String sql) {
+    RequestQueryStats.recordStatement(sql);
+    return sql;
+  }
+}
@@ -0,0 +1,76 @@
+package com.streamline.task_management_app_java.monitoring;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Records how many JDBC statements and entity loads each endpoint needs, tagged like
+ * {@code http.server.requests}, and flags requests that repeat one select at least
+ * {@code app.monitoring.n-plus-one-threshold} times.
+ */
+@Slf4j
+@Component
+public class RequestMetricsFilter extends OncePerRequestFilter {
+
+  private final MeterRegistry meterRegistry;
+  private final int nPlusOneThreshold;
+
+  public RequestMetricsFilter(
+      ObjectProvider<MeterRegistry> meterRegistry,
+      @Value("${app.monitoring.n-plus-one-threshold:10}") int nPlusOneThreshold) {
+    // Web slice tests start without the metrics auto-configuration.
+    this.meterRegistry = meterRegistry.getIfAvailable(SimpleMeterRegistry::new);
+    this.nPlusOneThreshold = nPlusOneThreshold;
+  }
+
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    RequestQueryStats stats = RequestQueryStats.begin();
+    try {
+      filterChain.doFilter(request, response);
+    } finally {
+      RequestQueryStats.end();
+      record(request, stats);
+    }
+  }
+
+  private void record(HttpServletRequest request, RequestQueryStats stats) {
+    Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+    String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+    Tags tags = Tags.of("method", request.getMethod(), "uri", uri);
+
+    DistributionSummary.builder("app.request.jdbc.statements")
+        .description("JDBC statements prepared per request")
+        .tags(tags)
+        .publishPercentiles(0.5, 0.95, 0.99)
+        .register(meterRegistry)
+        .record(stats.statements());
+    DistributionSummary.builder("app.request.entity.loads")
+        .description("Entities loaded from the database per request")
+        .tags(tags)
+        .publishPercentiles(0.5, 0.95, 0.99)
+        .register(meterRegistry)
+        .record(stats.entityLoads());
+
+    stats.repeatedSelect(nPlusOneThreshold).ifPresent(select -> {
+      meterRegistry.counter("app.request.n_plus_one", tags).increment();
+      log.warn("Possible N+1 on {} {}: select ran {} times: {}",
+          request.getMethod(), uri, select.getValue(), select.getKey());
+    });
+  }
+}
@@ -0,0 +1,66 @@
+package com.streamline.task_management_app_java.monitoring;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * JDBC statements and entity loads of the request running on the current thread. Hibernate
+ * callbacks record into it through static methods because they are not Spring beans.
+ */
+public final class RequestQueryStats {
+
+  private static final ThreadLocal<RequestQueryStats> CURRENT = new ThreadLocal<>();
+
+  private final Map<String, Integer> selects = new HashMap<>();
+  private int statements;
+  private int entityLoads;
+
+  private RequestQueryStats() {}
+
+  static RequestQueryStats begin() {
+    RequestQueryStats stats = new RequestQueryStats();
+    CURRENT.set(stats);
+    return stats;
+  }
+
+  static void end() {
+    CURRENT.remove();
+  }
+
+  static void recordStatement(String sql) {
+    RequestQueryStats stats = CURRENT.get();
+    if (stats == null) {
+      return;
+    }
+    stats.statements++;
+    if (sql.regionMatches(true, 0, "select", 0, 6)) {
+      stats.selects.merge(sql, 1, Integer::sum);
+    }
+  }
+
+  static void recordEntityLoad() {
+    RequestQueryStats stats = CURRENT.get();
+    if (stats != null) {
+      stats.entityLoads++;
+    }
+  }
+
+  public int statements() {
+    return statements;
+  }
+
+  public int entityLoads() {
+    return entityLoads;
+  }
+
+  /**
+   * The select that ran most often in this request, if it ran at least {@code threshold} times.
+   * Hibernate binds parameters, so one lazy load per row repeats the exact same SQL string.
+   */
+  public Optional<Map.Entry<String, Integer>> repeatedSelect(int threshold) {
+    return selects.entrySet().stream()
+        .filter(entry -> entry.getValue() >= threshold)
+        .max(Map.Entry.comparingByValue());
+  }
+}
@@ -0,0 +1,228 @@
+package com.streamline.task_management_app_java.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.streamline.task_management_app_java.config.ConnectionLimitingDataSource;
+import com.streamline.task_management_app_java.controller.dto.ApiResponse;
+import com.streamline.task_management_app_java.ratelimit.RateLimited.Budget;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Admission control in front of the API. Handlers marked {@link RateLimited} take a token from
+ * the bucket of their budget for the calling client, identified by {@value #API_KEY_HEADER} when
+ * it is one of {@code app.rate-limit.api-keys} or else by its address, and are answered 429 once
+ * it is empty. Every request is answered 503 while the server is overloaded: too many requests in
+ * progress, or callers queueing on a connection pool for longer than
+ * {@code app.load-shedding.max-pool-wait} on average. Shed requests take no token. Both carry
+ * {@code Retry-After} and are counted in {@code app.requests.rejected}.
+ */
+@Component
+public class RateLimitInterceptor implements AsyncHandlerInterceptor {
+
+  public static final String API_KEY_HEADER = "X-Api-Key";
+  /** Bounds the bucket map when many addresses show up at once. */
+  private static final long MAX_CLIENTS = 100_000L;
+  private static final String ADMITTED = RateLimitInterceptor.class.getName() + ".ADMITTED";
+
+  private final ObjectMapper objectMapper;
+  private final MeterRegistry meterRegistry;
+  private final List<ConnectionLimitingDataSource> pools;
+  private final Map<Budget, Limit> limits = new EnumMap<>(Budget.class);
+  private final Cache<BucketKey, TokenBucket> buckets;
+  private final Set<String> apiKeys;
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private final int maxInFlight;
+  private final Duration maxPoolWait;
+  private final Duration retryAfter;
+
+  public RateLimitInterceptor(
+      ObjectMapper objectMapper,
+      ObjectProvider<MeterRegistry> meterRegistry,
+      ObjectProvider<DataSource> dataSources,
+      @Value("${app.rate-limit.default.capacity:100}") int defaultCapacity,
+      @Value("${app.rate-limit.default.refill-per-second:50}") double defaultRefillPerSecond,
+      @Value("${app.rate-limit.list.capacity:20}") int listCapacity,
+      @Value("${app.rate-limit.list.refill-per-second:5}") double listRefillPerSecond,
+      @Value("${app.rate-limit.api-keys:}") Set<String> apiKeys,
+      @Value("${app.load-shedding.max-in-flight:150}") int maxInFlight,
+      @Value("${app.load-shedding.max-pool-wait:500ms}") Duration maxPoolWait,
+      @Value("${app.load-shedding.retry-after:1s}") Duration retryAfter) {
+    this.objectMapper = objectMapper;
+    // Web slice tests start without the metrics auto-configuration or a database.
+    this.meterRegistry = meterRegistry.getIfAvailable(SimpleMeterRegistry::new);
+    this.pools = dataSources.orderedStream()
+        .filter(ConnectionLimitingDataSource.class::isInstance)
+        .map(ConnectionLimitingDataSource.class::cast)
+        .toList();
+    limits.put(Budget.DEFAULT, new Limit(defaultCapacity, defaultRefillPerSecond));
+    limits.put(Budget.LIST, new Limit(listCapacity, listRefillPerSecond));
+    // A bucket left alone until it is full again is no different from a new one.
+    Duration longestRefill = limits.values().stream()
+        .map(Limit::refillTime)
+        .max(Duration::compareTo)
+        .orElseThrow();
+    this.buckets = Caffeine.newBuilder()
+        .maximumSize(MAX_CLIENTS)
+        .expireAfterAccess(longestRefill)
+        .build();
+    this.apiKeys = Set.copyOf(apiKeys);
+    this.maxInFlight = maxInFlight;
+    this.maxPoolWait = maxPoolWait;
+    this.retryAfter = retryAfter;
+    this.meterRegistry.gauge("app.requests.in_flight", inFlight);
+  }
+
+  @Override
+  public boolean preHandle(
+      HttpServletRequest request, HttpServletResponse response, Object handler)
+      throws IOException {
+    if (request.getDispatcherType() == DispatcherType.ASYNC) {
+      // The dispatch that completes an async request was admitted with the original one.
+      return true;
+    }
+    // Checked first, so a client is not charged for requests the server turned away.
+    String overload = overloadReason();
+    if (overload != null) {
+      reject(request, response, HttpStatus.SERVICE_UNAVAILABLE, overload, retryAfter,
+          "Server is overloaded");
+      return false;
+    }
+    RateLimited rateLimited = rateLimitedOf(handler);
+    if (rateLimited != null) {
+      long waitNanos = bucketFor(rateLimited.value(), clientOf(request))
+          .tryAcquire(System.nanoTime());
+      if (waitNanos > 0) {
+        reject(request, response, HttpStatus.TOO_MANY_REQUESTS, "rate_limit",
+            Duration.ofNanos(waitNanos), "Rate limit exceeded for this client");
+        return false;
+      }
+    }
+    inFlight.incrementAndGet();
+    request.setAttribute(ADMITTED, Boolean.TRUE);
+    return true;
+  }
+
+  /** Streaming bodies run on the async executor; only the request thread counts as in flight. */
+  @Override
+  public void afterConcurrentHandlingStarted(
+      HttpServletRequest request, HttpServletResponse response, Object handler) {
+    release(request);
+  }
+
+  @Override
+  public void afterCompletion(
+      HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+    release(request);
+  }
+
+  int getInFlight() {
+    return inFlight.get();
+  }
+
+  private RateLimited rateLimitedOf(Object handler) {
+    if (!(handler instanceof HandlerMethod handlerMethod)) {
+      return null;
+    }
+    RateLimited onMethod = handlerMethod.getMethodAnnotation(RateLimited.class);
+    return onMethod != null
+        ? onMethod
+        : handlerMethod.getBeanType().getAnnotation(RateLimited.class);
+  }
+
+  private TokenBucket bucketFor(Budget budget, String client) {
+    Limit limit = limits.get(budget);
+    return buckets.get(new BucketKey(budget, client),
+        key -> new TokenBucket(limit.capacity(), limit.refillPerSecond(), System.nanoTime()));
+  }
+
+  /**
+   * Unknown keys count as no key: a client could otherwise send a fresh one with every request to
+   * get a full bucket each time, and crowd everyone else out of the bucket map.
+   */
+  private String clientOf(HttpServletRequest request) {
+    String apiKey = request.getHeader(API_KEY_HEADER);
+    if (apiKey != null && apiKeys.contains(apiKey)) {
+      return "key:" + apiKey;
+    }
+    return "addr:" + request.getRemoteAddr();
+  }
+
+  private String overloadReason() {
+    if (inFlight.get() >= maxInFlight) {
+      return "in_flight";
+    }
+    for (ConnectionLimitingDataSource pool : pools) {
+      // The average only moves while connections are requested, so without anyone queueing it
+      // would keep shedding the traffic that has to bring it down.
+      if (pool.getWaitingThreads() > 0 && pool.getAverageWait().compareTo(maxPoolWait) > 0) {
+        return "pool_wait";
+      }
+    }
+    return null;
+  }
+
+  private void release(HttpServletRequest request) {
+    if (request.getAttribute(ADMITTED) != null) {
+      request.removeAttribute(ADMITTED);
+      inFlight.decrementAndGet();
+    }
+  }
+
+  private void reject(
+      HttpServletRequest request,
+      HttpServletResponse response,
+      HttpStatus status,
+      String reason,
+      Duration retryIn,
+      String message)
+      throws IOException {
+    Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+    meterRegistry.counter("app.requests.rejected",
+        "reason", reason, "uri", pattern != null ? pattern.toString() : "UNKNOWN").increment();
+    // Whole seconds, rounded up so the client does not come back a moment too early.
+    long retrySeconds = Math.max(1L, (retryIn.toMillis() + 999) / 1000);
+    response.setStatus(status.value());
+    response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retrySeconds));
+    response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+    objectMapper.writeValue(response.getOutputStream(),
+        ApiResponse.error(message + ", retry after " + retrySeconds + "s"));
+  }
+
+  private record Limit(int capacity, double refillPerSecond) {
+
+    private Limit {
+      if (capacity < 1 || refillPerSecond <= 0) {
+        throw new IllegalArgumentException(
+            "Rate limit capacity and refill-per-second must be positive");
+      }
+    }
+
+    Duration refillTime() {
+      return Duration.ofNanos((long) (capacity * 1_000_000_000L / refillPerSecond));
+    }
+  }
+
+  private record BucketKey(Budget budget, String client) {}
+}
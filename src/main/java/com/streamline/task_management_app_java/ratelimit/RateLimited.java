@@ -0,0 +1,24 @@
+package com.streamline.task_management_app_java.ratelimit;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Puts a controller, or one of its handler methods, behind the per-client token buckets of
+ * {@link RateLimitInterceptor}. An annotation on the method overrides the one on the class.
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RateLimited {
+
+  Budget value() default Budget.DEFAULT;
+
+  /** Each budget has its own bucket per client, so exhausting one leaves the other untouched. */
+  enum Budget {
+    DEFAULT,
+    /** Lists and streams that read many rows per request. */
+    LIST
+  }
+}
@@ -0,0 +1,37 @@
+package com.streamline.task_management_app_java.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket kept as a single timestamp, the moment the bucket will be full again, so taking a
+ * token is one compare-and-set with no lock and no separate refill step. Holding {@code capacity}
+ * tokens means that moment is at most {@code capacity} refill intervals ahead of now.
+ */
+final class TokenBucket {
+
+  private final long refillNanos;
+  private final long capacityNanos;
+  private final AtomicLong fullAt;
+
+  TokenBucket(int capacity, double refillPerSecond, long nowNanos) {
+    this.refillNanos = Math.max(1L, (long) (1_000_000_000L / refillPerSecond));
+    this.capacityNanos = refillNanos * capacity;
+    this.fullAt = new AtomicLong(nowNanos);
+  }
+
+  /** Takes a token and returns 0, or returns how many nanoseconds until one is available. */
+  long tryAcquire(long nowNanos) {
+    while (true) {
+      long current = fullAt.get();
+      // Compared by difference, as System.nanoTime() values may wrap.
+      long next = (current - nowNanos > 0 ? current : nowNanos) + refillNanos;
+      long ahead = next - nowNanos;
+      if (ahead > capacityNanos) {
+        return ahead - capacityNanos;
+      }
+      if (fullAt.compareAndSet(current, next)) {
+        return 0L;
+      }
+    }
+  }
+}
@@ -0,0 +1,21 @@
+package com.streamline.task_management_app_java.repository;
+
+import com.streamline.task_management_app_java.domain.ActivityLog;
+import com.streamline.task_management_app_java.domain.EntityType;
+import java.util.List;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+public interface ActivityLogRepository extends JpaRepository<ActivityLog, Long> {
+
+  /** Newest first, keyset on id. */
+  @Query("select a from ActivityLog a where a.entityType = :entityType and a.entityId = :entityId "
+      + "and a.id < :before order by a.id desc")
+  List<ActivityLog> findByEntity(EntityType entityType, Long entityId, Long before, Limit limit);
+
+  /** Newest first; includes the activity of the project's tasks. */
+  @Query("select a from ActivityLog a where a.projectId = :projectId and a.id < :before "
+      + "order by a.id desc")
+  List<ActivityLog> findByProject(Long projectId, Long before, Limit limit);
+}
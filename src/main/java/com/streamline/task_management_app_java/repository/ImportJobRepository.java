@@ -0,0 +1,6 @@
+package com.streamline.task_management_app_java.repository;
+
+import com.streamline.task_management_app_java.domain.ImportJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ImportJobRepository extends JpaRepository<ImportJob, Long> {}
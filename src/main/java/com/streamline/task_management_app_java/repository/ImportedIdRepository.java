@@ -0,0 +1,11 @@
+package com.streamline.task_management_app_java.repository;
+
+import com.streamline.task_management_app_java.domain.ImportedId;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ImportedIdRepository extends JpaRepository<ImportedId, Long> {
+
+  List<ImportedId> findByJobIdAndSourceIdIn(Long jobId, Collection<Long> sourceIds);
+}
@@ -3,12 +3,66 @@ package com.streamline.task_management_app_java.repository;
 import com.streamline.task_management_app_java.domain.Project;
 import com.streamline.task_management_app_java.domain.ProjectStatus;
 
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface ProjectRepository extends JpaRepository<Project, Long> {
 
-  @Query("select p from Project p where p.status = :status")
-  List<Project> findAllByStatus(ProjectStatus status);
+  @Query("select new com.streamline.task_management_app_java.repository.ProjectTenantRow("
+      + "p.id, p.tenantId) from Project p")
+  List<ProjectTenantRow> findAllTenantRows();
+
+  @Query("select p from Project p where p.id > :cursor order by p.id")
+  List<Project> findPage(Long cursor, Limit limit);
+
+  @Query("select p from Project p where p.status = :status and p.id > :cursor order by p.id")
+  List<Project> findPageByStatus(ProjectStatus status, Long cursor, Limit limit);
+
+  @QueryHints({
+    @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+    @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+  })
+  @Query("select p from Project p order by p.id")
+  Stream<Project> streamAll();
+
+  @QueryHints({
+    @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+    @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+  })
+  @Query("select p from Project p where p.status = :status order by p.id")
+  Stream<Project> streamAllByStatus(ProjectStatus status);
+
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+  @Query("select new com.streamline.task_management_app_java.repository.ProjectTransferRow("
+      + "p.id, p.name, p.status) from Project p order by p.id")
+  Stream<ProjectTransferRow> streamTransferRows();
+
+  /** Keyset scan over {@code (updated_at, id)} for delta sync. */
+  @Query("select p from Project p where p.updatedAt < :until "
+      + "and (p.updatedAt > :at or (p.updatedAt = :at and p.id > :id)) order by p.updatedAt, p.id")
+  List<Project> findChangedAfter(LocalDateTime at, Long id, LocalDateTime until, Limit limit);
+
+  /** Bypasses the {@code Project.tasks} cascade; delete the tasks first. */
+  @Transactional
+  @Modifying
+  @Query("delete from Project p where p.id = :id")
+  int deleteProjectById(Long id);
+
+  @Query("select p.version from Project p where p.id = :id")
+  Optional<Long> findVersionById(Long id);
+
+  @Transactional
+  @Modifying
+  @Query("delete from Project p where p.id = :id and p.version = :version")
+  int deleteProjectByIdAndVersion(Long id, Long version);
 }
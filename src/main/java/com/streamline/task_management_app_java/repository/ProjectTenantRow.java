@@ -0,0 +1,3 @@
+package com.streamline.task_management_app_java.repository;
+
+public record ProjectTenantRow(Long id, String tenantId) {}
@@ -0,0 +1,9 @@
+package com.streamline.task_management_app_java.repository;
+
+import com.streamline.task_management_app_java.domain.ProjectStatus;
+
+/**
+ * One project line of an export file. On import a new id is given, and {@code id} is kept only to
+ * link the tasks of a task import that names this import.
+ */
+public record ProjectTransferRow(Long id, String name, ProjectStatus status) {}
@@ -0,0 +1,23 @@
+package com.streamline.task_management_app_java.repository;
+
+import com.streamline.task_management_app_java.controller.dto.TaskStatusTransitionRequest;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/** Set-based task updates that never load the affected entities. */
+public interface TaskBulkUpdateRepository {
+
+  /**
+   * Returns the number of tasks whose status changed; their {@code updatedAt} is set to {@code now}
+   * and their version is incremented.
+   */
+  int transitionStatus(Long projectId, TaskStatusTransitionRequest request, LocalDateTime now);
+
+  /** Same as above, restricted to the tasks with the given ids. */
+  int transitionStatus(
+      Long projectId, TaskStatusTransitionRequest request, LocalDateTime now, Collection<Long> ids);
+
+  /** Ids of the first {@code limit} tasks {@link #transitionStatus} would change, by id. */
+  List<Long> findIdsToTransition(Long projectId, TaskStatusTransitionRequest request, int limit);
+}
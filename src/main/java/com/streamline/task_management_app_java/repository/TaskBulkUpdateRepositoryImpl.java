@@ -0,0 +1,96 @@
+package com.streamline.task_management_app_java.repository;
+
+import com.streamline.task_management_app_java.controller.dto.TaskStatusTransitionRequest;
+import com.streamline.task_management_app_java.domain.Task;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Builds one {@code update task set status = ?, updated_at = ?, version = version + 1 where
+ * project_id = ? and ...}. Tasks already in the target status are excluded so they keep their
+ * {@code updatedAt} and version. The id listing uses the same predicates.
+ */
+class TaskBulkUpdateRepositoryImpl implements TaskBulkUpdateRepository {
+
+  @PersistenceContext private EntityManager entityManager;
+
+  @Override
+  public int transitionStatus(Long projectId, TaskStatusTransitionRequest request, LocalDateTime now) {
+    return update(projectId, request, now, null);
+  }
+
+  @Override
+  public int transitionStatus(
+      Long projectId,
+      TaskStatusTransitionRequest request,
+      LocalDateTime now,
+      Collection<Long> ids) {
+    return update(projectId, request, now, ids);
+  }
+
+  @Override
+  public List<Long> findIdsToTransition(
+      Long projectId, TaskStatusTransitionRequest request, int limit) {
+    CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+    CriteriaQuery<Long> query = cb.createQuery(Long.class);
+    Root<Task> root = query.from(Task.class);
+    Path<Long> id = root.get("id");
+    query
+        .select(id)
+        .where(predicates(cb, root, projectId, request, null))
+        .orderBy(cb.asc(id));
+    return entityManager.createQuery(query).setMaxResults(limit).getResultList();
+  }
+
+  private int update(
+      Long projectId,
+      TaskStatusTransitionRequest request,
+      LocalDateTime now,
+      Collection<Long> ids) {
+    CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+    CriteriaUpdate<Task> update = cb.createCriteriaUpdate(Task.class);
+    Root<Task> root = update.from(Task.class);
+
+    Path<Long> version = root.get("version");
+    update
+        .set(root.get("status"), request.targetStatus())
+        .set(root.get("updatedAt"), now)
+        .set(version, cb.sum(version, 1L))
+        .where(predicates(cb, root, projectId, request, ids));
+    return entityManager.createQuery(update).executeUpdate();
+  }
+
+  private static Predicate[] predicates(
+      CriteriaBuilder cb,
+      Root<Task> root,
+      Long projectId,
+      TaskStatusTransitionRequest request,
+      Collection<Long> ids) {
+    List<Predicate> predicates = new ArrayList<>();
+    predicates.add(cb.equal(root.get("project").get("id"), projectId));
+    if (request.status() != null && !request.status().isEmpty()) {
+      predicates.add(root.get("status").in(request.status()));
+    }
+    if (request.priority() != null && !request.priority().isEmpty()) {
+      predicates.add(root.get("priority").in(request.priority()));
+    }
+    if (request.dueBefore() != null) {
+      predicates.add(cb.lessThan(root.get("dueDate"), request.dueBefore()));
+    }
+    predicates.add(cb.notEqual(root.get("status"), request.targetStatus()));
+    if (ids != null) {
+      predicates.add(root.get("id").in(ids));
+    }
+    return predicates.toArray(Predicate[]::new);
+  }
+}
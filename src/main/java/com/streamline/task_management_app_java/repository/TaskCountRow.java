@@ -0,0 +1,6 @@
+package com.streamline.task_management_app_java.repository;
+
+import com.streamline.task_management_app_java.domain.Priority;
+import com.streamline.task_management_app_java.domain.Status;
+
+public record TaskCountRow(Long projectId, Status status, Priority priority, Long count) {}
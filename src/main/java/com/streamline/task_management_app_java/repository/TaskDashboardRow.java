@@ -0,0 +1,24 @@
+package com.streamline.task_management_app_java.repository;
+
+import com.streamline.task_management_app_java.domain.Priority;
+import com.streamline.task_management_app_java.domain.Status;
+import java.time.LocalDateTime;
+
+/** Row of {@link TaskRepository#findTopTasksByProjectIds}; getters match the quoted aliases. */
+public interface TaskDashboardRow {
+
+  Long getId();
+
+  Long getProjectId();
+
+  String getName();
+
+  Status getStatus();
+
+  Priority getPriority();
+
+  LocalDateTime getDueDate();
+
+  /** Matching tasks of the whole project, not only the returned ones. */
+  Long getTaskCount();
+}
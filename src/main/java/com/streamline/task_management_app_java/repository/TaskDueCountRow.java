@@ -0,0 +1,5 @@
+package com.streamline.task_management_app_java.repository;
+
+import java.time.LocalDateTime;
+
+public record TaskDueCountRow(Long projectId, LocalDateTime dueDate, Long count) {}
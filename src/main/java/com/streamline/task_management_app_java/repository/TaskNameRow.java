@@ -0,0 +1,3 @@
+package com.streamline.task_management_app_java.repository;
+
+public record TaskNameRow(Long id, String tenantId, Long projectId, String name) {}
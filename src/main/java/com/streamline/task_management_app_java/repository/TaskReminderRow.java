@@ -0,0 +1,13 @@
+package com.streamline.task_management_app_java.repository;
+
+import com.streamline.task_management_app_java.domain.Status;
+import java.time.LocalDateTime;
+
+/** Read across tenants by the reminder scheduler, so it carries the tenant of its task. */
+public record TaskReminderRow(
+    Long id,
+    String tenantId,
+    Long projectId,
+    String name,
+    Status status,
+    LocalDateTime dueDate) {}
@@ -1,14 +1,117 @@
 package com.streamline.task_management_app_java.repository;
 
-import java.util.Optional;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.streamline.task_management_app_java.domain.Status;
 import com.streamline.task_management_app_java.domain.Task;
 
-public interface TaskRepository extends JpaRepository<Task, Long> {
+public interface TaskRepository
+        extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task>, TaskBulkUpdateRepository {
 
-    @Query("select t from Task t join fetch t.project where t.id = :id")
-    Optional<Task> findById(Long id);
+    @Query("select count(t) from Task t where t.project.id = :projectId")
+    long countByProjectId(Long projectId);
+
+    @Query("select t.id from Task t where t.project.id = :projectId order by t.id")
+    List<Long> findIdsByProjectId(Long projectId, Limit limit);
+
+    @Query("select new com.streamline.task_management_app_java.repository.TaskCountRow("
+            + "t.project.id, t.status, t.priority, count(t)) "
+            + "from Task t group by t.project.id, t.status, t.priority")
+    List<TaskCountRow> countGroupByProjectStatusPriority();
+
+    @Query("select new com.streamline.task_management_app_java.repository.TaskCountRow("
+            + "t.project.id, t.status, t.priority, count(t)) "
+            + "from Task t where t.project.id = :projectId group by t.project.id, t.status, t.priority")
+    List<TaskCountRow> countGroupByStatusPriority(Long projectId);
+
+    @Query("select new com.streamline.task_management_app_java.repository.TaskDueCountRow("
+            + "t.project.id, t.dueDate, count(t)) "
+            + "from Task t where t.status in :statuses and t.dueDate is not null "
+            + "group by t.project.id, t.dueDate")
+    List<TaskDueCountRow> countGroupByProjectDueDate(Collection<Status> statuses);
+
+    @Query("select new com.streamline.task_management_app_java.repository.TaskDueCountRow("
+            + "t.project.id, t.dueDate, count(t)) "
+            + "from Task t where t.project.id = :projectId and t.status in :statuses "
+            + "and t.dueDate is not null group by t.project.id, t.dueDate")
+    List<TaskDueCountRow> countGroupByDueDate(Long projectId, Collection<Status> statuses);
+
+    /**
+     * Forward-only cursor over every task for export. Rows are plain values, so nothing
+     * accumulates in the persistence context however many are read.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select new com.streamline.task_management_app_java.repository.TaskTransferRow("
+            + "t.id, t.project.id, t.name, t.status, t.priority, t.dueDate) "
+            + "from Task t order by t.id")
+    Stream<TaskTransferRow> streamTransferRows();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select new com.streamline.task_management_app_java.repository.TaskTransferRow("
+            + "t.id, t.project.id, t.name, t.status, t.priority, t.dueDate) from Task t "
+            + "where t.project.id = :projectId order by t.id")
+    Stream<TaskTransferRow> streamTransferRowsByProjectId(Long projectId);
+
+    /** Id-ordered keyset scan of names only, for rebuilding the search index. */
+    @Query("select new com.streamline.task_management_app_java.repository.TaskNameRow("
+            + "t.id, t.tenantId, t.project.id, t.name) from Task t "
+            + "where t.id > :after order by t.id")
+    List<TaskNameRow> findNamesAfter(Long after, Limit limit);
+
+    /** Open tasks due in {@code [from, to)}, served by {@code idx_task_due_date}. */
+    @Query("select new com.streamline.task_management_app_java.repository.TaskReminderRow("
+            + "t.id, t.tenantId, t.project.id, t.name, t.status, t.dueDate) from Task t "
+            + "where t.dueDate >= :from and t.dueDate < :to and t.status in :statuses")
+    List<TaskReminderRow> findReminderRowsDueBetween(
+            LocalDateTime from, LocalDateTime to, Collection<Status> statuses);
+
+    @Query("select new com.streamline.task_management_app_java.repository.TaskReminderRow("
+            + "t.id, t.tenantId, t.project.id, t.name, t.status, t.dueDate) from Task t "
+            + "where t.id in :ids")
+    List<TaskReminderRow> findReminderRows(Collection<Long> ids);
+
+    /**
+     * The first {@code limit} tasks of every given project by due date, with each project's count of
+     * matching tasks, in one statement instead of one lazy load of {@code Project.tasks} per project.
+     * Native queries bypass the tenant filter, so the tenant is passed in explicitly.
+     */
+    @Query(nativeQuery = true, value = "select r.id as \"id\", r.project_id as \"projectId\", "
+            + "r.name as \"name\", r.status as \"status\", r.priority as \"priority\", "
+            + "r.due_date as \"dueDate\", r.task_count as \"taskCount\" "
+            + "from (select t.id, t.project_id, t.name, t.status, t.priority, t.due_date, "
+            + "row_number() over (partition by t.project_id order by t.due_date nulls last, t.id) as rn, "
+            + "count(*) over (partition by t.project_id) as task_count "
+            + "from task t where t.tenant_id = :tenantId and t.project_id in (:projectIds) "
+            + "and t.status in (:statuses)) r "
+            + "where r.rn <= :limit order by r.project_id, r.rn")
+    List<TaskDashboardRow> findTopTasksByProjectIds(
+            String tenantId, Collection<Long> projectIds, Collection<String> statuses, int limit);
+
+    /** Keyset scan over {@code (updated_at, id)} for delta sync. */
+    @Query("select t from Task t where t.updatedAt < :until "
+            + "and (t.updatedAt > :at or (t.updatedAt = :at and t.id > :id)) order by t.updatedAt, t.id")
+    List<Task> findChangedAfter(LocalDateTime at, Long id, LocalDateTime until, Limit limit);
+
+    @Transactional
+    @Modifying
+    @Query("delete from Task t where t.project.id = :projectId")
+    int deleteAllByProjectId(Long projectId);
+
+    @Transactional
+    @Modifying
+    @Query("delete from Task t where t.id in :ids")
+    int deleteAllByIdIn(Collection<Long> ids);
 }
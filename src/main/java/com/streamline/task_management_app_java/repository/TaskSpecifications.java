@@ -0,0 +1,66 @@
+package com.streamline.task_management_app_java.repository;
+
+import com.streamline.task_management_app_java.controller.dto.TaskCursor;
+import com.streamline.task_management_app_java.controller.dto.TaskSearchCondition;
+import com.streamline.task_management_app_java.domain.Task;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Builds the task listing query. The predicates are laid out as {@code project_id = ? and status in
+ * (...) and due_date between ? and ?} so they line up with the composite indexes on {@link Task}.
+ */
+public final class TaskSpecifications {
+
+  private TaskSpecifications() {}
+
+  public static Specification<Task> search(
+      Long projectId, TaskSearchCondition condition, TaskCursor after) {
+    return (root, query, cb) -> {
+      List<Predicate> predicates = new ArrayList<>();
+      predicates.add(cb.equal(root.get("project").get("id"), projectId));
+
+      if (condition.status() != null && !condition.status().isEmpty()) {
+        predicates.add(root.get("status").in(condition.status()));
+      }
+      if (condition.priority() != null && !condition.priority().isEmpty()) {
+        predicates.add(root.get("priority").in(condition.priority()));
+      }
+
+      Path<LocalDateTime> dueDate = root.get("dueDate");
+      if (condition.dueFrom() != null) {
+        predicates.add(cb.greaterThanOrEqualTo(dueDate, condition.dueFrom()));
+      }
+      if (condition.dueTo() != null) {
+        predicates.add(cb.lessThan(dueDate, condition.dueTo()));
+      }
+
+      if (after != null) {
+        Path<Long> id = root.get("id");
+        predicates.add(
+            switch (after.sort()) {
+              case ID -> cb.greaterThan(id, after.id());
+              case DUE_DATE -> afterDueDate(cb, dueDate, id, after);
+            });
+      }
+      return cb.and(predicates.toArray(Predicate[]::new));
+    };
+  }
+
+  /** Tasks without a due date sort last, so they follow every dated one and each other by id. */
+  private static Predicate afterDueDate(
+      CriteriaBuilder cb, Path<LocalDateTime> dueDate, Path<Long> id, TaskCursor after) {
+    if (after.dueDate() == null) {
+      return cb.and(cb.isNull(dueDate), cb.greaterThan(id, after.id()));
+    }
+    return cb.or(
+        cb.greaterThan(dueDate, after.dueDate()),
+        cb.and(cb.equal(dueDate, after.dueDate()), cb.greaterThan(id, after.id())),
+        cb.isNull(dueDate));
+  }
+}
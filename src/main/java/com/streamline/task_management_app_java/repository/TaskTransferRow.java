@@ -0,0 +1,14 @@
+package com.streamline.task_management_app_java.repository;
+
+import com.streamline.task_management_app_java.domain.Priority;
+import com.streamline.task_management_app_java.domain.Status;
+import java.time.LocalDateTime;
+
+/** One task line of an export file; on import {@code id} is ignored and a new one is assigned. */
+public record TaskTransferRow(
+    Long id,
+    Long projectId,
+    String name,
+    Status status,
+    Priority priority,
+    LocalDateTime dueDate) {}
@@ -0,0 +1,22 @@
+package com.streamline.task_management_app_java.repository;
+
+import com.streamline.task_management_app_java.domain.Tombstone;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface TombstoneRepository extends JpaRepository<Tombstone, Long> {
+
+  @Query("select t from Tombstone t where t.deletedAt < :until "
+      + "and (t.deletedAt > :at or (t.deletedAt = :at and t.id > :id)) order by t.deletedAt, t.id")
+  List<Tombstone> findDeletedAfter(LocalDateTime at, Long id, LocalDateTime until, Limit limit);
+
+  @Transactional
+  @Modifying
+  @Query("delete from Tombstone t where t.deletedAt < :before")
+  int deleteAllByDeletedAtBefore(LocalDateTime before);
+}
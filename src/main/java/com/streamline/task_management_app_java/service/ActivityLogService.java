@@ -0,0 +1,266 @@
+package com.streamline.task_management_app_java.service;
+
+import com.streamline.task_management_app_java.controller.dto.ActivityLogResponse;
+import com.streamline.task_management_app_java.controller.dto.CursorPage;
+import com.streamline.task_management_app_java.domain.ActivityLog;
+import com.streamline.task_management_app_java.domain.ActivityType;
+import com.streamline.task_management_app_java.domain.EntityType;
+import com.streamline.task_management_app_java.repository.ActivityLogRepository;
+import com.streamline.task_management_app_java.service.event.ChangeType;
+import com.streamline.task_management_app_java.service.event.ProjectChangedEvent;
+import com.streamline.task_management_app_java.service.event.TaskChangedEvent;
+import com.streamline.task_management_app_java.service.event.TaskSnapshot;
+import com.streamline.task_management_app_java.service.event.TasksBulkChangedEvent;
+import com.streamline.task_management_app_java.tenant.TenantContext;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.StringUtils;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Write-behind activity log. Committed change events are turned into entries on the request
+ * thread and handed to a bounded lock-free queue; one writer thread appends them with batched
+ * inserts every {@code app.activity-log.flush-interval} or as soon as a batch is full. When the
+ * queue is full new entries are dropped and counted instead of slowing down writes, so the log can
+ * lag (and, after a crash, miss) the last moments of changes.
+ *
+ * <p>Entries take their tenant from the request that made the change; a batch can mix tenants and
+ * is appended as root.
+ */
+@Slf4j
+@Service
+public class ActivityLogService {
+
+  /** Who made the change; this application has no authentication, so the client names itself. */
+  public static final String ACTOR_HEADER = "X-Actor";
+
+  static final String ANONYMOUS = "anonymous";
+  static final String SYSTEM = "system";
+
+  private static final int MAX_PAGE_SIZE = 100;
+  private static final int MAX_ACTOR_LENGTH = 100;
+
+  private final ActivityLogRepository activityLogRepository;
+  private final int capacity;
+  private final int batchSize;
+  private final Duration flushInterval;
+
+  private final ConcurrentLinkedQueue<ActivityLog> queue = new ConcurrentLinkedQueue<>();
+  // Reserved slots; incremented before an entry is queued, so it never exceeds capacity.
+  private final AtomicInteger depth = new AtomicInteger();
+  private final Thread writer;
+  private volatile boolean running = true;
+
+  private final Timer flushTimer;
+  private final Counter written;
+  private final Counter dropped;
+  private final Counter failed;
+
+  public ActivityLogService(
+      ActivityLogRepository activityLogRepository,
+      ObjectProvider<MeterRegistry> meterRegistry,
+      @Value("${app.activity-log.capacity:10000}") int capacity,
+      @Value("${app.activity-log.batch-size:500}") int batchSize,
+      @Value("${app.activity-log.flush-interval:200ms}") Duration flushInterval) {
+    this.activityLogRepository = activityLogRepository;
+    this.capacity = capacity;
+    this.batchSize = batchSize;
+    this.flushInterval = flushInterval;
+    this.writer = Thread.ofPlatform().name("activity-log-writer").daemon().unstarted(this::run);
+
+    MeterRegistry registry = meterRegistry.getIfAvailable(SimpleMeterRegistry::new);
+    registry.gauge("app.activity.queue.depth", depth);
+    this.flushTimer = Timer.builder("app.activity.flush")
+        .description("Time to append one batch of activity log entries")
+        .publishPercentiles(0.5, 0.95, 0.99)
+        .register(registry);
+    this.written = registry.counter("app.activity.written");
+    this.dropped = registry.counter("app.activity.dropped");
+    this.failed = registry.counter("app.activity.failed");
+  }
+
+  @PostConstruct
+  void start() {
+    writer.start();
+  }
+
+  /** Stops the writer and appends whatever is still queued; runs before the DataSource closes. */
+  @PreDestroy
+  void shutdown() throws InterruptedException {
+    running = false;
+    LockSupport.unpark(writer);
+    writer.join(flushInterval.toMillis() * 10);
+    while (flush() > 0) {
+      // Drain the remaining batches on the closing thread.
+    }
+  }
+
+  public CursorPage<ActivityLogResponse> getTaskActivity(Long taskId, Long cursor, int size) {
+    int pageSize = Math.clamp(size, 1, MAX_PAGE_SIZE);
+    return toPage(activityLogRepository.findByEntity(
+        EntityType.TASK, taskId, before(cursor), Limit.of(pageSize + 1)), pageSize);
+  }
+
+  public CursorPage<ActivityLogResponse> getProjectActivity(Long projectId, Long cursor, int size) {
+    int pageSize = Math.clamp(size, 1, MAX_PAGE_SIZE);
+    return toPage(activityLogRepository.findByProject(
+        projectId, before(cursor), Limit.of(pageSize + 1)), pageSize);
+  }
+
+  @TransactionalEventListener
+  public void onProjectChanged(ProjectChangedEvent event) {
+    String details = event.name() == null ? null : "name=" + event.name();
+    offer(new ActivityLog(EntityType.PROJECT, event.projectId(), event.projectId(),
+        toActivityType(event.type()), currentActor(), details, LocalDateTime.now()));
+  }
+
+  @TransactionalEventListener
+  public void onTaskChanged(TaskChangedEvent event) {
+    offer(new ActivityLog(EntityType.TASK, event.taskId(), event.projectId(),
+        toActivityType(event.type()), currentActor(), describe(event), LocalDateTime.now()));
+  }
+
+  @TransactionalEventListener
+  public void onTasksBulkChanged(TasksBulkChangedEvent event) {
+    String details = "status=" + event.targetStatus() + " on " + event.updatedTasks() + " tasks";
+    offer(new ActivityLog(EntityType.TASK, null, event.projectId(), ActivityType.BULK_UPDATED,
+        currentActor(), details, LocalDateTime.now()));
+  }
+
+  /** Queues an entry without blocking; false when the queue is full and the entry was dropped. */
+  boolean offer(ActivityLog entry) {
+    int reserved;
+    do {
+      reserved = depth.get();
+      if (reserved >= capacity) {
+        dropped.increment();
+        return false;
+      }
+    } while (!depth.compareAndSet(reserved, reserved + 1));
+    queue.offer(entry);
+    if (reserved + 1 >= batchSize) {
+      LockSupport.unpark(writer);
+    }
+    return true;
+  }
+
+  /** Appends up to one batch; returns how many entries were taken from the queue. */
+  int flush() {
+    List<ActivityLog> batch = new ArrayList<>(Math.min(batchSize, depth.get()));
+    ActivityLog entry;
+    while (batch.size() < batchSize && (entry = queue.poll()) != null) {
+      batch.add(entry);
+    }
+    if (batch.isEmpty()) {
+      return 0;
+    }
+    depth.addAndGet(-batch.size());
+    long started = System.nanoTime();
+    try {
+      TenantContext.runAsRoot(() -> activityLogRepository.saveAll(batch));
+      written.increment(batch.size());
+    } catch (RuntimeException e) {
+      failed.increment(batch.size());
+      log.error("Failed to append {} activity log entries", batch.size(), e);
+    } finally {
+      flushTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+    }
+    return batch.size();
+  }
+
+  int queueDepth() {
+    return depth.get();
+  }
+
+  private void run() {
+    while (running) {
+      if (flush() < batchSize) {
+        LockSupport.parkNanos(flushInterval.toNanos());
+      }
+    }
+  }
+
+  private static CursorPage<ActivityLogResponse> toPage(List<ActivityLog> fetched, int pageSize) {
+    return CursorPage.of(
+        fetched.stream().map(ActivityLogResponse::of).toList(),
+        pageSize,
+        activity -> String.valueOf(activity.id()));
+  }
+
+  private static long before(Long cursor) {
+    return cursor == null ? Long.MAX_VALUE : cursor;
+  }
+
+  private static ActivityType toActivityType(ChangeType type) {
+    return switch (type) {
+      case CREATED -> ActivityType.CREATED;
+      case UPDATED -> ActivityType.UPDATED;
+      case DELETED -> ActivityType.DELETED;
+    };
+  }
+
+  /** The actor header of the current request, or {@link #SYSTEM} for background work. */
+  private static String currentActor() {
+    RequestAttributes request = RequestContextHolder.getRequestAttributes();
+    if (!(request instanceof ServletRequestAttributes attributes)) {
+      return SYSTEM;
+    }
+    String actor = attributes.getRequest().getHeader(ACTOR_HEADER);
+    if (!StringUtils.hasText(actor)) {
+      return ANONYMOUS;
+    }
+    return truncate(actor.strip(), MAX_ACTOR_LENGTH);
+  }
+
+  /** All fields of a created or deleted task, only the changed ones of an update. */
+  static String describe(TaskChangedEvent event) {
+    TaskSnapshot before = event.before();
+    TaskSnapshot after = event.after();
+    StringJoiner details = new StringJoiner(", ");
+    if (before == null || after == null) {
+      TaskSnapshot task = event.current();
+      details.add("name=" + task.name())
+          .add("status=" + task.status())
+          .add("priority=" + task.priority())
+          .add("dueDate=" + task.dueDate());
+    } else {
+      addChange(details, "name", before.name(), after.name());
+      addChange(details, "status", before.status(), after.status());
+      addChange(details, "priority", before.priority(), after.priority());
+      addChange(details, "dueDate", before.dueDate(), after.dueDate());
+    }
+    return truncate(details.toString(), ActivityLog.MAX_DETAILS_LENGTH);
+  }
+
+  private static void addChange(StringJoiner details, String field, Object before, Object after) {
+    if (!Objects.equals(before, after)) {
+      details.add(field + ": " + before + " -> " + after);
+    }
+  }
+
+  private static String truncate(String value, int maxLength) {
+    return value.length() <= maxLength ? value : value.substring(0, maxLength);
+  }
+}
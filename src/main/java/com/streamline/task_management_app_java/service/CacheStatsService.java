@@ -0,0 +1,26 @@
+package com.streamline.task_management_app_java.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.streamline.task_management_app_java.controller.dto.CacheStatsResponse;
+import java.util.List;
+import java.util.Objects;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+
+@RequiredArgsConstructor
+@Service
+public class CacheStatsService {
+
+  private final CacheManager cacheManager;
+
+  public List<CacheStatsResponse> getStats() {
+    return cacheManager.getCacheNames().stream()
+        .sorted()
+        .map(cacheManager::getCache)
+        .filter(Objects::nonNull)
+        .filter(cache -> cache.getNativeCache() instanceof Cache<?, ?>)
+        .map(cache -> CacheStatsResponse.of(cache.getName(), (Cache<?, ?>) cache.getNativeCache()))
+        .toList();
+  }
+}
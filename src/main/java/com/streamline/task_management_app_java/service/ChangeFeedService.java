@@ -0,0 +1,207 @@
+package com.streamline.task_management_app_java.service;
+
+import com.streamline.task_management_app_java.controller.dto.ChangeEventResponse;
+import com.streamline.task_management_app_java.domain.EntityType;
+import com.streamline.task_management_app_java.service.event.ChangeType;
+import com.streamline.task_management_app_java.service.event.ProjectChangedEvent;
+import com.streamline.task_management_app_java.service.event.TaskChangedEvent;
+import com.streamline.task_management_app_java.service.event.TasksBulkChangedEvent;
+import com.streamline.task_management_app_java.tenant.TenantContext;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Server-sent change feed of committed project and task changes.
+ *
+ * <p>The last {@code app.change-feed.buffer-size} events are kept in a ring buffer so a client can
+ * resume from its last event id. Every subscriber gets its own bounded queue drained by its own
+ * virtual thread; a subscriber that falls behind is disconnected instead of slowing down writers,
+ * and catches up from the ring buffer when it reconnects. A client whose last id has already left
+ * the ring buffer gets a {@code reset} event and must reload.
+ *
+ * <p>Event ids are shared by all tenants, and a subscriber only gets the events of the tenant it
+ * subscribed as, so the ids it sees have gaps.
+ */
+@Slf4j
+@Service
+public class ChangeFeedService {
+
+  private final Entry[] ring;
+  private final int subscriberBuffer;
+  private final Duration heartbeat;
+  private final Duration timeout;
+
+  private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+  private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+  // Id of the newest event, 0 before the first one. Guarded by this.
+  private long lastId;
+
+  public ChangeFeedService(
+      @Value("${app.change-feed.buffer-size:4096}") int bufferSize,
+      @Value("${app.change-feed.subscriber-buffer:256}") int subscriberBuffer,
+      @Value("${app.change-feed.heartbeat:15s}") Duration heartbeat,
+      @Value("${app.change-feed.timeout:30m}") Duration timeout) {
+    this.ring = new Entry[bufferSize];
+    this.subscriberBuffer = subscriberBuffer;
+    this.heartbeat = heartbeat;
+    this.timeout = timeout;
+  }
+
+  /** Streams every event after {@code lastEventId} (null for only new events). */
+  public SseEmitter subscribe(Long lastEventId) {
+    SseEmitter emitter = new SseEmitter(timeout.toMillis());
+    Subscriber subscriber = new Subscriber(TenantContext.current(), emitter, subscriberBuffer);
+    List<ChangeEventResponse> replay;
+    // Snapshot and registration happen under the same lock as append, so nothing is missed or sent twice.
+    synchronized (this) {
+      replay = lastEventId == null ? List.of() : eventsAfter(lastEventId);
+      subscribers.add(subscriber);
+    }
+    emitter.onCompletion(subscriber::close);
+    emitter.onTimeout(subscriber::close);
+    emitter.onError(e -> subscriber.close());
+    senders.execute(() -> send(subscriber, replay));
+    return emitter;
+  }
+
+  @TransactionalEventListener
+  public void onProjectChanged(ProjectChangedEvent event) {
+    append(EntityType.PROJECT, event.type(), event.projectId(), event.projectId());
+  }
+
+  @TransactionalEventListener
+  public void onTaskChanged(TaskChangedEvent event) {
+    append(EntityType.TASK, event.type(), event.taskId(), event.projectId());
+  }
+
+  @TransactionalEventListener
+  public void onTasksBulkChanged(TasksBulkChangedEvent event) {
+    append(EntityType.TASK, ChangeType.UPDATED, null, event.projectId());
+  }
+
+  /** Listeners run on the thread that committed the change, so it has the change's tenant. */
+  synchronized void append(EntityType entity, ChangeType type, Long entityId, Long projectId) {
+    String tenantId = TenantContext.current();
+    ChangeEventResponse event =
+        new ChangeEventResponse(++lastId, entity, type, entityId, projectId, LocalDateTime.now());
+    ring[(int) (event.id() % ring.length)] = new Entry(tenantId, event);
+    for (Subscriber subscriber : subscribers) {
+      if (subscriber.tenantId.equals(tenantId)) {
+        subscriber.offer(event);
+      }
+    }
+  }
+
+  /**
+   * Events of the current tenant after {@code after}, or null when some events were already
+   * overwritten.
+   */
+  synchronized List<ChangeEventResponse> eventsAfter(long after) {
+    long oldest = Math.max(1, lastId - ring.length + 1);
+    if (after < oldest - 1 || after > lastId) {
+      return null;
+    }
+    String tenantId = TenantContext.current();
+    List<ChangeEventResponse> events = new ArrayList<>();
+    for (long id = after + 1; id <= lastId; id++) {
+      Entry entry = ring[(int) (id % ring.length)];
+      if (entry.tenantId().equals(tenantId)) {
+        events.add(entry.event());
+      }
+    }
+    return events;
+  }
+
+  int subscriberCount() {
+    return subscribers.size();
+  }
+
+  private void send(Subscriber subscriber, List<ChangeEventResponse> replay) {
+    SseEmitter emitter = subscriber.emitter;
+    try {
+      if (replay == null) {
+        emitter.send(SseEmitter.event().name("reset").data("Last event id is too old, reload"));
+        emitter.complete();
+        return;
+      }
+      for (ChangeEventResponse event : replay) {
+        send(emitter, event);
+      }
+      while (!subscriber.closed) {
+        if (subscriber.overflowed && subscriber.queue.isEmpty()) {
+          // Everything queued has been sent; the client resumes from the ring buffer.
+          emitter.complete();
+          return;
+        }
+        ChangeEventResponse event = subscriber.queue.poll(heartbeat.toMillis(), TimeUnit.MILLISECONDS);
+        if (event != null) {
+          send(emitter, event);
+        } else {
+          emitter.send(SseEmitter.event().comment("keep-alive"));
+        }
+      }
+    } catch (IOException | IllegalStateException e) {
+      log.debug("Change feed subscriber disconnected: {}", e.getMessage());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      emitter.complete();
+    } finally {
+      subscribers.remove(subscriber);
+    }
+  }
+
+  private void send(SseEmitter emitter, ChangeEventResponse event) throws IOException {
+    emitter.send(SseEmitter.event().id(String.valueOf(event.id())).data(event, MediaType.APPLICATION_JSON));
+  }
+
+  @PreDestroy
+  void shutdown() {
+    subscribers.forEach(subscriber -> subscriber.emitter.complete());
+    senders.shutdownNow();
+  }
+
+  private record Entry(String tenantId, ChangeEventResponse event) {}
+
+  private static final class Subscriber {
+
+    private final String tenantId;
+    private final SseEmitter emitter;
+    private final BlockingQueue<ChangeEventResponse> queue;
+    private volatile boolean overflowed;
+    private volatile boolean closed;
+
+    private Subscriber(String tenantId, SseEmitter emitter, int capacity) {
+      this.tenantId = tenantId;
+      this.emitter = emitter;
+      this.queue = new ArrayBlockingQueue<>(capacity);
+    }
+
+    private void offer(ChangeEventResponse event) {
+      // After the first dropped event nothing more is queued, so the client never sees a gap.
+      if (!overflowed && !queue.offer(event)) {
+        overflowed = true;
+      }
+    }
+
+    private void close() {
+      closed = true;
+    }
+  }
+}
@@ -0,0 +1,91 @@
+package com.streamline.task_management_app_java.service;
+
+import com.streamline.task_management_app_java.controller.dto.CursorPage;
+import com.streamline.task_management_app_java.controller.dto.ProjectDashboardResponse;
+import com.streamline.task_management_app_java.controller.dto.TaskSummaryResponse;
+import com.streamline.task_management_app_java.domain.Project;
+import com.streamline.task_management_app_java.domain.ProjectStatus;
+import com.streamline.task_management_app_java.domain.Status;
+import com.streamline.task_management_app_java.repository.ProjectRepository;
+import com.streamline.task_management_app_java.repository.TaskDashboardRow;
+import com.streamline.task_management_app_java.repository.TaskRepository;
+import com.streamline.task_management_app_java.tenant.TenantContext;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+/**
+ * Projects with their most urgent open tasks for the front page. Every page costs two queries, a
+ * keyset page of projects and one windowed query for the tasks of all of them, regardless of how
+ * many projects or tasks there are.
+ */
+@RequiredArgsConstructor
+@Service
+public class DashboardService {
+
+  public static final int MAX_TASKS_PER_PROJECT = 20;
+  private static final int STREAM_PAGE_SIZE = 100;
+  private static final List<String> OPEN_STATUSES =
+      Status.openStatuses().stream().map(Status::name).toList();
+
+  private final ProjectRepository projectRepository;
+  private final TaskRepository taskRepository;
+
+  public CursorPage<ProjectDashboardResponse> getDashboard(
+      String type, Long cursor, int size, int tasksPerProject) {
+    int pageSize = Math.clamp(size, 1, ProjectService.MAX_PAGE_SIZE);
+    List<Project> projects = findPage(type, cursor, pageSize + 1);
+    // The extra row only signals the next page, so its tasks are not loaded.
+    boolean hasNext = projects.size() > pageSize;
+    List<Project> shown = hasNext ? projects.subList(0, pageSize) : projects;
+    String nextCursor = hasNext ? String.valueOf(shown.getLast().getId()) : null;
+    return new CursorPage<>(toResponses(shown, tasksPerProject), nextCursor, hasNext);
+  }
+
+  /** Walks every matching project page by page; memory stays at one page however many there are. */
+  public void streamDashboard(
+      String type, int tasksPerProject, Consumer<ProjectDashboardResponse> consumer) {
+    long cursor = 0L;
+    List<Project> projects = findPage(type, cursor, STREAM_PAGE_SIZE);
+    while (!projects.isEmpty()) {
+      toResponses(projects, tasksPerProject).forEach(consumer);
+      cursor = projects.getLast().getId();
+      projects = findPage(type, cursor, STREAM_PAGE_SIZE);
+    }
+  }
+
+  private List<Project> findPage(String type, Long cursor, int limit) {
+    long after = cursor == null ? 0L : cursor;
+    return "ALL".equalsIgnoreCase(type)
+        ? projectRepository.findPage(after, Limit.of(limit))
+        : projectRepository.findPageByStatus(ProjectStatus.from(type), after, Limit.of(limit));
+  }
+
+  private List<ProjectDashboardResponse> toResponses(List<Project> projects, int tasksPerProject) {
+    if (projects.isEmpty()) {
+      return List.of();
+    }
+    // At least one row per project carries the open task count.
+    int limit = Math.clamp(tasksPerProject, 1, MAX_TASKS_PER_PROJECT);
+    List<Long> projectIds = projects.stream().map(Project::getId).toList();
+    Map<Long, List<TaskDashboardRow>> rowsByProject = new HashMap<>();
+    for (TaskDashboardRow row :
+        taskRepository.findTopTasksByProjectIds(
+            TenantContext.current(), projectIds, OPEN_STATUSES, limit)) {
+      rowsByProject.computeIfAbsent(row.getProjectId(), id -> new ArrayList<>()).add(row);
+    }
+    return projects.stream()
+        .map(project -> {
+          List<TaskDashboardRow> rows = rowsByProject.getOrDefault(project.getId(), List.of());
+          long openTasks = rows.isEmpty() ? 0 : rows.getFirst().getTaskCount();
+          return ProjectDashboardResponse.of(
+              project, openTasks, rows.stream().map(TaskSummaryResponse::of).toList());
+        })
+        .toList();
+  }
+}
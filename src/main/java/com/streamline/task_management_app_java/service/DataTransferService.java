@@ -0,0 +1,525 @@
+package com.streamline.task_management_app_java.service;
+
+import com.streamline.task_management_app_java.controller.dto.ImportJobResponse;
+import com.streamline.task_management_app_java.domain.EntityType;
+import com.streamline.task_management_app_java.domain.ImportJob;
+import com.streamline.task_management_app_java.domain.ImportedId;
+import com.streamline.task_management_app_java.domain.Priority;
+import com.streamline.task_management_app_java.domain.Project;
+import com.streamline.task_management_app_java.domain.ProjectStatus;
+import com.streamline.task_management_app_java.domain.Status;
+import com.streamline.task_management_app_java.domain.Task;
+import com.streamline.task_management_app_java.domain.TransferFormat;
+import com.streamline.task_management_app_java.repository.ImportJobRepository;
+import com.streamline.task_management_app_java.repository.ImportedIdRepository;
+import com.streamline.task_management_app_java.repository.ProjectRepository;
+import com.streamline.task_management_app_java.repository.ProjectTransferRow;
+import com.streamline.task_management_app_java.repository.TaskRepository;
+import com.streamline.task_management_app_java.repository.TaskTransferRow;
+import com.streamline.task_management_app_java.service.event.ChangeType;
+import com.streamline.task_management_app_java.service.event.ProjectChangedEvent;
+import com.streamline.task_management_app_java.service.event.TaskChangedEvent;
+import com.streamline.task_management_app_java.service.event.TaskSnapshot;
+import com.streamline.task_management_app_java.service.transfer.CsvReader;
+import com.streamline.task_management_app_java.service.transfer.CsvWriter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Bulk export and import of projects and tasks as NDJSON or CSV.
+ *
+ * <p>Exports read a forward-only cursor of plain row values and write each row as it arrives, so
+ * memory stays flat for any table size. Imports parse the upload one row at a time and commit
+ * every {@code app.transfer.batch-size} rows in their own transaction, together with the job's
+ * checkpoint. When an upload breaks off, sending the same file to the same job again skips the rows
+ * that were already committed. Imported rows get new ids and publish the same change events as
+ * rows created through the API. A project import remembers which id each project had in the file,
+ * and a task import created with its id resolves the {@code projectId} of its rows through that,
+ * so exported projects and tasks can be imported together into any database.
+ */
+@Slf4j
+@Service
+public class DataTransferService {
+
+  static final String[] PROJECT_COLUMNS = {"id", "name", "status"};
+  static final String[] TASK_COLUMNS = {"id", "projectId", "name", "status", "priority", "dueDate"};
+
+  // Matches hibernate.jdbc.batch_size so each flush sends exactly one JDBC batch.
+  private static final int FLUSH_SIZE = 50;
+  private static final int MAX_NAME_LENGTH = 255;
+  private static final int READ_BUFFER_SIZE = 64 * 1024;
+
+  private final ProjectRepository projectRepository;
+  private final TaskRepository taskRepository;
+  private final ImportJobRepository importJobRepository;
+  private final ImportedIdRepository importedIdRepository;
+  private final ProjectService projectService;
+  private final ApplicationEventPublisher eventPublisher;
+  private final TransactionTemplate transactionTemplate;
+  private final ObjectMapper objectMapper;
+  private final int batchSize;
+  private final Duration lease;
+
+  private final Timer batchTimer;
+  private final Counter importedRows;
+  private final Counter rejectedRows;
+  private final Counter exportedRows;
+
+  public DataTransferService(
+      ProjectRepository projectRepository,
+      TaskRepository taskRepository,
+      ImportJobRepository importJobRepository,
+      ImportedIdRepository importedIdRepository,
+      ProjectService projectService,
+      ApplicationEventPublisher eventPublisher,
+      TransactionTemplate transactionTemplate,
+      ObjectMapper objectMapper,
+      ObjectProvider<MeterRegistry> meterRegistry,
+      @Value("${app.transfer.batch-size:1000}") int batchSize,
+      @Value("${app.transfer.lease:1m}") Duration lease) {
+    this.projectRepository = projectRepository;
+    this.taskRepository = taskRepository;
+    this.importJobRepository = importJobRepository;
+    this.importedIdRepository = importedIdRepository;
+    this.projectService = projectService;
+    this.eventPublisher = eventPublisher;
+    this.transactionTemplate = transactionTemplate;
+    this.objectMapper = objectMapper;
+    this.batchSize = batchSize;
+    this.lease = lease;
+
+    MeterRegistry registry = meterRegistry.getIfAvailable(SimpleMeterRegistry::new);
+    this.batchTimer = Timer.builder("app.import.batch")
+        .description("Time to parse, save and checkpoint one import batch")
+        .publishPercentiles(0.5, 0.95, 0.99)
+        .register(registry);
+    this.importedRows = registry.counter("app.import.rows", "result", "imported");
+    this.rejectedRows = registry.counter("app.import.rows", "result", "rejected");
+    this.exportedRows = registry.counter("app.export.rows");
+  }
+
+  @Transactional(readOnly = true)
+  public void exportProjects(TransferFormat format, OutputStream out) {
+    try (Stream<ProjectTransferRow> rows = projectRepository.streamTransferRows()) {
+      export(format, out, rows, PROJECT_COLUMNS,
+          row -> new Object[] {row.id(), row.name(), row.status()});
+    }
+  }
+
+  /** Without {@code projectId} the tasks of all projects are exported. */
+  @Transactional(readOnly = true)
+  public void exportTasks(TransferFormat format, Long projectId, OutputStream out) {
+    try (Stream<TaskTransferRow> rows = projectId == null
+        ? taskRepository.streamTransferRows()
+        : taskRepository.streamTransferRowsByProjectId(projectId)) {
+      export(format, out, rows, TASK_COLUMNS, row -> new Object[] {
+          row.id(), row.projectId(), row.name(), row.status(), row.priority(), row.dueDate()});
+    }
+  }
+
+  /**
+   * {@code projectImportId} names the import of the project file that a task file was exported
+   * with; without it the {@code projectId} of task rows refers to projects of this database.
+   */
+  @Transactional
+  public ImportJobResponse createImport(
+      EntityType entityType, TransferFormat format, Long projectImportId) {
+    if (projectImportId != null) {
+      if (entityType != EntityType.TASK
+          || findJob(projectImportId).getEntityType() != EntityType.PROJECT) {
+        throw new IllegalArgumentException(
+            "projectImportId must name a project import and is only used by task imports");
+      }
+    }
+    return ImportJobResponse.of(
+        importJobRepository.save(new ImportJob(entityType, format, projectImportId)));
+  }
+
+  @Transactional(readOnly = true)
+  public ImportJobResponse getImport(Long jobId) {
+    return ImportJobResponse.of(findJob(jobId));
+  }
+
+  /**
+   * Reads {@code body} to the end. The first {@code processedRows} data rows were committed by an
+   * earlier upload to the same job and are skipped. Rows that can't be read or saved are counted
+   * and skipped; only a malformed file or a failed commit stops the import, with everything up to
+   * the last checkpoint kept. While another upload is running the job, this one is refused.
+   */
+  public ImportJobResponse runImport(Long jobId, InputStream body) {
+    ImportJob job = transactionTemplate.execute(status -> {
+      ImportJob started = findJob(jobId);
+      // Without a commit for a whole lease, the upload that ran the job is taken to be gone.
+      started.start(LocalDateTime.now().minus(lease));
+      return started;
+    });
+    BufferedReader reader = new BufferedReader(
+        new InputStreamReader(body, StandardCharsets.UTF_8), READ_BUFFER_SIZE);
+    long startNanos = System.nanoTime();
+    try {
+      long rows = job.getEntityType() == EntityType.PROJECT
+          ? importRows(job, projectRows(job.getFormat(), reader), this::saveProjects)
+          : importRows(job, taskRows(job.getFormat(), reader), this::saveTasks);
+      ImportJob completed = transactionTemplate.execute(status -> {
+        ImportJob current = findJob(jobId);
+        current.complete();
+        return current;
+      });
+      long millis = Math.max(1, (System.nanoTime() - startNanos) / 1_000_000);
+      log.info("Import {} finished: {} rows in {} ms ({} rows/s)",
+          jobId, rows, millis, rows * 1000 / millis);
+      return ImportJobResponse.of(completed);
+    } catch (OptimisticLockingFailureException e) {
+      // Another upload owns the job; its state is not this upload's to change.
+      throw e;
+    } catch (RuntimeException e) {
+      log.warn("Import {} failed", jobId, e);
+      transactionTemplate.executeWithoutResult(status -> findJob(jobId).fail(e.getMessage()));
+      throw e;
+    }
+  }
+
+  private ImportJob findJob(Long jobId) {
+    return importJobRepository.findById(jobId)
+        .orElseThrow(() -> new IllegalArgumentException("Import not found with id: " + jobId));
+  }
+
+  private <T> void export(
+      TransferFormat format,
+      OutputStream out,
+      Stream<T> rows,
+      String[] columns,
+      Function<T, Object[]> fields) {
+    if (format == TransferFormat.NDJSON) {
+      rows.forEach(row -> {
+        writeLine(out, row);
+        exportedRows.increment();
+      });
+      return;
+    }
+    CsvWriter csv = new CsvWriter(
+        new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8)));
+    csv.writeRow((Object[]) columns);
+    rows.forEach(row -> {
+      csv.writeRow(fields.apply(row));
+      exportedRows.increment();
+    });
+    csv.flush();
+  }
+
+  private void writeLine(OutputStream out, Object value) {
+    try {
+      out.write(objectMapper.writeValueAsBytes(value));
+      out.write('\n');
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /** Returns the number of rows read by this upload, skipped ones excluded. */
+  private <T> long importRows(ImportJob job, Supplier<Parsed<T>> rows, RowWriter<T> writer) {
+    long skipped = job.getProcessedRows();
+    for (long i = 0; i < skipped; i++) {
+      if (rows.get() == null) {
+        return 0;
+      }
+    }
+    long read = 0;
+    List<Parsed<T>> batch = new ArrayList<>(batchSize);
+    Parsed<T> row;
+    while ((row = rows.get()) != null) {
+      batch.add(row);
+      if (batch.size() == batchSize) {
+        commit(job.getId(), skipped + read, batch, writer);
+        read += batch.size();
+        batch.clear();
+      }
+    }
+    if (!batch.isEmpty()) {
+      commit(job.getId(), skipped + read, batch, writer);
+      read += batch.size();
+    }
+    return read;
+  }
+
+  private <T> void commit(Long jobId, long offset, List<Parsed<T>> batch, RowWriter<T> writer) {
+    batchTimer.record(() -> transactionTemplate.executeWithoutResult(status -> {
+      List<T> valid = new ArrayList<>(batch.size());
+      List<String> errors = new ArrayList<>();
+      for (int i = 0; i < batch.size(); i++) {
+        Parsed<T> parsed = batch.get(i);
+        if (parsed.error() == null) {
+          valid.add(parsed.row());
+        } else {
+          errors.add("Row " + (offset + i + 1) + ": " + parsed.error());
+        }
+      }
+      ImportJob job = findJob(jobId);
+      errors.addAll(writer.write(job, valid));
+      // Rolls the batch back if another upload moved the checkpoint in the meantime; the version
+      // column catches one committing at the same moment.
+      job.checkpoint(
+          offset, batch.size(), errors.size(), errors.isEmpty() ? null : errors.getLast());
+      importedRows.increment(batch.size() - errors.size());
+      rejectedRows.increment(errors.size());
+    }));
+  }
+
+  private List<String> saveProjects(ImportJob job, List<ProjectTransferRow> rows) {
+    Set<Long> sourceIds = rows.stream()
+        .map(ProjectTransferRow::id)
+        .filter(Objects::nonNull)
+        .collect(Collectors.toSet());
+    // Ids seen in earlier batches of this file, and below the ones of this batch.
+    Set<Long> seen = new HashSet<>();
+    if (!sourceIds.isEmpty()) {
+      importedIdRepository.findByJobIdAndSourceIdIn(job.getId(), sourceIds)
+          .forEach(imported -> seen.add(imported.getSourceId()));
+    }
+    List<String> errors = new ArrayList<>();
+    for (ProjectTransferRow row : rows) {
+      if (row.id() != null && !seen.add(row.id())) {
+        errors.add("Duplicate project id: " + row.id());
+        continue;
+      }
+      ProjectStatus status = row.status() != null ? row.status() : ProjectStatus.TODO;
+      // IDENTITY ids can't be batched; each project is inserted right away.
+      Project project = projectRepository.save(new Project(row.name(), status));
+      if (row.id() != null) {
+        importedIdRepository.save(new ImportedId(job.getId(), row.id(), project.getId()));
+      }
+      eventPublisher.publishEvent(
+          new ProjectChangedEvent(ChangeType.CREATED, project.getId(), project.getName()));
+    }
+    return errors;
+  }
+
+  private List<String> saveTasks(ImportJob job, List<TaskTransferRow> rows) {
+    Set<Long> sourceIds =
+        rows.stream().map(TaskTransferRow::projectId).collect(Collectors.toSet());
+    Map<Long, Long> projectIds = resolveProjectIds(job, sourceIds);
+    Map<Long, Project> projects =
+        projectService.getProjectEntities(Set.copyOf(projectIds.values()));
+    List<String> errors = new ArrayList<>();
+    int pending = 0;
+    for (TaskTransferRow row : rows) {
+      Long projectId = projectIds.get(row.projectId());
+      Project project = projectId == null ? null : projects.get(projectId);
+      if (project == null) {
+        errors.add(job.getProjectImportId() == null
+            ? "Project not found with id: " + row.projectId()
+            : "Project " + row.projectId() + " is not in import " + job.getProjectImportId());
+        continue;
+      }
+      Task task = taskRepository.save(Task.builder()
+          .name(row.name())
+          .status(row.status())
+          .priority(row.priority())
+          .dueDate(row.dueDate())
+          .project(project)
+          .build());
+      eventPublisher.publishEvent(TaskChangedEvent.created(TaskSnapshot.of(task)));
+      if (++pending % FLUSH_SIZE == 0) {
+        taskRepository.flush();
+      }
+    }
+    return errors;
+  }
+
+  /** Maps the {@code projectId} values of task rows to projects of this database. */
+  private Map<Long, Long> resolveProjectIds(ImportJob job, Set<Long> sourceIds) {
+    if (job.getProjectImportId() == null) {
+      return sourceIds.stream().collect(Collectors.toMap(Function.identity(), Function.identity()));
+    }
+    return importedIdRepository.findByJobIdAndSourceIdIn(job.getProjectImportId(), sourceIds)
+        .stream()
+        .collect(Collectors.toMap(ImportedId::getSourceId, ImportedId::getTargetId));
+  }
+
+  private Supplier<Parsed<ProjectTransferRow>> projectRows(
+      TransferFormat format, BufferedReader reader) {
+    Supplier<Parsed<ProjectTransferRow>> rows = format == TransferFormat.NDJSON
+        ? ndjsonRows(reader, ProjectTransferRow.class)
+        : csvRows(reader, PROJECT_COLUMNS, column -> new ProjectTransferRow(
+            parseLong(column.apply("id")),
+            column.apply("name"),
+            parseEnum(ProjectStatus.class, column.apply("status"))));
+    return validated(rows, row -> checkName(row.name()));
+  }
+
+  private Supplier<Parsed<TaskTransferRow>> taskRows(TransferFormat format, BufferedReader reader) {
+    Supplier<Parsed<TaskTransferRow>> rows = format == TransferFormat.NDJSON
+        ? ndjsonRows(reader, TaskTransferRow.class)
+        : csvRows(reader, TASK_COLUMNS, column -> new TaskTransferRow(
+            null,
+            parseLong(column.apply("projectId")),
+            column.apply("name"),
+            parseEnum(Status.class, column.apply("status")),
+            parseEnum(Priority.class, column.apply("priority")),
+            parseDateTime(column.apply("dueDate"))));
+    // Same requirements as TaskCreateRequest.
+    return validated(rows, row -> {
+      String nameError = checkName(row.name());
+      if (nameError != null) {
+        return nameError;
+      }
+      if (row.projectId() == null || row.status() == null || row.priority() == null
+          || row.dueDate() == null) {
+        return "projectId, status, priority and dueDate are required";
+      }
+      return null;
+    });
+  }
+
+  private static String checkName(String name) {
+    if (name == null || name.isBlank()) {
+      return "name is required";
+    }
+    return name.length() > MAX_NAME_LENGTH
+        ? "name is longer than " + MAX_NAME_LENGTH + " characters"
+        : null;
+  }
+
+  /** Turns rows that {@code check} finds a problem with into rejected rows. */
+  private static <T> Supplier<Parsed<T>> validated(
+      Supplier<Parsed<T>> rows, Function<T, String> check) {
+    return () -> {
+      Parsed<T> parsed = rows.get();
+      if (parsed == null || parsed.error() != null) {
+        return parsed;
+      }
+      String error = check.apply(parsed.row());
+      return error == null ? parsed : Parsed.rejected(error);
+    };
+  }
+
+  /** One object per line; blank lines are ignored and not counted as rows. */
+  private <T> Supplier<Parsed<T>> ndjsonRows(BufferedReader reader, Class<T> type) {
+    return () -> {
+      String line;
+      do {
+        line = readLine(reader);
+      } while (line != null && line.isBlank());
+      if (line == null) {
+        return null;
+      }
+      try {
+        return Parsed.of(objectMapper.readValue(line, type));
+      } catch (JacksonException e) {
+        return Parsed.rejected(e.getOriginalMessage());
+      }
+    };
+  }
+
+  /**
+   * The first line names the columns, in any order; columns other than {@code columns} are ignored.
+   * Empty lines are ignored and not counted as rows.
+   */
+  private static <T> Supplier<Parsed<T>> csvRows(
+      BufferedReader reader, String[] columns, Function<Function<String, String>, T> mapper) {
+    CsvReader csv = new CsvReader(reader);
+    List<String> header = csv.next();
+    Map<String, Integer> indexes = new HashMap<>();
+    for (int i = 0; header != null && i < header.size(); i++) {
+      indexes.putIfAbsent(header.get(i), i);
+    }
+    // The id column is optional since imported rows get new ids anyway; project ids are only
+    // needed to link a task import to them.
+    List<String> required = List.of(columns).subList(1, columns.length);
+    if (header != null && !indexes.keySet().containsAll(required)) {
+      throw new IllegalArgumentException(
+          "CSV header must name the columns " + String.join(",", columns) + " but was " + header);
+    }
+    return () -> {
+      List<String> fields;
+      do {
+        fields = csv.next();
+      } while (fields != null && fields.size() == 1 && fields.getFirst() == null);
+      if (fields == null) {
+        return null;
+      }
+      List<String> row = fields;
+      try {
+        return Parsed.of(mapper.apply(column -> {
+          Integer index = indexes.get(column);
+          return index == null || index >= row.size() ? null : row.get(index);
+        }));
+      } catch (RuntimeException e) {
+        return Parsed.rejected(e.getMessage());
+      }
+    };
+  }
+
+  private static String readLine(BufferedReader reader) {
+    try {
+      return reader.readLine();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static Long parseLong(String value) {
+    return value == null ? null : Long.valueOf(value.strip());
+  }
+
+  private static LocalDateTime parseDateTime(String value) {
+    return value == null ? null : LocalDateTime.parse(value.strip());
+  }
+
+  private static <E extends Enum<E>> E parseEnum(Class<E> type, String value) {
+    return value == null ? null : Enum.valueOf(type, value.strip().toUpperCase());
+  }
+
+  /** A data row of the upload, or why it could not be read. */
+  private record Parsed<T>(T row, String error) {
+
+    static <T> Parsed<T> of(T row) {
+      return new Parsed<>(row, null);
+    }
+
+    static <T> Parsed<T> rejected(String error) {
+      return new Parsed<>(null, error);
+    }
+  }
+
+  @FunctionalInterface
+  private interface RowWriter<T> {
+
+    /** Saves one batch of valid rows and returns why any of them were rejected. */
+    List<String> write(ImportJob job, List<T> rows);
+  }
+}
@@ -0,0 +1,228 @@
+package com.streamline.task_management_app_java.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.regex.Pattern;
+
+/**
+ * Term to document id postings kept in a sorted map, so a prefix is a contiguous range of terms.
+ * Writes are serialized; reads take no lock and see each posting set as it is being updated.
+ */
+final class InvertedIndex {
+
+  private static final Pattern SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+  // Rough 64-bit JVM sizes used for the memory estimate: a skip list node with its term and set,
+  // a key set entry with a boxed id, and a document entry with its record, name and project entry.
+  private static final long BYTES_PER_TERM = 160;
+  private static final long BYTES_PER_POSTING = 64;
+  private static final long BYTES_PER_DOCUMENT = 184;
+
+  /**
+   * A prefix spanning more terms than this is checked against the candidate's own name instead of
+   * probing each of its posting sets.
+   */
+  private static final int MAX_PROBED_TERMS = 8;
+
+  private final ConcurrentSkipListMap<String, Set<Long>> postings = new ConcurrentSkipListMap<>();
+  private final Map<Long, Document> documents = new ConcurrentHashMap<>();
+  /** Only touched by the serialized writers. */
+  private final Map<Long, Set<Long>> projectDocuments = new HashMap<>();
+
+  private long postingCount;
+  private long termChars;
+  private long nameChars;
+
+  record Document(Long id, Long projectId, String name) {}
+
+  record Stats(long documents, long terms, long postings, long estimatedBytes) {}
+
+  static List<String> tokenize(String text) {
+    if (text == null || text.isBlank()) {
+      return List.of();
+    }
+    return Arrays.stream(SEPARATOR.split(text.toLowerCase(Locale.ROOT)))
+        .filter(term -> !term.isEmpty())
+        .distinct()
+        .toList();
+  }
+
+  synchronized void put(Long id, Long projectId, String name) {
+    Document previous = documents.put(id, new Document(id, projectId, name));
+    if (previous != null) {
+      nameChars -= length(previous.name());
+      unindex(id, previous.name());
+      unlink(id, previous.projectId());
+    }
+    if (projectId != null) {
+      projectDocuments.computeIfAbsent(projectId, key -> new HashSet<>()).add(id);
+    }
+    nameChars += length(name);
+    for (String term : tokenize(name)) {
+      Set<Long> ids = postings.computeIfAbsent(term, key -> {
+        termChars += key.length();
+        return ConcurrentHashMap.newKeySet();
+      });
+      if (ids.add(id)) {
+        postingCount++;
+      }
+    }
+  }
+
+  synchronized void remove(Long id) {
+    Document removed = documents.remove(id);
+    if (removed != null) {
+      nameChars -= length(removed.name());
+      unindex(id, removed.name());
+      unlink(id, removed.projectId());
+    }
+  }
+
+  synchronized void removeProject(Long projectId) {
+    Set<Long> ids = projectDocuments.get(projectId);
+    if (ids != null) {
+      List.copyOf(ids).forEach(this::remove);
+    }
+  }
+
+  synchronized void clear() {
+    postings.clear();
+    documents.clear();
+    projectDocuments.clear();
+    postingCount = 0;
+    termChars = 0;
+    nameChars = 0;
+  }
+
+  /**
+   * Every query term must be a prefix of some term in the name. Candidates come from the term with
+   * the fewest postings and are checked against the others from smallest to largest, so a rare
+   * term cuts the work short; the walk also stops after {@code limit} hits so short typeahead
+   * prefixes stay cheap.
+   */
+  List<Document> search(String query, int limit) {
+    List<String> terms = tokenize(query);
+    if (terms.isEmpty() || limit <= 0) {
+      return List.of();
+    }
+    List<Range> ranges = new ArrayList<>(terms.size());
+    // Longest first, as it is usually the smallest and bounds the counting of the others. A lone
+    // term only needs to know that it matches anything.
+    long smallest = terms.size() == 1 ? 0 : Long.MAX_VALUE;
+    for (String term : terms.stream().sorted(Comparator.comparingInt(String::length).reversed())
+        .toList()) {
+      Range range = range(term, smallest);
+      if (range.postings() == 0) {
+        return List.of();
+      }
+      smallest = Math.min(smallest, range.postings());
+      ranges.add(range);
+    }
+    ranges.sort(Comparator.comparingLong(Range::postings));
+    Range driver = ranges.getFirst();
+    List<Range> others = ranges.subList(1, ranges.size());
+
+    List<Document> hits = new ArrayList<>(Math.min(limit, 64));
+    Set<Long> seen = new HashSet<>();
+    for (Set<Long> ids : driver.terms().values()) {
+      for (Long id : ids) {
+        if (!seen.add(id)) {
+          continue;
+        }
+        Document document = documents.get(id);
+        if (document != null && matchesAll(document, others)) {
+          hits.add(document);
+          if (hits.size() == limit) {
+            return hits;
+          }
+        }
+      }
+    }
+    return hits;
+  }
+
+  synchronized Stats stats() {
+    long bytes = postings.size() * BYTES_PER_TERM + termChars
+        + postingCount * BYTES_PER_POSTING
+        + documents.size() * BYTES_PER_DOCUMENT + nameChars;
+    return new Stats(documents.size(), postings.size(), postingCount, bytes);
+  }
+
+  private void unindex(Long id, String name) {
+    for (String term : tokenize(name)) {
+      Set<Long> ids = postings.get(term);
+      if (ids != null && ids.remove(id)) {
+        postingCount--;
+        if (ids.isEmpty()) {
+          postings.remove(term);
+          termChars -= term.length();
+        }
+      }
+    }
+  }
+
+  private void unlink(Long id, Long projectId) {
+    Set<Long> ids = projectId == null ? null : projectDocuments.get(projectId);
+    if (ids != null && ids.remove(id) && ids.isEmpty()) {
+      projectDocuments.remove(projectId);
+    }
+  }
+
+  /**
+   * Stops counting once past {@code cap}, since such a range will not drive the search, and past
+   * {@link #MAX_PROBED_TERMS}; sizes of skip list views are not kept but counted.
+   */
+  private Range range(String prefix, long cap) {
+    NavigableMap<String, Set<Long>> terms =
+        postings.subMap(prefix, true, prefix + Character.MAX_VALUE, true);
+    long count = 0;
+    int termCount = 0;
+    for (Set<Long> ids : terms.values()) {
+      count += ids.size();
+      if (++termCount > MAX_PROBED_TERMS && count > cap) {
+        break;
+      }
+    }
+    return new Range(prefix, terms, count, termCount <= MAX_PROBED_TERMS);
+  }
+
+  private static boolean matchesAll(Document document, List<Range> ranges) {
+    List<String> names = null;
+    for (Range range : ranges) {
+      if (range.probed()) {
+        if (range.terms().values().stream().noneMatch(ids -> ids.contains(document.id()))) {
+          return false;
+        }
+      } else {
+        if (names == null) {
+          names = tokenize(document.name());
+        }
+        if (names.stream().noneMatch(term -> term.startsWith(range.prefix()))) {
+          return false;
+        }
+      }
+    }
+    return true;
+  }
+
+  /**
+   * The terms starting with {@code prefix}; {@code postings} counts an id once per term, so it is
+   * an upper bound of the documents matched, and may stop short of the total, see {@link #range}.
+   */
+  private record Range(
+      String prefix, NavigableMap<String, Set<Long>> terms, long postings, boolean probed) {}
+
+  private static int length(String name) {
+    return name == null ? 0 : name.length();
+  }
+}
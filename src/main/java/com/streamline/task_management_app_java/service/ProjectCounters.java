@@ -0,0 +1,77 @@
+package com.streamline.task_management_app_java.service;
+
+import com.streamline.task_management_app_java.controller.dto.ProjectSummaryResponse;
+import com.streamline.task_management_app_java.domain.Priority;
+import com.streamline.task_management_app_java.domain.Status;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Task counters of a single project.
+ *
+ * <p>Status and priority counts are plain adds. Overdue needs time to pass, so open tasks are kept
+ * as due date counts in {@code upcoming} and moved into {@code overdue} when a read passes their
+ * due date. Each due date is moved at most once, so both writes and reads stay O(log n) amortized.
+ */
+final class ProjectCounters {
+
+  private final String tenantId;
+  private final long[] byStatus = new long[Status.values().length];
+  private final long[] byPriority = new long[Priority.values().length];
+  private final NavigableMap<LocalDateTime, Long> upcoming = new TreeMap<>();
+  private long total;
+  private long overdue;
+  // Open tasks due strictly before this instant are counted in overdue, later ones in upcoming.
+  private LocalDateTime overdueBefore = LocalDateTime.MIN;
+
+  ProjectCounters(String tenantId) {
+    this.tenantId = tenantId;
+  }
+
+  String tenantId() {
+    return tenantId;
+  }
+
+  synchronized void add(Status status, Priority priority, long delta) {
+    total += delta;
+    if (status != null) {
+      byStatus[status.ordinal()] += delta;
+    }
+    if (priority != null) {
+      byPriority[priority.ordinal()] += delta;
+    }
+  }
+
+  synchronized void addOpen(LocalDateTime dueDate, long delta) {
+    if (dueDate == null) {
+      return;
+    }
+    if (dueDate.isBefore(overdueBefore)) {
+      overdue += delta;
+      return;
+    }
+    upcoming.merge(dueDate, delta, (current, added) -> current + added == 0 ? null : current + added);
+  }
+
+  synchronized ProjectSummaryResponse summarize(Long projectId, LocalDateTime now) {
+    if (now.isAfter(overdueBefore)) {
+      NavigableMap<LocalDateTime, Long> passed = upcoming.headMap(now, false);
+      passed.values().forEach(count -> overdue += count);
+      passed.clear();
+      overdueBefore = now;
+    }
+
+    Map<Status, Long> statuses = new EnumMap<>(Status.class);
+    for (Status status : Status.values()) {
+      statuses.put(status, byStatus[status.ordinal()]);
+    }
+    Map<Priority, Long> priorities = new EnumMap<>(Priority.class);
+    for (Priority priority : Priority.values()) {
+      priorities.put(priority, byPriority[priority.ordinal()]);
+    }
+    return new ProjectSummaryResponse(projectId, total, statuses, priorities, overdue);
+  }
+}
@@ -0,0 +1,133 @@
+package com.streamline.task_management_app_java.service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.streamline.task_management_app_java.controller.dto.ProjectDeletionResponse;
+import com.streamline.task_management_app_java.controller.dto.ProjectDeletionResponse.State;
+import com.streamline.task_management_app_java.repository.ProjectRepository;
+import com.streamline.task_management_app_java.repository.TaskRepository;
+import com.streamline.task_management_app_java.tenant.TenantContext;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+/**
+ * Deletes huge projects in the background, one chunk of task ids per transaction, so no single
+ * statement holds locks on the whole project. Jobs run one at a time on a dedicated thread.
+ * Their progress can be polled until {@link #FINISHED_TTL} after they end, by the tenant that
+ * started them only.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class ProjectDeletionService {
+
+  /** Also the most tasks {@link ProjectService#deleteProject} evicts one by one. */
+  static final int CHUNK_SIZE = 1_000;
+  static final Duration FINISHED_TTL = Duration.ofHours(1);
+
+  private final ProjectRepository projectRepository;
+  private final TaskRepository taskRepository;
+  private final ProjectService projectService;
+
+  private final ConcurrentMap<Key, ProjectDeletionResponse> deletions = Caffeine.newBuilder()
+      .expireAfter(new FinishedExpiry())
+      .<Key, ProjectDeletionResponse>build()
+      .asMap();
+  private final ExecutorService executor =
+      Executors.newSingleThreadExecutor(Thread.ofPlatform().name("project-deletion").factory());
+
+  /**
+   * {@code expectedVersion} comes from {@code If-Match} and is checked once up front; null starts
+   * the deletion unconditionally.
+   */
+  public ProjectDeletionResponse startDeletion(Long projectId, Long expectedVersion) {
+    if (expectedVersion != null) {
+      projectService.checkVersion(projectId, expectedVersion);
+    } else if (!projectRepository.existsById(projectId)) {
+      throw new IllegalArgumentException("Project not found with id: " + projectId);
+    }
+
+    ProjectDeletionResponse started =
+        ProjectDeletionResponse.running(projectId, taskRepository.countByProjectId(projectId));
+    // Claimed atomically, so of two concurrent requests only one schedules a purge.
+    ProjectDeletionResponse current = deletions.compute(key(projectId), (k, existing) ->
+        existing != null && existing.state() == State.RUNNING ? existing : started);
+    if (current != started) {
+      return current;
+    }
+    executor.execute(TenantContext.wrap(() -> purge(projectId)));
+    return started;
+  }
+
+  public ProjectDeletionResponse getDeletion(Long projectId) {
+    ProjectDeletionResponse deletion = deletions.get(key(projectId));
+    if (deletion == null) {
+      throw new IllegalArgumentException("No deletion started for project: " + projectId);
+    }
+    return deletion;
+  }
+
+  void purge(Long projectId) {
+    Key key = key(projectId);
+    try {
+      List<Long> ids;
+      while (!(ids = taskRepository.findIdsByProjectId(projectId, Limit.of(CHUNK_SIZE))).isEmpty()) {
+        int deleted = taskRepository.deleteAllByIdIn(ids);
+        projectService.evictTasks(ids);
+        deletions.computeIfPresent(key, (k, deletion) -> deletion.plusDeleted(deleted));
+      }
+      // Tasks created while the chunks ran are removed together with the project.
+      long remaining = projectService.deleteProject(projectId, null).deletedTasks();
+      deletions.computeIfPresent(key, (k, deletion) -> deletion.complete(remaining));
+    } catch (RuntimeException e) {
+      log.error("Failed to delete project {}", projectId, e);
+      deletions.computeIfPresent(key, (k, deletion) -> deletion.fail());
+    }
+  }
+
+  @PreDestroy
+  void shutdown() {
+    executor.shutdownNow();
+  }
+
+  /** Purges run with the tenant of the request that started them, see {@link TenantContext#wrap}. */
+  static Key key(Long projectId) {
+    return new Key(TenantContext.current(), projectId);
+  }
+
+  /** Kept per tenant, so no tenant can see or take over the deletion of another one. */
+  record Key(String tenantId, Long projectId) {}
+
+  /** Keeps running deletions for good and finished ones for {@link #FINISHED_TTL}. */
+  private static final class FinishedExpiry implements Expiry<Key, ProjectDeletionResponse> {
+
+    @Override
+    public long expireAfterCreate(Key key, ProjectDeletionResponse deletion, long now) {
+      return lifetime(deletion);
+    }
+
+    @Override
+    public long expireAfterUpdate(
+        Key key, ProjectDeletionResponse deletion, long now, long currentDuration) {
+      return lifetime(deletion);
+    }
+
+    @Override
+    public long expireAfterRead(
+        Key key, ProjectDeletionResponse deletion, long now, long currentDuration) {
+      return currentDuration;
+    }
+
+    private static long lifetime(ProjectDeletionResponse deletion) {
+      return deletion.state() == State.RUNNING ? Long.MAX_VALUE : FINISHED_TTL.toNanos();
+    }
+  }
+}
@@ -1,13 +1,35 @@
 package com.streamline.task_management_app_java.service;
 
+import com.streamline.task_management_app_java.config.CacheConfig;
+import com.streamline.task_management_app_java.config.ReadWriteRoutingDataSource;
+import com.streamline.task_management_app_java.controller.dto.CursorPage;
 import com.streamline.task_management_app_java.controller.dto.ProjectCreateRequest;
+import com.streamline.task_management_app_java.controller.dto.ProjectDeletionResponse;
 import com.streamline.task_management_app_java.controller.dto.ProjectResponse;
 import com.streamline.task_management_app_java.controller.dto.ProjectUpdateRequest;
 import com.streamline.task_management_app_java.domain.Project;
 import com.streamline.task_management_app_java.domain.ProjectStatus;
 import com.streamline.task_management_app_java.repository.ProjectRepository;
+import com.streamline.task_management_app_java.repository.TaskRepository;
+import com.streamline.task_management_app_java.service.event.ChangeType;
+import com.streamline.task_management_app_java.service.event.ProjectChangedEvent;
+import jakarta.persistence.EntityManager;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,11 +37,20 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 public class ProjectService {
 
+  public static final int MAX_PAGE_SIZE = 100;
+
   private final ProjectRepository projectRepository;
+  private final TaskRepository taskRepository;
+  private final EntityManager entityManager;
+  private final ApplicationEventPublisher eventPublisher;
+  private final CacheManager cacheManager;
 
+  /** Cached until evicted, so it is read from the primary and never from a lagging replica. */
+  @Cacheable(cacheNames = CacheConfig.PROJECTS, key = CacheConfig.TENANT_KEY + "#id")
   @Transactional(readOnly = true)
   public ProjectResponse getProject(Long id) {
-    return ProjectResponse.of(getProjectEntity(id));
+    return ReadWriteRoutingDataSource.readFromPrimary(
+        () -> ProjectResponse.of(getProjectEntity(id)));
   }
 
   @Transactional(readOnly = true)
@@ -29,30 +60,142 @@ public class ProjectService {
         .orElseThrow(() -> new IllegalArgumentException("Project not found with id: " + id));
   }
 
+  /**
+   * Existence check plus an uninitialized proxy, so callers can link a task without loading the
+   * project row or its task collection.
+   */
+  @Transactional(readOnly = true)
+  protected Project getProjectReference(Long id) {
+    if (!projectRepository.existsById(id)) {
+      throw new IllegalArgumentException("Project not found with id: " + id);
+    }
+    return projectRepository.getReferenceById(id);
+  }
+
+  @Transactional(readOnly = true)
+  protected Map<Long, Project> getProjectEntities(Collection<Long> ids) {
+    return projectRepository.findAllById(ids).stream()
+        .collect(Collectors.toMap(Project::getId, Function.identity()));
+  }
+
+  @Transactional(readOnly = true)
+  public CursorPage<ProjectResponse> getProjects(String type, Long cursor, int size) {
+    int pageSize = Math.clamp(size, 1, MAX_PAGE_SIZE);
+    long after = cursor == null ? 0L : cursor;
+    Limit limit = Limit.of(pageSize + 1);
+
+    List<Project> projects =
+        isAll(type)
+            ? projectRepository.findPage(after, limit)
+            : projectRepository.findPageByStatus(ProjectStatus.from(type), after, limit);
+    return CursorPage.of(
+        projects.stream().map(ProjectResponse::of).toList(),
+        pageSize,
+        project -> String.valueOf(project.id()));
+  }
+
+  /**
+   * Reads every matching project through a forward-only cursor and detaches each row once it has
+   * been handed to {@code consumer}, so memory stays flat regardless of the result size.
+   */
   @Transactional(readOnly = true)
-  public List<ProjectResponse> getProjects(String type) {
-    if (type.toUpperCase().equals("ALL")) {
-      return projectRepository.findAll().stream().map(ProjectResponse::of).toList();
+  public void streamProjects(String type, Consumer<ProjectResponse> consumer) {
+    try (Stream<Project> projects =
+        isAll(type)
+            ? projectRepository.streamAll()
+            : projectRepository.streamAllByStatus(ProjectStatus.from(type))) {
+      projects.forEach(
+          project -> {
+            consumer.accept(ProjectResponse.of(project));
+            entityManager.detach(project);
+          });
     }
-    ProjectStatus status = ProjectStatus.from(type);
-    return projectRepository.findAllByStatus(status).stream().map(ProjectResponse::of).toList();
   }
 
   @Transactional
   public ProjectResponse createProject(ProjectCreateRequest request) {
     Project savedProject = projectRepository.save(request.toEntity(request));
+    eventPublisher.publishEvent(new ProjectChangedEvent(
+        ChangeType.CREATED, savedProject.getId(), savedProject.getName()));
     return ProjectResponse.of(savedProject);
   }
 
+  /**
+   * Deletes the tasks and the project with set-based statements instead of cascading through
+   * {@code Project.tasks}. Very large projects should go through {@link ProjectDeletionService}
+   * which does the same in chunks.
+   *
+   * <p>Up to {@link ProjectDeletionService#CHUNK_SIZE} tasks are listed and deleted by id so only
+   * they leave the cache. Beyond that, or if tasks were added after the listing and may have been
+   * cached on creation, the whole task cache is cleared instead.
+   */
+  @CacheEvict(cacheNames = CacheConfig.PROJECTS, key = CacheConfig.TENANT_KEY + "#id")
   @Transactional
-  public void deleteProject(Long id) {
-    projectRepository.deleteById(id);
+  public ProjectDeletionResponse deleteProject(Long id, Long expectedVersion) {
+    if (expectedVersion != null) {
+      checkVersion(id, expectedVersion);
+    }
+    List<Long> taskIds =
+        taskRepository.findIdsByProjectId(id, Limit.of(ProjectDeletionService.CHUNK_SIZE + 1));
+    boolean evictListed = taskIds.size() <= ProjectDeletionService.CHUNK_SIZE;
+    int deletedTasks = evictListed && !taskIds.isEmpty()
+        ? taskRepository.deleteAllByIdIn(taskIds)
+        : 0;
+    // Whatever is left was not listed: all tasks above the cap, or ones created meanwhile.
+    int unlisted = taskRepository.deleteAllByProjectId(id);
+    deletedTasks += unlisted;
+    if (expectedVersion == null) {
+      if (projectRepository.deleteProjectById(id) == 0) {
+        // Missing, or another tenant's; nothing was deleted, so nothing is announced.
+        throw new IllegalArgumentException("Project not found with id: " + id);
+      }
+    } else if (projectRepository.deleteProjectByIdAndVersion(id, expectedVersion) == 0) {
+      // Updated after the check above; rolls back the task deletion as well.
+      throw new OptimisticLockingFailureException("Project " + id + " was modified concurrently");
+    }
+    if (unlisted == 0) {
+      evictTasks(taskIds);
+    } else {
+      Cache tasks = cacheManager.getCache(CacheConfig.TASKS);
+      if (tasks != null) {
+        tasks.clear();
+      }
+    }
+    eventPublisher.publishEvent(new ProjectChangedEvent(ChangeType.DELETED, id));
+    return ProjectDeletionResponse.completed(id, deletedTasks);
+  }
+
+  /** Inside a transaction the entries go once it commits, see {@link CacheConfig}. */
+  void evictTasks(Collection<Long> taskIds) {
+    Cache tasks = cacheManager.getCache(CacheConfig.TASKS);
+    if (tasks != null) {
+      taskIds.forEach(taskId -> tasks.evict(CacheConfig.tenantKey(taskId)));
+    }
   }
 
+  @CachePut(cacheNames = CacheConfig.PROJECTS, key = CacheConfig.TENANT_KEY + "#id")
   @Transactional
-  public ProjectResponse updateProject(Long id, ProjectUpdateRequest request) {
+  public ProjectResponse updateProject(Long id, ProjectUpdateRequest request, Long expectedVersion) {
     Project project = projectRepository.findById(id).orElseThrow();
+    project.checkVersion(expectedVersion);
     project.updateProject(request.name(), request.status());
+    // Flush now so the response and the cached copy carry the incremented version.
+    projectRepository.flush();
+    eventPublisher.publishEvent(new ProjectChangedEvent(ChangeType.UPDATED, id, project.getName()));
     return ProjectResponse.of(project);
   }
+
+  /** Compares without loading the project; throws if it is missing or has moved on. */
+  void checkVersion(Long id, Long expectedVersion) {
+    Long version = projectRepository.findVersionById(id)
+        .orElseThrow(() -> new IllegalArgumentException("Project not found with id: " + id));
+    if (!version.equals(expectedVersion)) {
+      throw new OptimisticLockingFailureException(
+          "Project was modified: expected version " + expectedVersion + " but was " + version);
+    }
+  }
+
+  private boolean isAll(String type) {
+    return "ALL".equalsIgnoreCase(type);
+  }
 }
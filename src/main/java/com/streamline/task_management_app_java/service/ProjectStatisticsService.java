@@ -0,0 +1,135 @@
+package com.streamline.task_management_app_java.service;
+
+import com.streamline.task_management_app_java.controller.dto.ProjectSummaryResponse;
+import com.streamline.task_management_app_java.domain.Status;
+import com.streamline.task_management_app_java.repository.ProjectRepository;
+import com.streamline.task_management_app_java.repository.TaskCountRow;
+import com.streamline.task_management_app_java.repository.TaskDueCountRow;
+import com.streamline.task_management_app_java.repository.TaskRepository;
+import com.streamline.task_management_app_java.service.event.ChangeType;
+import com.streamline.task_management_app_java.service.event.ProjectChangedEvent;
+import com.streamline.task_management_app_java.service.event.TaskChangedEvent;
+import com.streamline.task_management_app_java.service.event.TaskSnapshot;
+import com.streamline.task_management_app_java.service.event.TasksBulkChangedEvent;
+import com.streamline.task_management_app_java.tenant.TenantContext;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * In-memory per-project task counters. They are loaded once with grouped queries before the web
+ * server starts and then kept in sync from committed task and project events, so reading a summary
+ * never touches the database. Each project remembers its tenant, and other tenants get "not found"
+ * for it as they would from the database.
+ */
+@RequiredArgsConstructor
+@Service
+public class ProjectStatisticsService implements SmartInitializingSingleton {
+
+  private final ProjectRepository projectRepository;
+  private final TaskRepository taskRepository;
+
+  private final Map<Long, ProjectCounters> counters = new ConcurrentHashMap<>();
+
+  @Override
+  public void afterSingletonsInstantiated() {
+    rebuild();
+  }
+
+  public void rebuild() {
+    Map<Long, ProjectCounters> loaded = new ConcurrentHashMap<>();
+    // Project ids are unique across tenants, so the grouped queries can cover all of them.
+    TenantContext.runAsRoot(() -> {
+      projectRepository.findAllTenantRows()
+          .forEach(row -> loaded.put(row.id(), new ProjectCounters(row.tenantId())));
+      apply(loaded, taskRepository.countGroupByProjectStatusPriority(),
+          taskRepository.countGroupByProjectDueDate(Status.openStatuses()));
+    });
+
+    counters.clear();
+    counters.putAll(loaded);
+  }
+
+  /**
+   * Reloads one project from the database, for changes made with bulk statements. Runs for the
+   * tenant that made them. The project's entry stays locked while it loads, so task events for it
+   * wait and are applied to the reloaded counters instead of being lost with the old ones.
+   */
+  public void refresh(Long projectId) {
+    counters.compute(projectId, (id, existing) -> {
+      if (!projectRepository.existsById(projectId)) {
+        return null;
+      }
+      Map<Long, ProjectCounters> loaded =
+          Map.of(projectId, new ProjectCounters(TenantContext.current()));
+      apply(loaded, taskRepository.countGroupByStatusPriority(projectId),
+          taskRepository.countGroupByDueDate(projectId, Status.openStatuses()));
+      return loaded.get(projectId);
+    });
+  }
+
+  public ProjectSummaryResponse getSummary(Long projectId) {
+    ProjectCounters projectCounters = counters.get(projectId);
+    if (projectCounters == null || !projectCounters.tenantId().equals(TenantContext.current())) {
+      throw new IllegalArgumentException("Project not found with id: " + projectId);
+    }
+    return projectCounters.summarize(projectId, LocalDateTime.now());
+  }
+
+  @TransactionalEventListener
+  public void onProjectChanged(ProjectChangedEvent event) {
+    if (event.type() == ChangeType.CREATED) {
+      // Listeners run on the thread that committed, so this is the project's tenant.
+      counters.putIfAbsent(event.projectId(), new ProjectCounters(TenantContext.current()));
+    } else if (event.type() == ChangeType.DELETED) {
+      counters.remove(event.projectId());
+    }
+  }
+
+  @TransactionalEventListener
+  public void onTaskChanged(TaskChangedEvent event) {
+    if (event.before() != null) {
+      apply(event.before(), -1);
+    }
+    if (event.after() != null) {
+      apply(event.after(), 1);
+    }
+  }
+
+  @TransactionalEventListener
+  public void onTasksBulkChanged(TasksBulkChangedEvent event) {
+    refresh(event.projectId());
+  }
+
+  /** Applied under the project's entry, so it cannot interleave with a {@link #refresh}. */
+  private void apply(TaskSnapshot task, long delta) {
+    counters.computeIfPresent(task.projectId(), (id, projectCounters) -> {
+      projectCounters.add(task.status(), task.priority(), delta);
+      if (task.status() != null && task.status().isOpen()) {
+        projectCounters.addOpen(task.dueDate(), delta);
+      }
+      return projectCounters;
+    });
+  }
+
+  private void apply(
+      Map<Long, ProjectCounters> target, List<TaskCountRow> counts, List<TaskDueCountRow> dues) {
+    for (TaskCountRow row : counts) {
+      ProjectCounters projectCounters = target.get(row.projectId());
+      if (projectCounters != null) {
+        projectCounters.add(row.status(), row.priority(), row.count());
+      }
+    }
+    for (TaskDueCountRow row : dues) {
+      ProjectCounters projectCounters = target.get(row.projectId());
+      if (projectCounters != null) {
+        projectCounters.addOpen(row.dueDate(), row.count());
+      }
+    }
+  }
+}
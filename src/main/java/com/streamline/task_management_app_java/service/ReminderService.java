@@ -0,0 +1,214 @@
+package com.streamline.task_management_app_java.service;
+
+import com.streamline.task_management_app_java.domain.Status;
+import com.streamline.task_management_app_java.repository.TaskReminderRow;
+import com.streamline.task_management_app_java.repository.TaskRepository;
+import com.streamline.task_management_app_java.service.event.TaskChangedEvent;
+import com.streamline.task_management_app_java.service.event.TaskSnapshot;
+import com.streamline.task_management_app_java.service.reminder.Reminder;
+import com.streamline.task_management_app_java.service.reminder.ReminderSink;
+import com.streamline.task_management_app_java.service.reminder.ReminderType;
+import com.streamline.task_management_app_java.tenant.TenantContext;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Fires {@link ReminderType#DUE_SOON} and {@link ReminderType#OVERDUE} reminders to the configured
+ * {@link ReminderSink}.
+ *
+ * <p>Only reminders that fire within the next {@code app.reminder.window} are held in memory, in a
+ * min-heap ordered by fire time. The next window is loaded with one range query on {@code
+ * due_date} when less than half of the current one is left, so the table is never polled as a
+ * whole. Committed task changes reschedule the task inside the loaded window; a rescheduled task
+ * gets a new generation and its older heap entries are skipped when they come up. Before firing,
+ * the due tasks are re-read in one query, which also catches bulk status transitions and project
+ * deletions that have no per-task event.
+ *
+ * <p>Fired reminders are not persisted: tasks that became overdue while the application was down
+ * are not reported on startup.
+ */
+@Slf4j
+@Service
+public class ReminderService implements SmartInitializingSingleton {
+
+  private final TaskRepository taskRepository;
+  private final ReminderSink reminderSink;
+  private final Duration tick;
+  private final Duration window;
+  private final Duration dueSoonLead;
+
+  private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+      Thread.ofPlatform().name("reminder-scheduler").daemon().factory());
+
+  // All guarded by this.
+  private final PriorityQueue<Entry> heap =
+      new PriorityQueue<>(Comparator.comparing(Entry::fireAt));
+  private final Map<Long, Long> generations = new HashMap<>();
+  private long nextGeneration;
+  private LocalDateTime loadedUntil;
+
+  public ReminderService(
+      TaskRepository taskRepository,
+      ReminderSink reminderSink,
+      @Value("${app.reminder.tick:1s}") Duration tick,
+      @Value("${app.reminder.window:1h}") Duration window,
+      @Value("${app.reminder.due-soon-lead:1h}") Duration dueSoonLead) {
+    this.taskRepository = taskRepository;
+    this.reminderSink = reminderSink;
+    this.tick = tick;
+    this.window = window;
+    this.dueSoonLead = dueSoonLead;
+  }
+
+  @Override
+  public void afterSingletonsInstantiated() {
+    synchronized (this) {
+      loadedUntil = LocalDateTime.now();
+    }
+    scheduler.scheduleWithFixedDelay(this::safeTick, 0, tick.toMillis(), TimeUnit.MILLISECONDS);
+  }
+
+  @PreDestroy
+  void shutdown() {
+    scheduler.shutdownNow();
+  }
+
+  @TransactionalEventListener
+  public void onTaskChanged(TaskChangedEvent event) {
+    TaskSnapshot after = event.after();
+    synchronized (this) {
+      if (loadedUntil == null) {
+        return;
+      }
+      TaskSnapshot before = event.before();
+      if (after != null && before != null && isOpen(before) == isOpen(after)
+          && Objects.equals(before.dueDate(), after.dueDate())) {
+        return;
+      }
+      generations.remove(event.taskId());
+      if (after != null && isOpen(after) && after.dueDate() != null) {
+        // Only what is still ahead; as on startup, a task saved already overdue is not reported.
+        schedule(after.id(), after.dueDate(), LocalDateTime.now(), loadedUntil, nextGeneration++);
+      }
+    }
+  }
+
+  /** Fires everything due at {@code now} and loads the next window when it is getting close. */
+  void tick(LocalDateTime now) {
+    List<Entry> due = new ArrayList<>();
+    synchronized (this) {
+      if (loadedUntil == null || loadedUntil.isBefore(now)) {
+        // First tick, or the scheduler was stalled: skip the gap instead of firing it all at once.
+        loadedUntil = now;
+      }
+      while (Duration.between(now, loadedUntil).compareTo(window.dividedBy(2)) < 0) {
+        loadWindow(loadedUntil, loadedUntil.plus(window));
+      }
+      while (!heap.isEmpty() && !heap.peek().fireAt().isAfter(now)) {
+        Entry entry = heap.poll();
+        if (entry.generation() == generations.getOrDefault(entry.taskId(), -1L)) {
+          due.add(entry);
+          if (entry.type() == ReminderType.OVERDUE) {
+            generations.remove(entry.taskId());
+          }
+        }
+      }
+    }
+    if (!due.isEmpty()) {
+      fire(due, now);
+    }
+  }
+
+  synchronized int scheduledCount() {
+    return heap.size();
+  }
+
+  private void safeTick() {
+    try {
+      // One scheduler serves every tenant; task ids are unique across them.
+      TenantContext.runAsRoot(() -> tick(LocalDateTime.now()));
+    } catch (RuntimeException e) {
+      // Keep the schedule alive; the next tick retries the window load.
+      log.error("Reminder tick failed", e);
+    }
+  }
+
+  /** Holds the heap lock for the query; listeners wait at most one window load. */
+  private void loadWindow(LocalDateTime from, LocalDateTime to) {
+    // A DUE_SOON reminder firing in [from, to) belongs to a task due up to dueSoonLead later.
+    List<TaskReminderRow> rows = taskRepository.findReminderRowsDueBetween(
+        from, to.plus(dueSoonLead), Status.openStatuses());
+    loadedUntil = to;
+    for (TaskReminderRow row : rows) {
+      // A task whose DUE_SOON was in the previous window keeps its generation for the OVERDUE.
+      Long generation = generations.get(row.id());
+      schedule(row.id(), row.dueDate(), from, to,
+          generation != null ? generation : nextGeneration++);
+    }
+    log.debug("Loaded reminders from {} to {}: {} tasks", from, to, rows.size());
+  }
+
+  /** Pushes the reminders of one task that fire in {@code [from, to)}. */
+  private void schedule(
+      Long taskId, LocalDateTime dueDate, LocalDateTime from, LocalDateTime to, long generation) {
+    boolean scheduled = false;
+    for (ReminderType type : ReminderType.values()) {
+      LocalDateTime fireAt = type == ReminderType.DUE_SOON ? dueDate.minus(dueSoonLead) : dueDate;
+      if (!fireAt.isBefore(from) && fireAt.isBefore(to)) {
+        heap.add(new Entry(fireAt, type, taskId, dueDate, generation));
+        scheduled = true;
+      }
+    }
+    if (scheduled) {
+      generations.put(taskId, generation);
+    }
+  }
+
+  private void fire(List<Entry> due, LocalDateTime now) {
+    Map<Long, TaskReminderRow> current =
+        taskRepository.findReminderRows(due.stream().map(Entry::taskId).distinct().toList())
+            .stream()
+            .collect(Collectors.toMap(TaskReminderRow::id, Function.identity()));
+    for (Entry entry : due) {
+      TaskReminderRow task = current.get(entry.taskId());
+      if (task == null || !task.status().isOpen() || !entry.dueDate().equals(task.dueDate())) {
+        continue;
+      }
+      try {
+        reminderSink.send(new Reminder(entry.type(), task.tenantId(), task.id(),
+            task.projectId(), task.name(), task.dueDate(), now));
+      } catch (RuntimeException e) {
+        log.warn("Reminder sink failed for task {}", task.id(), e);
+      }
+    }
+  }
+
+  private static boolean isOpen(TaskSnapshot task) {
+    return task.status() != null && task.status().isOpen();
+  }
+
+  private record Entry(
+      LocalDateTime fireAt,
+      ReminderType type,
+      Long taskId,
+      LocalDateTime dueDate,
+      long generation) {}
+}
@@ -0,0 +1,159 @@
+package com.streamline.task_management_app_java.service;
+
+import com.streamline.task_management_app_java.controller.dto.SearchIndexStatsResponse;
+import com.streamline.task_management_app_java.controller.dto.SearchResultResponse;
+import com.streamline.task_management_app_java.domain.EntityType;
+import com.streamline.task_management_app_java.domain.Project;
+import com.streamline.task_management_app_java.repository.ProjectRepository;
+import com.streamline.task_management_app_java.repository.TaskNameRow;
+import com.streamline.task_management_app_java.repository.TaskRepository;
+import com.streamline.task_management_app_java.service.event.ChangeType;
+import com.streamline.task_management_app_java.service.event.ProjectChangedEvent;
+import com.streamline.task_management_app_java.service.event.TaskChangedEvent;
+import com.streamline.task_management_app_java.tenant.TenantContext;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Prefix search over task and project names without touching the database. The index is loaded
+ * in id-ordered batches before the web server starts and then follows committed task and project
+ * events; bulk status transitions never change names, so they are ignored. Every tenant has its
+ * own pair of indexes, so a search never walks another tenant's postings.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class SearchIndexService implements SmartInitializingSingleton {
+
+  private static final int REBUILD_BATCH_SIZE = 10_000;
+  private static final int MAX_LIMIT = 100;
+
+  private final ProjectRepository projectRepository;
+  private final TaskRepository taskRepository;
+
+  private final Map<String, TenantIndex> indexes = new ConcurrentHashMap<>();
+
+  @Override
+  public void afterSingletonsInstantiated() {
+    rebuild();
+  }
+
+  public void rebuild() {
+    long started = System.nanoTime();
+    indexes.clear();
+    TenantContext.runAsRoot(this::load);
+    log.info("Search index rebuilt in {} ms: {}",
+        (System.nanoTime() - started) / 1_000_000, getStats());
+  }
+
+  /** Reads every tenant in one pass. */
+  private void load() {
+    List<Project> projectPage = projectRepository.findPage(0L, Limit.of(REBUILD_BATCH_SIZE));
+    while (!projectPage.isEmpty()) {
+      projectPage.forEach(project -> index(project.getTenantId())
+          .projects().put(project.getId(), project.getId(), project.getName()));
+      Long last = projectPage.getLast().getId();
+      projectPage = projectRepository.findPage(last, Limit.of(REBUILD_BATCH_SIZE));
+    }
+
+    List<TaskNameRow> taskPage = taskRepository.findNamesAfter(0L, Limit.of(REBUILD_BATCH_SIZE));
+    while (!taskPage.isEmpty()) {
+      taskPage.forEach(
+          row -> index(row.tenantId()).tasks().put(row.id(), row.projectId(), row.name()));
+      Long last = taskPage.getLast().id();
+      taskPage = taskRepository.findNamesAfter(last, Limit.of(REBUILD_BATCH_SIZE));
+    }
+  }
+
+  /**
+   * Every word of {@code query} must be a prefix of some word of a name of the current tenant.
+   * Without a {@code type} projects are listed before tasks.
+   */
+  public List<SearchResultResponse> search(String query, EntityType type, int limit) {
+    if (limit < 1 || limit > MAX_LIMIT) {
+      throw new IllegalArgumentException("Limit must be between 1 and " + MAX_LIMIT);
+    }
+    List<SearchResultResponse> results = new ArrayList<>();
+    TenantIndex index = indexes.get(TenantContext.current());
+    if (index == null) {
+      return results;
+    }
+    if (type == null || type == EntityType.PROJECT) {
+      index.projects().search(query, limit)
+          .forEach(document -> results.add(toResponse(EntityType.PROJECT, document)));
+    }
+    if (type == null || type == EntityType.TASK) {
+      index.tasks().search(query, limit - results.size())
+          .forEach(document -> results.add(toResponse(EntityType.TASK, document)));
+    }
+    return results;
+  }
+
+  /** Totals over all tenants, for sizing the heap. */
+  public List<SearchIndexStatsResponse> getStats() {
+    List<InvertedIndex.Stats> projectStats = new ArrayList<>();
+    List<InvertedIndex.Stats> taskStats = new ArrayList<>();
+    indexes.values().forEach(index -> {
+      projectStats.add(index.projects().stats());
+      taskStats.add(index.tasks().stats());
+    });
+    return List.of(
+        toResponse(EntityType.PROJECT, sum(projectStats)),
+        toResponse(EntityType.TASK, sum(taskStats)));
+  }
+
+  // Listeners run on the thread that committed the change, so the current tenant is its tenant.
+
+  @TransactionalEventListener
+  public void onProjectChanged(ProjectChangedEvent event) {
+    TenantIndex index = index(TenantContext.current());
+    if (event.type() == ChangeType.DELETED) {
+      index.projects().remove(event.projectId());
+      index.tasks().removeProject(event.projectId());
+    } else {
+      index.projects().put(event.projectId(), event.projectId(), event.name());
+    }
+  }
+
+  @TransactionalEventListener
+  public void onTaskChanged(TaskChangedEvent event) {
+    TenantIndex index = index(TenantContext.current());
+    if (event.type() == ChangeType.DELETED) {
+      index.tasks().remove(event.taskId());
+    } else {
+      index.tasks().put(event.taskId(), event.projectId(), event.after().name());
+    }
+  }
+
+  private TenantIndex index(String tenantId) {
+    return indexes.computeIfAbsent(
+        tenantId, id -> new TenantIndex(new InvertedIndex(), new InvertedIndex()));
+  }
+
+  private static InvertedIndex.Stats sum(List<InvertedIndex.Stats> stats) {
+    return new InvertedIndex.Stats(
+        stats.stream().mapToLong(InvertedIndex.Stats::documents).sum(),
+        stats.stream().mapToLong(InvertedIndex.Stats::terms).sum(),
+        stats.stream().mapToLong(InvertedIndex.Stats::postings).sum(),
+        stats.stream().mapToLong(InvertedIndex.Stats::estimatedBytes).sum());
+  }
+
+  private static SearchResultResponse toResponse(EntityType type, InvertedIndex.Document document) {
+    return new SearchResultResponse(type, document.id(), document.projectId(), document.name());
+  }
+
+  private static SearchIndexStatsResponse toResponse(EntityType type, InvertedIndex.Stats stats) {
+    return new SearchIndexStatsResponse(
+        type, stats.documents(), stats.terms(), stats.postings(), stats.estimatedBytes());
+  }
+
+  private record TenantIndex(InvertedIndex projects, InvertedIndex tasks) {}
+}
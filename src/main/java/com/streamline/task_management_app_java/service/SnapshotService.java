@@ -0,0 +1,386 @@
+package com.streamline.task_management_app_java.service;
+
+import com.streamline.task_management_app_java.domain.EntityType;
+import com.streamline.task_management_app_java.domain.Priority;
+import com.streamline.task_management_app_java.domain.ProjectStatus;
+import com.streamline.task_management_app_java.domain.Status;
+import com.streamline.task_management_app_java.service.snapshot.SnapshotReader;
+import com.streamline.task_management_app_java.service.snapshot.SnapshotWriter;
+import com.streamline.task_management_app_java.tenant.TenantContext;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.stereotype.Service;
+
+/**
+ * Keeps the in-memory database across restarts. Projects, tasks and tombstones are written to a
+ * binary snapshot every {@code app.snapshot.interval} and on shutdown, and loaded back with plain
+ * JDBC batches when the application starts with an empty database.
+ *
+ * <p>The restore runs while this bean is initialized, so it is done before the statistics and the
+ * search index are rebuilt from the tables and before the web server accepts requests. Activity log
+ * entries and import checkpoints are not part of the snapshot; changes after the last snapshot are
+ * lost on a crash. With the file-backed prod profile this is not needed and stays disabled.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "app.snapshot.enabled", havingValue = "true")
+@DependsOn("entityManagerFactory")
+public class SnapshotService {
+
+  private static final int BATCH_SIZE = 10_000;
+  private static final int FETCH_SIZE = 10_000;
+  // Hibernate hands out pooled blocks of 50 from task_seq; start past a whole block.
+  private static final int SEQUENCE_GAP = 100;
+
+  private final DataSource dataSource;
+  private final Path path;
+  private final Duration interval;
+  private final Timer writeTimer;
+
+  private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+      Thread.ofPlatform().name("snapshot-writer").daemon().factory());
+
+  public SnapshotService(
+      DataSource dataSource,
+      ObjectProvider<MeterRegistry> meterRegistry,
+      @Value("${app.snapshot.path:./data/snapshot.bin}") Path path,
+      @Value("${app.snapshot.interval:5m}") Duration interval) {
+    this.dataSource = dataSource;
+    this.path = path;
+    this.interval = interval;
+    this.writeTimer = Timer.builder("app.snapshot.write")
+        .description("Time to write a snapshot of projects, tasks and tombstones")
+        .register(meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
+  }
+
+  /**
+   * A corrupt snapshot stops the startup instead of being skipped, since the next scheduled
+   * snapshot of the empty database would overwrite it.
+   */
+  @PostConstruct
+  void start() {
+    restore();
+    long millis = interval.toMillis();
+    scheduler.scheduleWithFixedDelay(this::safeWrite, millis, millis, TimeUnit.MILLISECONDS);
+  }
+
+  /** Runs before the DataSource is closed, which depends on nothing here. */
+  @PreDestroy
+  void shutdown() {
+    scheduler.shutdownNow();
+    try {
+      scheduler.awaitTermination(interval.toMillis(), TimeUnit.MILLISECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    safeWrite();
+  }
+
+  /** Writes a consistent snapshot of the current data and replaces the previous file. */
+  public synchronized void writeSnapshot() {
+    writeTimer.record(() -> {
+      try (Connection connection = dataSource.getConnection();
+          SnapshotWriter writer = new SnapshotWriter(path)) {
+        // One transaction at repeatable read sees all three tables at the same point in time.
+        connection.setTransactionIsolation(Connection.TRANSACTION_REPEATABLE_READ);
+        connection.setAutoCommit(false);
+        connection.setReadOnly(true);
+        writer.writeEnumTable(ProjectStatus.class);
+        writer.writeEnumTable(Status.class);
+        writer.writeEnumTable(Priority.class);
+        writer.writeEnumTable(EntityType.class);
+        long projects = writeProjects(connection, writer);
+        long tasks = writeTasks(connection, writer);
+        long tombstones = writeTombstones(connection, writer);
+        connection.commit();
+        writer.commit();
+        log.info("Wrote snapshot {}: {} projects, {} tasks, {} tombstones",
+            path, projects, tasks, tombstones);
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      } catch (SQLException e) {
+        throw new IllegalStateException("Failed to read data for snapshot", e);
+      }
+    });
+  }
+
+  /** Loads the snapshot unless there is none or the database already has data. */
+  synchronized void restore() {
+    if (!Files.exists(path)) {
+      log.info("No snapshot at {}, starting empty", path);
+      return;
+    }
+    long start = System.nanoTime();
+    try (Connection connection = dataSource.getConnection();
+        SnapshotReader reader = new SnapshotReader(path)) {
+      if (hasProjects(connection)) {
+        log.info("Database is not empty, snapshot {} is not restored", path);
+        return;
+      }
+      connection.setAutoCommit(false);
+      ProjectStatus[] projectStatuses = reader.readEnumTable(ProjectStatus.class);
+      Status[] statuses = reader.readEnumTable(Status.class);
+      Priority[] priorities = reader.readEnumTable(Priority.class);
+      EntityType[] entityTypes = reader.readEnumTable(EntityType.class);
+      long projects = loadProjects(connection, reader, projectStatuses);
+      long tasks = loadTasks(connection, reader, statuses, priorities);
+      long tombstones = loadTombstones(connection, reader, entityTypes);
+      restartIds(connection);
+      connection.commit();
+      log.info("Restored snapshot {} in {} ms: {} projects, {} tasks, {} tombstones",
+          path, (System.nanoTime() - start) / 1_000_000, projects, tasks, tombstones);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Can't restore snapshot " + path, e);
+    } catch (SQLException e) {
+      throw new IllegalStateException("Can't restore snapshot " + path, e);
+    }
+  }
+
+  private void safeWrite() {
+    try {
+      writeSnapshot();
+    } catch (RuntimeException e) {
+      // The previous snapshot is still in place; the next run tries again.
+      log.error("Snapshot failed", e);
+    }
+  }
+
+  private static long writeProjects(Connection connection, SnapshotWriter writer)
+      throws SQLException, IOException {
+    long count = 0;
+    try (PreparedStatement select = connection.prepareStatement(
+        "select id, tenant_id, name, status, created_at, updated_at, version "
+            + "from project order by id")) {
+      select.setFetchSize(FETCH_SIZE);
+      try (ResultSet rows = select.executeQuery()) {
+        while (rows.next()) {
+          writer.writeByte(1);
+          writer.writeLong(rows.getLong(1));
+          writer.writeString(rows.getString(2));
+          writer.writeString(rows.getString(3));
+          writer.writeEnum(toEnum(ProjectStatus.class, rows.getString(4)));
+          writer.writeTimestamp(toLocalDateTime(rows.getTimestamp(5)));
+          writer.writeTimestamp(toLocalDateTime(rows.getTimestamp(6)));
+          writer.writeNullableLong(rows.getObject(7, Long.class));
+          count++;
+        }
+      }
+    }
+    writer.writeByte(0);
+    return count;
+  }
+
+  private static long writeTasks(Connection connection, SnapshotWriter writer)
+      throws SQLException, IOException {
+    long count = 0;
+    try (PreparedStatement select = connection.prepareStatement(
+        "select id, tenant_id, project_id, name, status, priority, due_date, created_at, "
+            + "updated_at, version from task order by id")) {
+      select.setFetchSize(FETCH_SIZE);
+      try (ResultSet rows = select.executeQuery()) {
+        while (rows.next()) {
+          writer.writeByte(1);
+          writer.writeLong(rows.getLong(1));
+          writer.writeString(rows.getString(2));
+          writer.writeLong(rows.getLong(3));
+          writer.writeString(rows.getString(4));
+          writer.writeEnum(toEnum(Status.class, rows.getString(5)));
+          writer.writeEnum(toEnum(Priority.class, rows.getString(6)));
+          writer.writeTimestamp(toLocalDateTime(rows.getTimestamp(7)));
+          writer.writeTimestamp(toLocalDateTime(rows.getTimestamp(8)));
+          writer.writeTimestamp(toLocalDateTime(rows.getTimestamp(9)));
+          writer.writeNullableLong(rows.getObject(10, Long.class));
+          count++;
+        }
+      }
+    }
+    writer.writeByte(0);
+    return count;
+  }
+
+  private static long writeTombstones(Connection connection, SnapshotWriter writer)
+      throws SQLException, IOException {
+    long count = 0;
+    try (PreparedStatement select = connection.prepareStatement(
+        "select id, tenant_id, entity_type, entity_id, project_id, deleted_at "
+            + "from tombstone order by id")) {
+      select.setFetchSize(FETCH_SIZE);
+      try (ResultSet rows = select.executeQuery()) {
+        while (rows.next()) {
+          writer.writeByte(1);
+          writer.writeLong(rows.getLong(1));
+          writer.writeString(rows.getString(2));
+          writer.writeEnum(toEnum(EntityType.class, rows.getString(3)));
+          writer.writeLong(rows.getLong(4));
+          writer.writeNullableLong(rows.getObject(5, Long.class));
+          writer.writeTimestamp(toLocalDateTime(rows.getTimestamp(6)));
+          count++;
+        }
+      }
+    }
+    writer.writeByte(0);
+    return count;
+  }
+
+  private static long loadProjects(
+      Connection connection, SnapshotReader reader, ProjectStatus[] statuses)
+      throws SQLException, IOException {
+    long count = 0;
+    try (PreparedStatement insert = connection.prepareStatement(
+        "insert into project (id, tenant_id, name, status, created_at, updated_at, version) "
+            + "values (?, ?, ?, ?, ?, ?, ?)")) {
+      while (reader.readByte() == 1) {
+        insert.setLong(1, reader.readLong());
+        insert.setString(2, readTenantId(reader));
+        insert.setString(3, reader.readString());
+        setEnum(insert, 4, reader.readEnum(statuses));
+        setTimestamp(insert, 5, reader.readTimestamp());
+        setTimestamp(insert, 6, reader.readTimestamp());
+        setLong(insert, 7, reader.readNullableLong());
+        addBatch(connection, insert, ++count);
+      }
+      insert.executeBatch();
+    }
+    return count;
+  }
+
+  private static long loadTasks(
+      Connection connection, SnapshotReader reader, Status[] statuses, Priority[] priorities)
+      throws SQLException, IOException {
+    long count = 0;
+    try (PreparedStatement insert = connection.prepareStatement(
+        "insert into task (id, tenant_id, project_id, name, status, priority, due_date, "
+            + "created_at, updated_at, version) values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)")) {
+      while (reader.readByte() == 1) {
+        insert.setLong(1, reader.readLong());
+        insert.setString(2, readTenantId(reader));
+        insert.setLong(3, reader.readLong());
+        insert.setString(4, reader.readString());
+        setEnum(insert, 5, reader.readEnum(statuses));
+        setEnum(insert, 6, reader.readEnum(priorities));
+        setTimestamp(insert, 7, reader.readTimestamp());
+        setTimestamp(insert, 8, reader.readTimestamp());
+        setTimestamp(insert, 9, reader.readTimestamp());
+        setLong(insert, 10, reader.readNullableLong());
+        addBatch(connection, insert, ++count);
+      }
+      insert.executeBatch();
+    }
+    return count;
+  }
+
+  private static long loadTombstones(
+      Connection connection, SnapshotReader reader, EntityType[] entityTypes)
+      throws SQLException, IOException {
+    long count = 0;
+    try (PreparedStatement insert = connection.prepareStatement(
+        "insert into tombstone (id, tenant_id, entity_type, entity_id, project_id, deleted_at) "
+            + "values (?, ?, ?, ?, ?, ?)")) {
+      while (reader.readByte() == 1) {
+        insert.setLong(1, reader.readLong());
+        insert.setString(2, readTenantId(reader));
+        setEnum(insert, 3, reader.readEnum(entityTypes));
+        insert.setLong(4, reader.readLong());
+        setLong(insert, 5, reader.readNullableLong());
+        setTimestamp(insert, 6, reader.readTimestamp());
+        addBatch(connection, insert, ++count);
+      }
+      insert.executeBatch();
+    }
+    return count;
+  }
+
+  /** Snapshots from before tenants existed hold only rows of the default tenant. */
+  private static String readTenantId(SnapshotReader reader) throws IOException {
+    return reader.formatVersion() >= 2 ? reader.readString() : TenantContext.DEFAULT;
+  }
+
+  /** New rows must not collide with the restored ids. */
+  private static void restartIds(Connection connection) throws SQLException {
+    try (Statement statement = connection.createStatement()) {
+      long project = maxId(statement, "project");
+      long task = maxId(statement, "task");
+      long tombstone = maxId(statement, "tombstone");
+      statement.execute("alter table project alter column id restart with " + (project + 1));
+      statement.execute("alter sequence task_seq restart with " + (task + SEQUENCE_GAP));
+      statement.execute("alter table tombstone alter column id restart with " + (tombstone + 1));
+    }
+  }
+
+  private static long maxId(Statement statement, String table) throws SQLException {
+    try (ResultSet row = statement.executeQuery("select coalesce(max(id), 0) from " + table)) {
+      row.next();
+      return row.getLong(1);
+    }
+  }
+
+  private static boolean hasProjects(Connection connection) throws SQLException {
+    try (Statement statement = connection.createStatement();
+        ResultSet row = statement.executeQuery("select count(*) from project")) {
+      row.next();
+      return row.getLong(1) > 0;
+    }
+  }
+
+  /** Commits every {@link #BATCH_SIZE} rows so the undo log of one huge transaction stays small. */
+  private static void addBatch(Connection connection, PreparedStatement insert, long count)
+      throws SQLException {
+    insert.addBatch();
+    if (count % BATCH_SIZE == 0) {
+      insert.executeBatch();
+      connection.commit();
+    }
+  }
+
+  private static void setEnum(PreparedStatement statement, int index, Enum<?> value)
+      throws SQLException {
+    statement.setString(index, value == null ? null : value.name());
+  }
+
+  private static void setTimestamp(PreparedStatement statement, int index, LocalDateTime value)
+      throws SQLException {
+    statement.setTimestamp(index, value == null ? null : Timestamp.valueOf(value));
+  }
+
+  private static void setLong(PreparedStatement statement, int index, Long value)
+      throws SQLException {
+    if (value == null) {
+      statement.setNull(index, Types.BIGINT);
+    } else {
+      statement.setLong(index, value);
+    }
+  }
+
+  private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+    return timestamp == null ? null : timestamp.toLocalDateTime();
+  }
+
+  private static <E extends Enum<E>> E toEnum(Class<E> type, String name) {
+    return name == null ? null : Enum.valueOf(type, name);
+  }
+}
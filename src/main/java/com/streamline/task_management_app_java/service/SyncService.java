@@ -0,0 +1,185 @@
+package com.streamline.task_management_app_java.service;
+
+import com.streamline.task_management_app_java.config.ReadWriteRoutingDataSource;
+import com.streamline.task_management_app_java.controller.dto.ProjectResponse;
+import com.streamline.task_management_app_java.controller.dto.SyncCursor;
+import com.streamline.task_management_app_java.controller.dto.SyncCursor.Position;
+import com.streamline.task_management_app_java.controller.dto.SyncResponse;
+import com.streamline.task_management_app_java.controller.dto.TaskChangeResponse;
+import com.streamline.task_management_app_java.controller.dto.TombstoneResponse;
+import com.streamline.task_management_app_java.domain.EntityType;
+import com.streamline.task_management_app_java.domain.Project;
+import com.streamline.task_management_app_java.domain.Task;
+import com.streamline.task_management_app_java.domain.Tombstone;
+import com.streamline.task_management_app_java.repository.ProjectRepository;
+import com.streamline.task_management_app_java.repository.TaskRepository;
+import com.streamline.task_management_app_java.repository.TombstoneRepository;
+import com.streamline.task_management_app_java.service.event.ChangeType;
+import com.streamline.task_management_app_java.service.event.ProjectChangedEvent;
+import com.streamline.task_management_app_java.service.event.TaskChangedEvent;
+import com.streamline.task_management_app_java.tenant.TenantContext;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Delta sync over {@code updated_at} watermarks plus tombstones for deletions.
+ *
+ * <p>Rows stamped within the last {@code app.sync.grace} are held back: a transaction can stamp a
+ * row and commit after a later-stamped one, and without the delay a client could move its
+ * watermark past a row it has never seen. For the same reason sync always reads the primary,
+ * never a replica that may lag behind by more than the grace.
+ *
+ * <p>Tombstones older than {@code app.sync.tombstone-retention} are purged on a schedule. The
+ * tombstone position of a cursor moves up to the end of the window whenever all tombstones in it
+ * were sent, so it also tells when the client last synced; a cursor older than the retention may
+ * have missed purged deletions and gets a {@code reset} response that starts over from scratch.
+ */
+@Slf4j
+@Service
+public class SyncService implements SmartInitializingSingleton {
+
+  public static final int MAX_PAGE_SIZE = 500;
+
+  private final ProjectRepository projectRepository;
+  private final TaskRepository taskRepository;
+  private final TombstoneRepository tombstoneRepository;
+  private final Duration grace;
+  private final Duration tombstoneRetention;
+  private final Duration tombstonePurgeInterval;
+
+  private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+      Thread.ofPlatform().name("tombstone-purge").daemon().factory());
+
+  public SyncService(
+      ProjectRepository projectRepository,
+      TaskRepository taskRepository,
+      TombstoneRepository tombstoneRepository,
+      @Value("${app.sync.grace:5s}") Duration grace,
+      @Value("${app.sync.tombstone-retention:30d}") Duration tombstoneRetention,
+      @Value("${app.sync.tombstone-purge-interval:1h}") Duration tombstonePurgeInterval) {
+    this.projectRepository = projectRepository;
+    this.taskRepository = taskRepository;
+    this.tombstoneRepository = tombstoneRepository;
+    this.grace = grace;
+    this.tombstoneRetention = tombstoneRetention;
+    this.tombstonePurgeInterval = tombstonePurgeInterval;
+  }
+
+  @Override
+  public void afterSingletonsInstantiated() {
+    long interval = tombstonePurgeInterval.toMillis();
+    scheduler.scheduleWithFixedDelay(
+        this::safePurge, interval, interval, TimeUnit.MILLISECONDS);
+  }
+
+  @PreDestroy
+  void shutdown() {
+    scheduler.shutdownNow();
+  }
+
+  @Transactional(readOnly = true)
+  public SyncResponse getChanges(String since, int size) {
+    // A lagging replica could miss rows stamped before the window end; once the cursor moves past
+    // them they would never be sent.
+    return ReadWriteRoutingDataSource.readFromPrimary(() -> changes(since, size));
+  }
+
+  private SyncResponse changes(String since, int size) {
+    int pageSize = Math.clamp(size, 1, MAX_PAGE_SIZE);
+    Limit limit = Limit.of(pageSize + 1);
+    SyncCursor cursor = SyncCursor.decode(since);
+    LocalDateTime now = LocalDateTime.now();
+    LocalDateTime until = now.minus(grace);
+    // Deletions after the cursor may already be purged; only a full resync is safe then.
+    boolean reset = !cursor.equals(SyncCursor.START)
+        && cursor.tombstones().at().isBefore(now.minus(tombstoneRetention));
+    if (reset) {
+      cursor = SyncCursor.START;
+    }
+
+    List<Project> projects = projectRepository.findChangedAfter(
+        cursor.projects().at(), cursor.projects().id(), until, limit);
+    List<Task> tasks = taskRepository.findChangedAfter(
+        cursor.tasks().at(), cursor.tasks().id(), until, limit);
+    List<Tombstone> tombstones = tombstoneRepository.findDeletedAfter(
+        cursor.tombstones().at(), cursor.tombstones().id(), until, limit);
+    boolean moreTombstones = tombstones.size() > pageSize;
+    boolean hasMore = projects.size() > pageSize || tasks.size() > pageSize || moreTombstones;
+
+    projects = head(projects, pageSize);
+    tasks = head(tasks, pageSize);
+    tombstones = head(tombstones, pageSize);
+    // Once every tombstone before until is sent the position moves there, deletions or not, so it
+    // also dates the client's last sync; id 0 keeps the ones stamped exactly at until.
+    Position tombstonesSent = moreTombstones || !until.isAfter(cursor.tombstones().at())
+        ? advance(cursor.tombstones(), tombstones,
+            tombstone -> new Position(tombstone.getDeletedAt(), tombstone.getId()))
+        : new Position(until, 0);
+    SyncCursor next = new SyncCursor(
+        advance(cursor.projects(), projects, project -> new Position(project.getUpdatedAt(), project.getId())),
+        advance(cursor.tasks(), tasks, task -> new Position(task.getUpdatedAt(), task.getId())),
+        tombstonesSent);
+
+    return new SyncResponse(
+        projects.stream().map(ProjectResponse::of).toList(),
+        tasks.stream().map(TaskChangeResponse::of).toList(),
+        tombstones.stream().map(TombstoneResponse::of).toList(),
+        next.encode(),
+        hasMore,
+        reset);
+  }
+
+  /** Deletes the tombstones of every tenant that are older than the retention. */
+  void purgeTombstones(LocalDateTime now) {
+    int purged = tombstoneRepository.deleteAllByDeletedAtBefore(now.minus(tombstoneRetention));
+    log.debug("Purged {} tombstones", purged);
+  }
+
+  private void safePurge() {
+    try {
+      TenantContext.runAsRoot(() -> purgeTombstones(LocalDateTime.now()));
+    } catch (RuntimeException e) {
+      // Keep the schedule alive; the next run deletes what this one left.
+      log.error("Tombstone purge failed", e);
+    }
+  }
+
+  // Tombstones are written before commit so they exist exactly when the deletion does.
+  @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+  public void onTaskChanged(TaskChangedEvent event) {
+    if (event.type() == ChangeType.DELETED) {
+      tombstoneRepository.save(
+          new Tombstone(EntityType.TASK, event.taskId(), event.projectId(), LocalDateTime.now()));
+    }
+  }
+
+  @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+  public void onProjectChanged(ProjectChangedEvent event) {
+    if (event.type() == ChangeType.DELETED) {
+      tombstoneRepository.save(
+          new Tombstone(EntityType.PROJECT, event.projectId(), event.projectId(), LocalDateTime.now()));
+    }
+  }
+
+  private static <T> List<T> head(List<T> fetched, int size) {
+    return fetched.size() > size ? fetched.subList(0, size) : fetched;
+  }
+
+  private static <T> Position advance(Position current, List<T> page, Function<T, Position> positionOf) {
+    return page.isEmpty() ? current : positionOf.apply(page.getLast());
+  }
+}
@@ -1,63 +1,207 @@
 package com.streamline.task_management_app_java.service;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.streamline.task_management_app_java.config.CacheConfig;
+import com.streamline.task_management_app_java.config.ReadWriteRoutingDataSource;
 import com.streamline.task_management_app_java.repository.TaskRepository;
+import com.streamline.task_management_app_java.repository.TaskSpecifications;
+import com.streamline.task_management_app_java.controller.dto.CursorPage;
+import com.streamline.task_management_app_java.controller.dto.TaskBulkCreateResult;
+import com.streamline.task_management_app_java.controller.dto.TaskCursor;
 import com.streamline.task_management_app_java.controller.dto.TaskResponse;
+import com.streamline.task_management_app_java.controller.dto.TaskSearchCondition;
+import com.streamline.task_management_app_java.controller.dto.TaskSort;
+import com.streamline.task_management_app_java.controller.dto.TaskStatusTransitionRequest;
+import com.streamline.task_management_app_java.controller.dto.TaskStatusTransitionResponse;
 import com.streamline.task_management_app_java.controller.dto.TaskUpdateRequest;
 import com.streamline.task_management_app_java.controller.dto.TaskCreateRequest;
 import com.streamline.task_management_app_java.domain.Project;
 import com.streamline.task_management_app_java.domain.Task;
+import com.streamline.task_management_app_java.service.event.TaskChangedEvent;
+import com.streamline.task_management_app_java.service.event.TaskSnapshot;
+import com.streamline.task_management_app_java.service.event.TasksBulkChangedEvent;
 import lombok.RequiredArgsConstructor;
 
 @RequiredArgsConstructor
 @Service
 public class TaskService {
 
+    // Matches hibernate.jdbc.batch_size so each flush sends exactly one JDBC batch.
+    private static final int BATCH_SIZE = 50;
+
+    public static final int MAX_PAGE_SIZE = 100;
+
+    // Bulk transitions changing more tasks than this clear the task cache instead of evicting each.
+    static final int MAX_EVICTED_TASKS = 1_000;
+
     private final TaskRepository taskRepository;
     private final ProjectService projectService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CacheManager cacheManager;
 
+    /** Cached until evicted, so it is read from the primary and never from a lagging replica. */
+    @Cacheable(cacheNames = CacheConfig.TASKS, key = CacheConfig.TENANT_KEY + "#id")
     @Transactional(readOnly = true)
     public TaskResponse getTask(Long id) {
+        return ReadWriteRoutingDataSource.readFromPrimary(() -> {
+            Task task = taskRepository.findById(id)
+                    .orElseThrow(() -> new IllegalArgumentException("Can't find task: " + id));
 
-        Task task = taskRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("Can't find task: " + id));
+            return TaskResponse.of(task);
+        });
+    }
 
-        return TaskResponse.of(task);
+    @Transactional(readOnly = true)
+    public CursorPage<TaskResponse> getTasks(Long projectId, TaskSearchCondition condition) {
+
+        int pageSize = Math.clamp(condition.sizeOrDefault(), 1, MAX_PAGE_SIZE);
+        TaskSort sort = condition.sortOrDefault();
+        TaskCursor after = TaskCursor.decode(sort, condition.cursor());
+
+        List<Task> tasks = taskRepository.findBy(
+                TaskSpecifications.search(projectId, condition, after),
+                query -> query.sortBy(sort.toSort()).limit(pageSize + 1).all());
+
+        return CursorPage.of(
+                tasks.stream().map(TaskResponse::of).toList(),
+                pageSize,
+                task -> TaskCursor.of(sort, task).encode());
     }
 
+    @CachePut(cacheNames = CacheConfig.TASKS, key = CacheConfig.TENANT_KEY + "#result.id()")
     @Transactional
     public TaskResponse createTask(TaskCreateRequest request) {
 
-        Project project = projectService.getProjectEntity(request.projectId());
+        Project project = projectService.getProjectReference(request.projectId());
 
-        Task task = Task.builder()
-                .name(request.name())
-                .status(request.status())
-                .priority(request.priority())
-                .dueDate(request.dueDate())
-                .build();
+        Task savedTask = taskRepository.save(toTask(request, project));
+        eventPublisher.publishEvent(TaskChangedEvent.created(TaskSnapshot.of(savedTask)));
+        return TaskResponse.of(savedTask);
+    }
 
-        project.addTask(task);
+    @Transactional
+    public List<TaskBulkCreateResult> createTasks(List<TaskCreateRequest> requests) {
 
-        Task savedTask = taskRepository.save(task);
-        return TaskResponse.of(savedTask);
+        Set<Long> projectIds = requests.stream()
+                .map(TaskCreateRequest::projectId)
+                .collect(Collectors.toSet());
+        Map<Long, Project> projects = projectService.getProjectEntities(projectIds);
+
+        List<TaskBulkCreateResult> results = new ArrayList<>(requests.size());
+        int pending = 0;
+        for (int i = 0; i < requests.size(); i++) {
+            TaskCreateRequest request = requests.get(i);
+            Project project = projects.get(request.projectId());
+            if (project == null) {
+                results.add(TaskBulkCreateResult.failed(i, "Project not found with id: " + request.projectId()));
+                continue;
+            }
+
+            Task task = taskRepository.save(toTask(request, project));
+            eventPublisher.publishEvent(TaskChangedEvent.created(TaskSnapshot.of(task)));
+            results.add(TaskBulkCreateResult.created(i, TaskResponse.of(task)));
+
+            if (++pending % BATCH_SIZE == 0) {
+                taskRepository.flush();
+            }
+        }
+        return results;
     }
 
+    /** {@code expectedVersion} comes from {@code If-Match}; null deletes unconditionally. */
+    @CacheEvict(cacheNames = CacheConfig.TASKS, key = CacheConfig.TENANT_KEY + "#id")
     @Transactional
-    public void deleteTask(Long id) {
+    public void deleteTask(Long id, Long expectedVersion) {
         Task task = taskRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Can't find task: " + id));
-        task.getProject().removeTask(task);
+        task.checkVersion(expectedVersion);
+        taskRepository.delete(task);
+        eventPublisher.publishEvent(TaskChangedEvent.deleted(TaskSnapshot.of(task)));
     }
 
+    /**
+     * {@code expectedVersion} comes from {@code If-Match}; null updates unconditionally. A writer
+     * that commits in between is still caught by the version check of the UPDATE itself.
+     */
+    @CachePut(cacheNames = CacheConfig.TASKS, key = CacheConfig.TENANT_KEY + "#id")
     @Transactional
-    public TaskResponse updateTask(Long id, TaskUpdateRequest request) {
+    public TaskResponse updateTask(Long id, TaskUpdateRequest request, Long expectedVersion) {
         Task task = taskRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Can't find task: " + id));
+        task.checkVersion(expectedVersion);
+        TaskSnapshot before = TaskSnapshot.of(task);
         task.updateTask(request);
+        // Flush now so the response and the cached copy carry the incremented version.
+        taskRepository.flush();
+        eventPublisher.publishEvent(TaskChangedEvent.updated(before, TaskSnapshot.of(task)));
         return TaskResponse.of(task);
     }
 
+    /**
+     * Set-based UPDATEs for the whole filter instead of load, dirty check and update per task.
+     * Up to {@link #MAX_EVICTED_TASKS} matching ids are listed first and updated by id, so only
+     * they leave the cache. Beyond that, or if more tasks matched by the time of the update, the
+     * task cache is cleared instead.
+     */
+    @Transactional
+    public TaskStatusTransitionResponse transitionStatus(Long projectId, TaskStatusTransitionRequest request) {
+
+        projectService.getProjectReference(projectId);
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> ids =
+                taskRepository.findIdsToTransition(projectId, request, MAX_EVICTED_TASKS + 1);
+        boolean evictListed = ids.size() <= MAX_EVICTED_TASKS;
+        int updated = evictListed && !ids.isEmpty()
+                ? taskRepository.transitionStatus(projectId, request, now, ids)
+                : 0;
+        // Listed tasks are in the target status now, so this only changes the ones not listed.
+        int unlisted = taskRepository.transitionStatus(projectId, request, now);
+        updated += unlisted;
+        evictTasks(unlisted == 0 ? ids : null);
+        if (updated > 0) {
+            eventPublisher.publishEvent(
+                    new TasksBulkChangedEvent(projectId, request.targetStatus(), updated));
+        }
+        return new TaskStatusTransitionResponse(projectId, request.targetStatus(), updated);
+    }
+
+    /** Null clears the whole task cache. Inside the transaction this happens once it commits. */
+    private void evictTasks(List<Long> ids) {
+        Cache tasks = cacheManager.getCache(CacheConfig.TASKS);
+        if (tasks == null) {
+            return;
+        }
+        if (ids == null) {
+            tasks.clear();
+        } else {
+            ids.forEach(id -> tasks.evict(CacheConfig.tenantKey(id)));
+        }
+    }
+
+    // Sets only the owning side (Task.project); going through Project.addTask would touch Project.tasks.
+    private Task toTask(TaskCreateRequest request, Project project) {
+        return Task.builder()
+                .name(request.name())
+                .status(request.status())
+                .priority(request.priority())
+                .dueDate(request.dueDate())
+                .project(project)
+                .build();
+    }
 }
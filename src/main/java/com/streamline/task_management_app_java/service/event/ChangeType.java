@@ -0,0 +1,7 @@
+package com.streamline.task_management_app_java.service.event;
+
+public enum ChangeType {
+  CREATED,
+  UPDATED,
+  DELETED
+}
@@ -0,0 +1,12 @@
+package com.streamline.task_management_app_java.service.event;
+
+/**
+ * Published by {@code ProjectService} inside the transaction, see {@link TaskChangedEvent}. The
+ * name is the committed one and is {@code null} for deletions.
+ */
+public record ProjectChangedEvent(ChangeType type, Long projectId, String name) {
+
+  public ProjectChangedEvent(ChangeType type, Long projectId) {
+    this(type, projectId, null);
+  }
+}
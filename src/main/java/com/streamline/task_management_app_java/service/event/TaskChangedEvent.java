@@ -0,0 +1,33 @@
+package com.streamline.task_management_app_java.service.event;
+
+/**
+ * Published by {@code TaskService} inside the transaction; listeners use
+ * {@code @TransactionalEventListener} so they only see committed changes. {@code before} is null
+ * for creations and {@code after} is null for deletions.
+ */
+public record TaskChangedEvent(ChangeType type, TaskSnapshot before, TaskSnapshot after) {
+
+  public static TaskChangedEvent created(TaskSnapshot task) {
+    return new TaskChangedEvent(ChangeType.CREATED, null, task);
+  }
+
+  public static TaskChangedEvent updated(TaskSnapshot before, TaskSnapshot after) {
+    return new TaskChangedEvent(ChangeType.UPDATED, before, after);
+  }
+
+  public static TaskChangedEvent deleted(TaskSnapshot task) {
+    return new TaskChangedEvent(ChangeType.DELETED, task, null);
+  }
+
+  public TaskSnapshot current() {
+    return after != null ? after : before;
+  }
+
+  public Long taskId() {
+    return current().id();
+  }
+
+  public Long projectId() {
+    return current().projectId();
+  }
+}
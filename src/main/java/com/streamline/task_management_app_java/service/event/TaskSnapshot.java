@@ -0,0 +1,26 @@
+package com.streamline.task_management_app_java.service.event;
+
+import com.streamline.task_management_app_java.domain.Priority;
+import com.streamline.task_management_app_java.domain.Status;
+import com.streamline.task_management_app_java.domain.Task;
+import java.time.LocalDateTime;
+
+/** Immutable copy of a task's state, safe to hand to listeners after the session is gone. */
+public record TaskSnapshot(
+    Long id,
+    Long projectId,
+    String name,
+    Status status,
+    Priority priority,
+    LocalDateTime dueDate) {
+
+  public static TaskSnapshot of(Task task) {
+    return new TaskSnapshot(
+        task.getId(),
+        task.getProject() == null ? null : task.getProject().getId(),
+        task.getName(),
+        task.getStatus(),
+        task.getPriority(),
+        task.getDueDate());
+  }
+}
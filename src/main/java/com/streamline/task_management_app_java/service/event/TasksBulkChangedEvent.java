@@ -0,0 +1,9 @@
+package com.streamline.task_management_app_java.service.event;
+
+import com.streamline.task_management_app_java.domain.Status;
+
+/**
+ * Published when tasks of a project were changed by a set-based statement, so there is no
+ * per-task snapshot. Listeners that keep derived state should reload the project.
+ */
+public record TasksBulkChangedEvent(Long projectId, Status targetStatus, int updatedTasks) {}
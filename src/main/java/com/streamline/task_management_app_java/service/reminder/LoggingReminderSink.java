@@ -0,0 +1,19 @@
+package com.streamline.task_management_app_java.service.reminder;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/** Default sink for local runs and tests. */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.reminder.sink", havingValue = "log", matchIfMissing = true)
+public class LoggingReminderSink implements ReminderSink {
+
+  @Override
+  public void send(Reminder reminder) {
+    log.info("Reminder {}: task {} '{}' of project {} (tenant {}) is due at {}",
+        reminder.type(), reminder.taskId(), reminder.taskName(), reminder.projectId(),
+        reminder.tenantId(), reminder.dueDate());
+  }
+}
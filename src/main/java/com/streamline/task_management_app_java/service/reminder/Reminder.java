@@ -0,0 +1,13 @@
+package com.streamline.task_management_app_java.service.reminder;
+
+import java.time.LocalDateTime;
+
+/** {@code tenantId} tells a sink serving every tenant whom to notify. */
+public record Reminder(
+    ReminderType type,
+    String tenantId,
+    Long taskId,
+    Long projectId,
+    String taskName,
+    LocalDateTime dueDate,
+    LocalDateTime firedAt) {}
@@ -0,0 +1,10 @@
+package com.streamline.task_management_app_java.service.reminder;
+
+/**
+ * Receives reminders from {@code ReminderService} on its scheduler thread; implementations that
+ * do I/O should hand the work off instead of blocking. Select one with {@code app.reminder.sink}.
+ */
+public interface ReminderSink {
+
+  void send(Reminder reminder);
+}
@@ -0,0 +1,8 @@
+package com.streamline.task_management_app_java.service.reminder;
+
+public enum ReminderType {
+  /** {@code app.reminder.due-soon-lead} before the due date. */
+  DUE_SOON,
+  /** At the due date. */
+  OVERDUE
+}
@@ -0,0 +1,54 @@
+package com.streamline.task_management_app_java.service.reminder;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Posts each reminder as JSON to {@code app.reminder.webhook-url} without waiting for the answer.
+ * Failed deliveries are logged and not retried; point it at a request bin to try it out.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.reminder.sink", havingValue = "webhook")
+public class WebhookReminderSink implements ReminderSink {
+
+  private final HttpClient httpClient =
+      HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(2)).build();
+  private final ObjectMapper objectMapper;
+  private final URI webhookUrl;
+
+  public WebhookReminderSink(
+      ObjectMapper objectMapper, @Value("${app.reminder.webhook-url}") URI webhookUrl) {
+    this.objectMapper = objectMapper;
+    this.webhookUrl = webhookUrl;
+  }
+
+  @Override
+  public void send(Reminder reminder) {
+    HttpRequest request = HttpRequest.newBuilder(webhookUrl)
+        .timeout(Duration.ofSeconds(5))
+        .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+        .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(reminder)))
+        .build();
+    httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+        .whenComplete((response, failure) -> {
+          if (failure != null) {
+            log.warn("Reminder webhook failed for task {}: {}",
+                reminder.taskId(), failure.toString());
+          } else if (response.statusCode() >= 300) {
+            log.warn("Reminder webhook answered {} for task {}",
+                response.statusCode(), reminder.taskId());
+          }
+        });
+  }
+}
@@ -0,0 +1,162 @@
+package com.streamline.task_management_app_java.service.snapshot;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.reflect.Array;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.zip.CRC32C;
+
+/**
+ * Reads a file written by {@link SnapshotWriter} through memory-mapped windows, so files larger
+ * than one mapping (2 GB) work and nothing is copied through a heap buffer. The checksum is
+ * verified when the file is opened, before the caller reads anything. Files of an older format
+ * version are accepted; the caller checks {@link #formatVersion()} for fields added since.
+ */
+public final class SnapshotReader implements Closeable {
+
+  private static final long WINDOW_SIZE = 256L << 20;
+  private static final int TRAILER_SIZE = Integer.BYTES + Long.BYTES;
+  private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+  private final FileChannel channel;
+  private final long dataEnd;
+  private final int formatVersion;
+  private MappedByteBuffer window;
+  private long windowStart;
+
+  public SnapshotReader(Path path) throws IOException {
+    this.channel = FileChannel.open(path, StandardOpenOption.READ);
+    try {
+      this.dataEnd = channel.size() - TRAILER_SIZE;
+      verify();
+      map(0);
+      if (readInt() != SnapshotWriter.MAGIC) {
+        throw new IOException("Not a snapshot file: " + path);
+      }
+      int version = readInt();
+      if (version < 1 || version > SnapshotWriter.FORMAT_VERSION) {
+        throw new IOException("Unsupported snapshot format version " + version + ": " + path);
+      }
+      this.formatVersion = version;
+    } catch (IOException | RuntimeException e) {
+      channel.close();
+      throw e;
+    }
+  }
+
+  public int formatVersion() {
+    return formatVersion;
+  }
+
+  public int readByte() throws IOException {
+    ensure(1);
+    return window.get();
+  }
+
+  public int readInt() throws IOException {
+    ensure(Integer.BYTES);
+    return window.getInt();
+  }
+
+  public long readLong() throws IOException {
+    ensure(Long.BYTES);
+    return window.getLong();
+  }
+
+  public Long readNullableLong() throws IOException {
+    long value = readLong();
+    return value == SnapshotWriter.NULL_LONG ? null : value;
+  }
+
+  public String readString() throws IOException {
+    int length = readInt();
+    if (length < 0) {
+      return null;
+    }
+    byte[] bytes = new byte[length];
+    for (int offset = 0; offset < length; ) {
+      ensure(1);
+      int chunk = Math.min(window.remaining(), length - offset);
+      window.get(bytes, offset, chunk);
+      offset += chunk;
+    }
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  public LocalDateTime readTimestamp() throws IOException {
+    long micros = readLong();
+    return micros == SnapshotWriter.NULL_LONG ? null : EPOCH.plus(micros, ChronoUnit.MICROS);
+  }
+
+  /**
+   * Reads a table written by {@link SnapshotWriter#writeEnumTable}; the result maps the written
+   * ordinals to the current constants.
+   */
+  public <E extends Enum<E>> E[] readEnumTable(Class<E> type) throws IOException {
+    int size = readByte();
+    @SuppressWarnings("unchecked")
+    E[] constants = (E[]) Array.newInstance(type, size);
+    for (int i = 0; i < size; i++) {
+      String name = readString();
+      try {
+        constants[i] = Enum.valueOf(type, name);
+      } catch (IllegalArgumentException e) {
+        throw new IOException("Snapshot has unknown " + type.getSimpleName() + " " + name, e);
+      }
+    }
+    return constants;
+  }
+
+  public <E> E readEnum(E[] table) throws IOException {
+    int ordinal = readByte();
+    return ordinal < 0 ? null : table[ordinal];
+  }
+
+  @Override
+  public void close() throws IOException {
+    channel.close();
+  }
+
+  static long toMicros(LocalDateTime value) {
+    return ChronoUnit.MICROS.between(EPOCH, value);
+  }
+
+  private void verify() throws IOException {
+    if (dataEnd < 2L * Integer.BYTES) {
+      throw new IOException("Snapshot file is truncated");
+    }
+    CRC32C crc = new CRC32C();
+    for (long position = 0; position < dataEnd; position += WINDOW_SIZE) {
+      crc.update(channel.map(
+          FileChannel.MapMode.READ_ONLY, position, Math.min(WINDOW_SIZE, dataEnd - position)));
+    }
+    MappedByteBuffer trailer = channel.map(FileChannel.MapMode.READ_ONLY, dataEnd, TRAILER_SIZE);
+    if (trailer.getInt() != SnapshotWriter.MAGIC || trailer.getLong() != crc.getValue()) {
+      throw new IOException("Snapshot file is truncated or corrupt");
+    }
+  }
+
+  private void ensure(int bytes) throws IOException {
+    if (window.remaining() >= bytes) {
+      return;
+    }
+    long position = windowStart + window.position();
+    if (dataEnd - position < bytes) {
+      throw new IOException("Unexpected end of snapshot at byte " + position);
+    }
+    map(position);
+  }
+
+  private void map(long position) throws IOException {
+    windowStart = position;
+    window = channel.map(
+        FileChannel.MapMode.READ_ONLY, position, Math.min(WINDOW_SIZE, dataEnd - position));
+  }
+}
@@ -0,0 +1,139 @@
+package com.streamline.task_management_app_java.service.snapshot;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.zip.CRC32C;
+
+/**
+ * Writes a snapshot file through one direct buffer. The data goes to a temporary file next to the
+ * target, which {@link #commit()} replaces atomically, so a crash while writing leaves the previous
+ * snapshot in place. Closing without committing discards the temporary file.
+ *
+ * <p>Layout: magic, format version, then the caller's fields, then a trailer of magic and the
+ * CRC32C of everything before it. Longs are big-endian, strings are a length-prefixed UTF-8, enum
+ * values one ordinal byte and timestamps microseconds since the epoch in UTC.
+ */
+public final class SnapshotWriter implements Closeable {
+
+  static final int MAGIC = 0x544D534E;
+  // 2 added the tenant id of every row.
+  static final int FORMAT_VERSION = 2;
+  static final long NULL_LONG = Long.MIN_VALUE;
+
+  private static final int BUFFER_SIZE = 1 << 20;
+
+  private final Path target;
+  private final Path temporary;
+  private final FileChannel channel;
+  private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+  private final CRC32C crc = new CRC32C();
+  private boolean committed;
+
+  public SnapshotWriter(Path target) throws IOException {
+    this.target = target;
+    Path directory = target.toAbsolutePath().getParent();
+    Files.createDirectories(directory);
+    this.temporary = Files.createTempFile(directory, target.getFileName().toString(), ".tmp");
+    this.channel = FileChannel.open(temporary, StandardOpenOption.WRITE);
+    writeInt(MAGIC);
+    writeInt(FORMAT_VERSION);
+  }
+
+  public void writeByte(int value) throws IOException {
+    ensure(1);
+    buffer.put((byte) value);
+  }
+
+  public void writeInt(int value) throws IOException {
+    ensure(Integer.BYTES);
+    buffer.putInt(value);
+  }
+
+  public void writeLong(long value) throws IOException {
+    ensure(Long.BYTES);
+    buffer.putLong(value);
+  }
+
+  public void writeNullableLong(Long value) throws IOException {
+    writeLong(value == null ? NULL_LONG : value);
+  }
+
+  public void writeString(String value) throws IOException {
+    if (value == null) {
+      writeInt(-1);
+      return;
+    }
+    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    writeInt(bytes.length);
+    for (int offset = 0; offset < bytes.length; ) {
+      ensure(1);
+      int length = Math.min(buffer.remaining(), bytes.length - offset);
+      buffer.put(bytes, offset, length);
+      offset += length;
+    }
+  }
+
+  public void writeTimestamp(LocalDateTime value) throws IOException {
+    writeLong(value == null ? NULL_LONG : SnapshotReader.toMicros(value));
+  }
+
+  /** Writes the constant names in ordinal order so values survive reordering the enum. */
+  public <E extends Enum<E>> void writeEnumTable(Class<E> type) throws IOException {
+    E[] constants = type.getEnumConstants();
+    writeByte(constants.length);
+    for (E constant : constants) {
+      writeString(constant.name());
+    }
+  }
+
+  public void writeEnum(Enum<?> value) throws IOException {
+    writeByte(value == null ? -1 : value.ordinal());
+  }
+
+  /** Writes the trailer, forces the file to disk and moves it over the target. */
+  public void commit() throws IOException {
+    drain();
+    // The trailer is not part of the checksum.
+    buffer.putInt(MAGIC).putLong(crc.getValue());
+    buffer.flip();
+    while (buffer.hasRemaining()) {
+      channel.write(buffer);
+    }
+    channel.force(true);
+    channel.close();
+    Files.move(temporary, target,
+        StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    committed = true;
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (!committed) {
+      channel.close();
+      Files.deleteIfExists(temporary);
+    }
+  }
+
+  private void ensure(int bytes) throws IOException {
+    if (buffer.remaining() < bytes) {
+      drain();
+    }
+  }
+
+  private void drain() throws IOException {
+    buffer.flip();
+    crc.update(buffer.duplicate());
+    while (buffer.hasRemaining()) {
+      channel.write(buffer);
+    }
+    buffer.clear();
+  }
+}
@@ -0,0 +1,97 @@
+package com.streamline.task_management_app_java.service.transfer;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads RFC 4180 rows one at a time, so a file of any size needs memory for one row only. Quoted
+ * fields may contain commas, doubled quotes and line breaks; an empty unquoted field is read as
+ * null. Lines end with LF or CRLF.
+ */
+public final class CsvReader {
+
+  private static final int EOF = -1;
+
+  private final Reader reader;
+  private final StringBuilder field = new StringBuilder();
+  private int pending = EOF;
+  private boolean hasPending;
+
+  /** {@code reader} should be buffered; it is read one character at a time. */
+  public CsvReader(Reader reader) {
+    this.reader = reader;
+  }
+
+  /** Returns the next row, or null at the end of the input. */
+  public List<String> next() {
+    int c = read();
+    if (c == EOF) {
+      return null;
+    }
+    List<String> row = new ArrayList<>();
+    while (true) {
+      field.setLength(0);
+      boolean quoted = false;
+      if (c == '"') {
+        quoted = true;
+        c = readQuoted();
+      } else {
+        while (c != ',' && c != '\n' && c != '\r' && c != EOF) {
+          field.append((char) c);
+          c = read();
+        }
+      }
+      row.add(!quoted && field.isEmpty() ? null : field.toString());
+      if (c == ',') {
+        c = read();
+        continue;
+      }
+      if (c == '\r') {
+        int next = read();
+        if (next != '\n') {
+          unread(next);
+        }
+      } else if (c != '\n' && c != EOF) {
+        throw new IllegalArgumentException("Unexpected character after quoted field: " + (char) c);
+      }
+      return row;
+    }
+  }
+
+  /** Reads up to and including the closing quote; returns the character after it. */
+  private int readQuoted() {
+    while (true) {
+      int c = read();
+      if (c == EOF) {
+        throw new IllegalArgumentException("Unterminated quoted field");
+      }
+      if (c == '"') {
+        int next = read();
+        if (next != '"') {
+          return next;
+        }
+      }
+      field.append((char) c);
+    }
+  }
+
+  private int read() {
+    if (hasPending) {
+      hasPending = false;
+      return pending;
+    }
+    try {
+      return reader.read();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private void unread(int c) {
+    pending = c;
+    hasPending = true;
+  }
+}
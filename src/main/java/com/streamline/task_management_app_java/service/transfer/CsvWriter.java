@@ -0,0 +1,57 @@
+package com.streamline.task_management_app_java.service.transfer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+
+/**
+ * RFC 4180 rows: fields holding a comma, quote or line break are quoted, and null is written as
+ * an empty field. Nothing is buffered here, so wrap the target in a buffered writer.
+ */
+public final class CsvWriter {
+
+  private final Writer writer;
+
+  public CsvWriter(Writer writer) {
+    this.writer = writer;
+  }
+
+  public void writeRow(Object... fields) {
+    try {
+      for (int i = 0; i < fields.length; i++) {
+        if (i > 0) {
+          writer.write(',');
+        }
+        if (fields[i] != null) {
+          writeField(fields[i].toString());
+        }
+      }
+      writer.write("\r\n");
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  public void flush() {
+    try {
+      writer.flush();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private void writeField(String field) throws IOException {
+    boolean quote = false;
+    for (int i = 0; i < field.length() && !quote; i++) {
+      char c = field.charAt(i);
+      quote = c == ',' || c == '"' || c == '\r' || c == '\n';
+    }
+    if (!quote) {
+      writer.write(field);
+      return;
+    }
+    writer.write('"');
+    writer.write(field.replace("\"", "\"\""));
+    writer.write('"');
+  }
+}
@@ -0,0 +1,94 @@
+package com.streamline.task_management_app_java.tenant;
+
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * Tenant of the work running on the current thread. {@link TenantFilter} binds it for a request,
+ * Hibernate reads it through {@link TenantIdentifierResolver} whenever a session is opened, and
+ * every query of a tenant-scoped entity is restricted to it.
+ *
+ * <p>Without a binding the {@link #DEFAULT} tenant applies, so single-tenant clients and tests need
+ * no changes. Background jobs that have to see every tenant (index rebuilds, reminders, the
+ * activity log writer) run with {@link #runAsRoot}; jobs started for a request carry its tenant
+ * over with {@link #wrap}.
+ */
+public final class TenantContext {
+
+  public static final String DEFAULT = "default";
+  public static final int MAX_LENGTH = 64;
+
+  /** Not a valid tenant id, so no client can claim it. */
+  static final String ROOT = "*";
+
+  private static final Pattern VALID = Pattern.compile("[A-Za-z0-9_-]{1," + MAX_LENGTH + "}");
+  private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+  private TenantContext() {}
+
+  /** The bound tenant, {@link #DEFAULT} if there is none, or the root marker inside root work. */
+  public static String current() {
+    String tenantId = CURRENT.get();
+    return tenantId != null ? tenantId : DEFAULT;
+  }
+
+  public static boolean isValid(String tenantId) {
+    return tenantId != null && VALID.matcher(tenantId).matches();
+  }
+
+  public static void run(String tenantId, Runnable action) {
+    call(tenantId, () -> {
+      action.run();
+      return null;
+    });
+  }
+
+  public static <T> T call(String tenantId, Supplier<T> action) {
+    if (!isValid(tenantId)) {
+      throw new IllegalArgumentException("Invalid tenant id: " + tenantId);
+    }
+    return bind(tenantId, action);
+  }
+
+  /**
+   * Runs {@code action} across all tenants. Queries are not restricted, and new entities keep the
+   * tenant id they were given instead of being assigned one.
+   */
+  public static void runAsRoot(Runnable action) {
+    bind(ROOT, () -> {
+      action.run();
+      return null;
+    });
+  }
+
+  /** Binds the tenant of the calling thread around {@code action} wherever it runs later. */
+  public static Runnable wrap(Runnable action) {
+    String tenantId = CURRENT.get();
+    return () -> bind(tenantId, () -> {
+      action.run();
+      return null;
+    });
+  }
+
+  private static <T> T bind(String tenantId, Supplier<T> action) {
+    String previous = CURRENT.get();
+    set(tenantId);
+    try {
+      return action.get();
+    } finally {
+      set(previous);
+    }
+  }
+
+  static void set(String tenantId) {
+    if (tenantId == null) {
+      CURRENT.remove();
+    } else {
+      CURRENT.set(tenantId);
+    }
+  }
+
+  static void clear() {
+    CURRENT.remove();
+  }
+}
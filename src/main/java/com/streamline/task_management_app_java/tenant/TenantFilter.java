@@ -0,0 +1,63 @@
+package com.streamline.task_management_app_java.tenant;
+
+import com.streamline.task_management_app_java.controller.dto.ApiResponse;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Binds the tenant named by {@value #TENANT_HEADER} for the rest of the request. Requests without
+ * the header belong to {@link TenantContext#DEFAULT}. The filter runs before anything that opens
+ * a Hibernate session, which is where the tenant is picked up.
+ */
+@RequiredArgsConstructor
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class TenantFilter extends OncePerRequestFilter {
+
+  /** This application has no authentication, so the client names its tenant. */
+  public static final String TENANT_HEADER = "X-Tenant-Id";
+
+  private final ObjectMapper objectMapper;
+
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    String tenantId = request.getHeader(TENANT_HEADER);
+    if (tenantId == null) {
+      filterChain.doFilter(request, response);
+      return;
+    }
+    if (!TenantContext.isValid(tenantId)) {
+      response.setStatus(HttpStatus.BAD_REQUEST.value());
+      response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+      objectMapper.writeValue(response.getOutputStream(), ApiResponse.error(
+          TENANT_HEADER + " must be 1 to " + TenantContext.MAX_LENGTH
+              + " letters, digits, '-' or '_'"));
+      return;
+    }
+    TenantContext.set(tenantId);
+    try {
+      filterChain.doFilter(request, response);
+    } finally {
+      TenantContext.clear();
+    }
+  }
+
+  /** The dispatch that completes an async request runs on another thread and needs it too. */
+  @Override
+  protected boolean shouldNotFilterAsyncDispatch() {
+    return false;
+  }
+}
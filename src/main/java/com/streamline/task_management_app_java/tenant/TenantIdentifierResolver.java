@@ -0,0 +1,26 @@
+package com.streamline.task_management_app_java.tenant;
+
+import org.hibernate.context.spi.CurrentTenantIdentifierResolver;
+
+/**
+ * Registered with {@code hibernate.tenant_identifier_resolver}, so it also applies in slice tests
+ * that start Hibernate without the rest of the application.
+ */
+public class TenantIdentifierResolver implements CurrentTenantIdentifierResolver<String> {
+
+  @Override
+  public String resolveCurrentTenantIdentifier() {
+    return TenantContext.current();
+  }
+
+  @Override
+  public boolean validateExistingCurrentSessions() {
+    return true;
+  }
+
+  /** The root tenant sees every tenant's rows and may insert rows for any tenant. */
+  @Override
+  public boolean isRoot(String tenantId) {
+    return TenantContext.ROOT.equals(tenantId);
+  }
+}
@@ -0,0 +1,17 @@
+package com.streamline.task_management_app_java.tenant;
+
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Applied by Spring Boot to the application task executor, which also runs streamed response
+ * bodies, so an export or a streamed dashboard reads the data of the tenant that requested it.
+ */
+@Component
+public class TenantTaskDecorator implements TaskDecorator {
+
+  @Override
+  public Runnable decorate(Runnable runnable) {
+    return TenantContext.wrap(runnable);
+  }
+}
@@ -0,0 +1,41 @@
+create table project (
+    id         bigint generated by default as identity primary key,
+    name       varchar(255) not null,
+    status     varchar(32)  not null,
+    created_at timestamp(6),
+    updated_at timestamp(6),
+    version    bigint
+);
+
+create index idx_project_updated_at on project (updated_at, id);
+
+-- Matches the pooled allocation of Task.id (allocationSize = 50).
+create sequence task_seq start with 1 increment by 50;
+
+create table task (
+    id         bigint       not null primary key,
+    name       varchar(255) not null,
+    status     varchar(32),
+    priority   varchar(32),
+    due_date   timestamp(6),
+    project_id bigint       not null,
+    created_at timestamp(6),
+    updated_at timestamp(6),
+    version    bigint,
+    constraint fk_task_project foreign key (project_id) references project (id)
+);
+
+create index idx_task_project_status_due on task (project_id, status, due_date);
+create index idx_task_project_priority_due on task (project_id, priority, due_date);
+create index idx_task_project_due on task (project_id, due_date);
+create index idx_task_updated_at on task (updated_at, id);
+
+create table tombstone (
+    id          bigint generated by default as identity primary key,
+    entity_type varchar(32)  not null,
+    entity_id   bigint       not null,
+    project_id  bigint,
+    deleted_at  timestamp(6) not null
+);
+
+create index idx_tombstone_deleted_at on tombstone (deleted_at, id);
@@ -0,0 +1,16 @@
+-- Matches the pooled allocation of ActivityLog.id (allocationSize = 50).
+create sequence activity_log_seq start with 1 increment by 50;
+
+create table activity_log (
+    id          bigint        not null primary key,
+    entity_type varchar(32)   not null,
+    entity_id   bigint,
+    project_id  bigint,
+    type        varchar(32)   not null,
+    actor       varchar(100)  not null,
+    details     varchar(1000),
+    occurred_at timestamp(6)  not null
+);
+
+create index idx_activity_log_entity on activity_log (entity_type, entity_id, id);
+create index idx_activity_log_project on activity_log (project_id, id);
@@ -0,0 +1,2 @@
+-- Lets the reminder scheduler load one window of due dates across all projects.
+create index idx_task_due_date on task (due_date);
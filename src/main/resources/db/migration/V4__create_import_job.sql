@@ -0,0 +1,12 @@
+create table import_job (
+    id             bigint generated by default as identity primary key,
+    entity_type    varchar(32)   not null,
+    format         varchar(32)   not null,
+    state          varchar(32)   not null,
+    processed_rows bigint        not null,
+    rejected_rows  bigint        not null,
+    last_error     varchar(1000),
+    created_at     timestamp(6),
+    updated_at     timestamp(6),
+    version        bigint
+);
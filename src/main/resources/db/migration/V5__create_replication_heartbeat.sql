@@ -0,0 +1,6 @@
+-- Written on the primary and read back from the replica to measure replication lag, see
+-- ReplicaLagMonitor, which also creates it when the schema is not managed by Flyway.
+create table if not exists replication_heartbeat (
+    id      int          not null primary key,
+    beat_at timestamp(6) not null
+);
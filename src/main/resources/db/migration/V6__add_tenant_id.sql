@@ -0,0 +1,31 @@
+-- Tenant partitioning. Existing rows belong to the default tenant; every index a tenant's
+-- queries use now starts with tenant_id, so a small tenant never scans a large one's rows.
+alter table project add column tenant_id varchar(64) default 'default' not null;
+alter table task add column tenant_id varchar(64) default 'default' not null;
+alter table tombstone add column tenant_id varchar(64) default 'default' not null;
+alter table activity_log add column tenant_id varchar(64) default 'default' not null;
+alter table import_job add column tenant_id varchar(64) default 'default' not null;
+
+drop index idx_project_updated_at;
+create index idx_project_tenant_id on project (tenant_id, id);
+create index idx_project_tenant_status on project (tenant_id, status, id);
+create index idx_project_tenant_updated_at on project (tenant_id, updated_at, id);
+
+-- idx_task_due_date stays as it is: reminders scan all tenants at once.
+drop index idx_task_project_status_due;
+drop index idx_task_project_priority_due;
+drop index idx_task_project_due;
+drop index idx_task_updated_at;
+create index idx_task_tenant_id on task (tenant_id, id);
+create index idx_task_tenant_project_status_due on task (tenant_id, project_id, status, due_date);
+create index idx_task_tenant_project_priority_due on task (tenant_id, project_id, priority, due_date);
+create index idx_task_tenant_project_due on task (tenant_id, project_id, due_date);
+create index idx_task_tenant_updated_at on task (tenant_id, updated_at, id);
+
+drop index idx_tombstone_deleted_at;
+create index idx_tombstone_tenant_deleted_at on tombstone (tenant_id, deleted_at, id);
+
+drop index idx_activity_log_entity;
+drop index idx_activity_log_project;
+create index idx_activity_log_tenant_entity on activity_log (tenant_id, entity_type, entity_id, id);
+create index idx_activity_log_tenant_project on activity_log (tenant_id, project_id, id);
@@ -0,0 +1,12 @@
+-- Ids of an imported project file mapped to the projects they became, so a task import of the
+-- same export can link its tasks to them.
+alter table import_job add column project_import_id bigint;
+
+create table imported_id (
+    id        bigint generated by default as identity primary key,
+    job_id    bigint not null,
+    source_id bigint not null,
+    target_id bigint not null
+);
+
+create unique index idx_imported_id_job_source on imported_id (job_id, source_id);
@@ -0,0 +1,88 @@
+package com.streamline.task_management_app_java.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ConnectionLimitingDataSourceTest {
+
+  @DisplayName("허용 수만큼 커넥션을 쥐고 있으면, 다음 요청은 대기 시간 후 실패한다.")
+  @Test
+  void getConnection_beyondLimit_timesOut() throws SQLException {
+    // Given
+    DataSource target = mock(DataSource.class);
+    given(target.getConnection()).willAnswer(invocation -> mock(Connection.class));
+    ConnectionLimitingDataSource dataSource =
+        new ConnectionLimitingDataSource(target, 1, Duration.ofMillis(50));
+    dataSource.getConnection();
+
+    // When & Then
+    assertThatThrownBy(dataSource::getConnection)
+        .isInstanceOf(SQLTransientConnectionException.class);
+    assertThat(dataSource.getAvailablePermits()).isZero();
+  }
+
+  @DisplayName("커넥션을 닫으면 허용 수가 반환되고, 여러 번 닫아도 한 번만 반환된다.")
+  @Test
+  void close_releasesPermitOnce() throws SQLException {
+    // Given
+    Connection physical = mock(Connection.class);
+    DataSource target = mock(DataSource.class);
+    given(target.getConnection()).willReturn(physical);
+    ConnectionLimitingDataSource dataSource =
+        new ConnectionLimitingDataSource(target, 1, Duration.ofMillis(50));
+
+    // When
+    Connection connection = dataSource.getConnection();
+    connection.close();
+    connection.close();
+
+    // Then
+    assertThat(dataSource.getAvailablePermits()).isEqualTo(1);
+    then(physical).should().close();
+    assertThat(dataSource.getConnection()).isNotNull();
+  }
+
+  @DisplayName("커넥션 획득에 실패하면 허용 수를 돌려준다.")
+  @Test
+  void getConnection_whenPoolFails_releasesPermit() throws SQLException {
+    // Given
+    DataSource target = mock(DataSource.class);
+    given(target.getConnection()).willThrow(new SQLTransientConnectionException("pool exhausted"));
+    ConnectionLimitingDataSource dataSource =
+        new ConnectionLimitingDataSource(target, 1, Duration.ofMillis(50));
+
+    // When & Then
+    assertThatThrownBy(dataSource::getConnection).isInstanceOf(SQLException.class);
+    assertThat(dataSource.getAvailablePermits()).isEqualTo(1);
+  }
+
+  @DisplayName("허용 수를 기다린 시간은 실패한 대기까지 평균 대기 시간에 반영된다.")
+  @Test
+  void getAverageWait_includesTimedOutWaits() throws SQLException {
+    // Given
+    DataSource target = mock(DataSource.class);
+    given(target.getConnection()).willAnswer(invocation -> mock(Connection.class));
+    ConnectionLimitingDataSource dataSource =
+        new ConnectionLimitingDataSource(target, 1, Duration.ofMillis(80));
+    dataSource.getConnection();
+
+    // When
+    assertThatThrownBy(dataSource::getConnection)
+        .isInstanceOf(SQLTransientConnectionException.class);
+
+    // Then
+    // 80ms 대기가 1/8 비중으로 반영된다
+    assertThat(dataSource.getAverageWait()).isGreaterThanOrEqualTo(Duration.ofMillis(9));
+  }
+}
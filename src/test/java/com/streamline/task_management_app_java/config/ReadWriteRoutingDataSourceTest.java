@@ -0,0 +1,142 @@
+package com.streamline.task_management_app_java.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class ReadWriteRoutingDataSourceTest {
+
+  private static final String PRIMARY_URL = "jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1";
+  private static final String REPLICA_URL = "jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1";
+  private static final Clock CLOCK =
+      Clock.fixed(Instant.parse("2026-01-01T00:00:00Z"), ZoneId.of("UTC"));
+
+  private final DataSource primary = new DriverManagerDataSource(PRIMARY_URL, "sa", "");
+  private final DataSource replica = new DriverManagerDataSource(REPLICA_URL, "sa", "");
+  private final ReplicaLagMonitor monitor =
+      new ReplicaLagMonitor(primary, replica, Duration.ofSeconds(1), Duration.ofSeconds(5), CLOCK);
+  private final ReadWriteRoutingDataSource routing =
+      new ReadWriteRoutingDataSource(primary, replica, monitor);
+
+  @BeforeEach
+  void setUp() throws SQLException {
+    // 두 인메모리 DB 사이에는 복제가 없으므로, 복제본의 하트비트는 직접 써 넣는다
+    try (Connection connection = replica.getConnection();
+        Statement statement = connection.createStatement()) {
+      statement.execute(ReplicaLagMonitor.CREATE_TABLE);
+      statement.execute("delete from replication_heartbeat");
+    }
+  }
+
+  @AfterEach
+  void tearDown() {
+    TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    monitor.close();
+  }
+
+  @DisplayName("읽기 전용 트랜잭션은 지연이 허용 범위 안인 복제본으로 간다.")
+  @Test
+  void readOnly_withFreshReplica_routesToReplica() throws SQLException {
+    // Given
+    replicate(LocalDateTime.now(CLOCK).minusSeconds(1));
+    monitor.check();
+    TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+    // When & Then
+    assertThat(monitor.getLagMillis()).isEqualTo(1000);
+    assertThat(urlOf(routing)).startsWith("jdbc:h2:mem:routing-replica");
+  }
+
+  @DisplayName("주 DB에서 읽도록 지정한 읽기 전용 작업은 복제본이 멀쩡해도 주 DB로 간다.")
+  @Test
+  void readFromPrimary_routesReadOnlyToPrimary() throws SQLException {
+    // Given
+    replicate(LocalDateTime.now(CLOCK));
+    monitor.check();
+    TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+    // When
+    String url = ReadWriteRoutingDataSource.readFromPrimary(() -> {
+      try {
+        return urlOf(routing);
+      } catch (SQLException e) {
+        throw new IllegalStateException(e);
+      }
+    });
+
+    // Then
+    assertThat(url).startsWith("jdbc:h2:mem:routing-primary");
+    // 블록을 벗어나면 다시 복제본을 쓴다
+    assertThat(urlOf(routing)).startsWith("jdbc:h2:mem:routing-replica");
+  }
+
+  @DisplayName("읽기 전용이 아닌 작업은 복제본 상태와 상관없이 주 DB로 간다.")
+  @Test
+  void readWrite_routesToPrimary() throws SQLException {
+    // Given
+    replicate(LocalDateTime.now(CLOCK));
+    monitor.check();
+
+    // When & Then
+    assertThat(urlOf(routing)).startsWith("jdbc:h2:mem:routing-primary");
+  }
+
+  @DisplayName("복제본이 허용 지연보다 뒤처지면 읽기 전용 트랜잭션도 주 DB로 간다.")
+  @Test
+  void readOnly_withLaggingReplica_fallsBackToPrimary() throws SQLException {
+    // Given
+    replicate(LocalDateTime.now(CLOCK).minusSeconds(10));
+    monitor.check();
+    TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+    // When & Then
+    assertThat(monitor.isReplicaUsable()).isFalse();
+    assertThat(urlOf(routing)).startsWith("jdbc:h2:mem:routing-primary");
+  }
+
+  @DisplayName("하트비트가 복제되지 않았거나 아직 확인 전이면 주 DB로 간다.")
+  @Test
+  void readOnly_withoutHeartbeat_fallsBackToPrimary() throws SQLException {
+    // Given
+    TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+    // When & Then
+    // 확인 전
+    assertThat(urlOf(routing)).startsWith("jdbc:h2:mem:routing-primary");
+    // 주 DB에는 썼지만 복제본에는 행이 없는 경우
+    monitor.check();
+    assertThat(monitor.getLagMillis()).isEqualTo(Long.MAX_VALUE);
+    assertThat(urlOf(routing)).startsWith("jdbc:h2:mem:routing-primary");
+  }
+
+  private void replicate(LocalDateTime beatAt) throws SQLException {
+    try (Connection connection = replica.getConnection();
+        PreparedStatement insert = connection.prepareStatement(
+            "insert into replication_heartbeat (id, beat_at) values (1, ?)")) {
+      insert.setTimestamp(1, Timestamp.valueOf(beatAt));
+      insert.executeUpdate();
+    }
+  }
+
+  private String urlOf(DataSource dataSource) throws SQLException {
+    try (Connection connection = dataSource.getConnection()) {
+      return connection.getMetaData().getURL();
+    }
+  }
+}
@@ -0,0 +1,56 @@
+package com.streamline.task_management_app_java.controller;
+
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.streamline.task_management_app_java.service.ChangeFeedService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@WebMvcTest(ChangeFeedController.class)
+class ChangeFeedControllerTest {
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @MockitoBean
+  private ChangeFeedService changeFeedService;
+
+  @DisplayName("Last-Event-ID 헤더가 있으면, 그 이후부터 변경 피드를 이어서 구독한다.")
+  @Test
+  void streamChanges_withLastEventId_resumesFromIt() throws Exception {
+    // Given
+    given(changeFeedService.subscribe(7L)).willReturn(new SseEmitter());
+
+    // When & Then
+    mockMvc
+        .perform(get("/v1/changes").header("Last-Event-ID", "7").accept(MediaType.TEXT_EVENT_STREAM))
+        .andExpect(status().isOk())
+        .andExpect(request().asyncStarted());
+
+    then(changeFeedService).should().subscribe(7L);
+  }
+
+  @DisplayName("헤더가 없으면 since 파라미터 위치부터 구독한다.")
+  @Test
+  void streamChanges_withSince_resumesFromIt() throws Exception {
+    // Given
+    given(changeFeedService.subscribe(3L)).willReturn(new SseEmitter());
+
+    // When & Then
+    mockMvc
+        .perform(get("/v1/changes").param("since", "3").accept(MediaType.TEXT_EVENT_STREAM))
+        .andExpect(request().asyncStarted());
+
+    then(changeFeedService).should().subscribe(3L);
+  }
+}
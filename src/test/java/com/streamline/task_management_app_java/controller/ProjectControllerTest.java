@@ -1,25 +1,39 @@
 package com.streamline.task_management_app_java.controller;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import com.streamline.task_management_app_java.controller.dto.CursorPage;
 import com.streamline.task_management_app_java.controller.dto.ProjectCreateRequest;
+import com.streamline.task_management_app_java.controller.dto.ProjectDeletionResponse;
 import com.streamline.task_management_app_java.controller.dto.ProjectResponse;
+import com.streamline.task_management_app_java.controller.dto.ProjectSummaryResponse;
 import com.streamline.task_management_app_java.controller.dto.ProjectUpdateRequest;
+import com.streamline.task_management_app_java.domain.Priority;
 import com.streamline.task_management_app_java.domain.ProjectStatus;
+import com.streamline.task_management_app_java.domain.Status;
+import com.streamline.task_management_app_java.service.ProjectDeletionService;
 import com.streamline.task_management_app_java.service.ProjectService;
+import com.streamline.task_management_app_java.service.ProjectStatisticsService;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -27,7 +41,10 @@ import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import tools.jackson.databind.JsonNode;
 import tools.jackson.databind.ObjectMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
 
 @WebMvcTest(ProjectController.class)
 class ProjectControllerTest {
@@ -41,13 +58,19 @@ class ProjectControllerTest {
   @MockitoBean
   private ProjectService projectService;
 
+  @MockitoBean
+  private ProjectDeletionService projectDeletionService;
+
+  @MockitoBean
+  private ProjectStatisticsService projectStatisticsService;
+
   @DisplayName("ID로 프로젝트를 조회하면, 프로젝트 정보를 반환한다.")
   @Test
   void getProject_withValidId_returnsProjectResponse() throws Exception {
     // Given
     Long projectId = 1L;
     ProjectResponse projectResponse = new ProjectResponse(LocalDateTime.now(), projectId, "Test Project",
-        ProjectStatus.TODO);
+        ProjectStatus.TODO, 0L);
     given(projectService.getProject(projectId)).willReturn(projectResponse);
 
     // When & Then
@@ -60,13 +83,32 @@ class ProjectControllerTest {
         .andExpect(jsonPath("$.data.name").value("Test Project"));
   }
 
-  @DisplayName("프로젝트 목록 조회 요청이 오면, 프로젝트 목록을 반환한다.")
+  @DisplayName("프로젝트 요약 조회 요청이 오면, 상태별, 우선순위별 작업 수와 기한 초과 수를 반환한다.")
+  @Test
+  void getProjectSummary_returnsCounters() throws Exception {
+    // Given
+    Long projectId = 1L;
+    ProjectSummaryResponse summary = new ProjectSummaryResponse(projectId, 3,
+        Map.of(Status.TODO, 2L, Status.DONE, 1L), Map.of(Priority.HIGH, 3L), 1);
+    given(projectStatisticsService.getSummary(projectId)).willReturn(summary);
+
+    // When & Then
+    mockMvc
+        .perform(get("/v1/project/{id}/summary", projectId))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.data.totalTasks").value(3))
+        .andExpect(jsonPath("$.data.byStatus.TODO").value(2))
+        .andExpect(jsonPath("$.data.byPriority.HIGH").value(3))
+        .andExpect(jsonPath("$.data.overdueTasks").value(1));
+  }
+
+  @DisplayName("프로젝트 목록 조회 요청이 오면, 커서 기반 페이지를 반환한다.")
   @Test
-  void getProjects_returnsProjectList() throws Exception {
+  void getProjects_returnsCursorPage() throws Exception {
     // Given
-    ProjectResponse projectResponse = new ProjectResponse(LocalDateTime.now(), 1L, "Test Project", ProjectStatus.TODO);
-    List<ProjectResponse> projectList = Collections.singletonList(projectResponse);
-    given(projectService.getProjects("TODO")).willReturn(projectList);
+    ProjectResponse projectResponse = new ProjectResponse(LocalDateTime.now(), 1L, "Test Project", ProjectStatus.TODO, 0L);
+    CursorPage<ProjectResponse> page = new CursorPage<>(List.of(projectResponse), "1", true);
+    given(projectService.getProjects("TODO", null, 20)).willReturn(page);
 
     // When & Then
     mockMvc
@@ -74,9 +116,84 @@ class ProjectControllerTest {
         .andExpect(status().isOk())
         .andExpect(content().contentType(MediaType.APPLICATION_JSON))
         .andExpect(jsonPath("$.success").value(true))
-        .andExpect(jsonPath("$.data").isArray())
-        .andExpect(jsonPath("$.data[0].id").value(1L))
-        .andExpect(jsonPath("$.data[0].name").value("Test Project"));
+        .andExpect(jsonPath("$.data.items").isArray())
+        .andExpect(jsonPath("$.data.items[0].id").value(1L))
+        .andExpect(jsonPath("$.data.items[0].name").value("Test Project"))
+        .andExpect(jsonPath("$.data.nextCursor").value("1"))
+        .andExpect(jsonPath("$.data.hasNext").value(true));
+  }
+
+  @DisplayName("Accept가 application/cbor이면, 같은 목록을 CBOR로 내려주고 enum은 순서 값으로 보낸다.")
+  @Test
+  void getProjects_withCborAccept_returnsCbor() throws Exception {
+    // Given
+    ProjectResponse projectResponse = new ProjectResponse(LocalDateTime.now(), 1L, "Test Project",
+        ProjectStatus.IN_PROGRESS, 0L);
+    given(projectService.getProjects("all", null, 20))
+        .willReturn(new CursorPage<>(List.of(projectResponse), null, false));
+
+    // When
+    MvcResult result = mockMvc
+        .perform(get("/v1/project").accept(MediaType.APPLICATION_CBOR))
+        .andExpect(status().isOk())
+        .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+        .andReturn();
+
+    // Then
+    JsonNode item = CBORMapper.builder().build()
+        .readTree(result.getResponse().getContentAsByteArray())
+        .path("data").path("items").get(0);
+    assertThat(item.path("name").asString()).isEqualTo("Test Project");
+    assertThat(item.path("status").asInt()).isEqualTo(ProjectStatus.IN_PROGRESS.ordinal());
+  }
+
+  @DisplayName("커서와 페이지 크기를 전달하면, 서비스에 그대로 위임한다.")
+  @Test
+  void getProjects_withCursor_passesCursorAndSize() throws Exception {
+    // Given
+    given(projectService.getProjects("all", 10L, 50))
+        .willReturn(new CursorPage<>(Collections.emptyList(), null, false));
+
+    // When & Then
+    mockMvc
+        .perform(get("/v1/project").param("cursor", "10").param("size", "50"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.data.hasNext").value(false));
+
+    then(projectService).should().getProjects("all", 10L, 50);
+  }
+
+  @DisplayName("프로젝트 스트리밍 요청이 오면, 한 줄에 하나씩 NDJSON으로 내려준다.")
+  @Test
+  void streamProjects_writesNdjson() throws Exception {
+    // Given
+    ProjectResponse first = new ProjectResponse(LocalDateTime.now(), 1L, "First", ProjectStatus.TODO, 0L);
+    ProjectResponse second = new ProjectResponse(LocalDateTime.now(), 2L, "Second", ProjectStatus.DONE, 0L);
+    willAnswer(
+            invocation -> {
+              Consumer<ProjectResponse> consumer = invocation.getArgument(1);
+              consumer.accept(first);
+              consumer.accept(second);
+              return null;
+            })
+        .given(projectService)
+        .streamProjects(eq("all"), any());
+
+    // When
+    MvcResult result =
+        mockMvc.perform(get("/v1/project/stream")).andExpect(request().asyncStarted()).andReturn();
+
+    // Then
+    String body =
+        mockMvc
+            .perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+    assertThat(body.lines()).hasSize(2);
+    assertThat(body.lines().findFirst()).hasValueSatisfying(line -> assertThat(line).contains("\"First\""));
   }
 
   @DisplayName("프로젝트 생성 요청이 오면, 프로젝트를 생성하고 반환한다.")
@@ -84,7 +201,7 @@ class ProjectControllerTest {
   void createProject_withValidRequest_createsProject() throws Exception {
     // Given
     ProjectCreateRequest createRequest = new ProjectCreateRequest("New Project", ProjectStatus.TODO);
-    ProjectResponse projectResponse = new ProjectResponse(LocalDateTime.now(), 1L, "New Project", ProjectStatus.TODO);
+    ProjectResponse projectResponse = new ProjectResponse(LocalDateTime.now(), 1L, "New Project", ProjectStatus.TODO, 0L);
     String requestBody = objectMapper.writeValueAsString(createRequest);
 
     given(projectService.createProject(createRequest)).willReturn(projectResponse);
@@ -121,13 +238,37 @@ class ProjectControllerTest {
     // Given
     Long projectId = 1L;
 
+    given(projectService.deleteProject(projectId, null))
+        .willReturn(ProjectDeletionResponse.completed(projectId, 3));
+
     // When & Then
     mockMvc
         .perform(delete("/v1/project/{id}", projectId))
         .andExpect(status().isOk())
-        .andExpect(jsonPath("$.success").value(true));
+        .andExpect(jsonPath("$.success").value(true))
+        .andExpect(jsonPath("$.data.state").value("COMPLETED"))
+        .andExpect(jsonPath("$.data.deletedTasks").value(3));
+
+    then(projectService).should().deleteProject(projectId, null);
+    then(projectDeletionService).shouldHaveNoInteractions();
+  }
 
-    then(projectService).should().deleteProject(projectId);
+  @DisplayName("백그라운드 삭제 요청이 오면, 202 Accepted와 진행 상태를 반환한다.")
+  @Test
+  void deleteProject_inBackground_returnsAccepted() throws Exception {
+    // Given
+    Long projectId = 1L;
+    given(projectDeletionService.startDeletion(projectId, null))
+        .willReturn(ProjectDeletionResponse.running(projectId, 5_000));
+
+    // When & Then
+    mockMvc
+        .perform(delete("/v1/project/{id}", projectId).param("background", "true"))
+        .andExpect(status().isAccepted())
+        .andExpect(jsonPath("$.data.state").value("RUNNING"))
+        .andExpect(jsonPath("$.data.totalTasks").value(5_000));
+
+    then(projectService).shouldHaveNoInteractions();
   }
 
   @DisplayName("프로젝트 수정 요청이 오면, 프로젝트를 수정하고 반환한다.")
@@ -136,10 +277,10 @@ class ProjectControllerTest {
     // Given
     Long projectId = 1L;
     ProjectUpdateRequest updateRequest = new ProjectUpdateRequest("update", ProjectStatus.DONE);
-    ProjectResponse response = new ProjectResponse(LocalDateTime.now(), 1L, "update", ProjectStatus.DONE);
+    ProjectResponse response = new ProjectResponse(LocalDateTime.now(), 1L, "update", ProjectStatus.DONE, 0L);
     String requestBody = objectMapper.writeValueAsString(updateRequest);
 
-    given(projectService.updateProject(eq(projectId), any(ProjectUpdateRequest.class)))
+    given(projectService.updateProject(eq(projectId), any(ProjectUpdateRequest.class), isNull()))
         .willReturn(response);
 
     // When & Then
@@ -152,6 +293,6 @@ class ProjectControllerTest {
         .andExpect(jsonPath("$.success").value(true))
         .andExpect(jsonPath("$.data.name").value("update"));
 
-    then(projectService).should().updateProject(eq(projectId), any(ProjectUpdateRequest.class));
+    then(projectService).should().updateProject(eq(projectId), any(ProjectUpdateRequest.class), isNull());
   }
 }
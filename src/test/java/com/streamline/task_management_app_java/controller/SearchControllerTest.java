@@ -0,0 +1,60 @@
+package com.streamline.task_management_app_java.controller;
+
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.streamline.task_management_app_java.controller.dto.SearchIndexStatsResponse;
+import com.streamline.task_management_app_java.controller.dto.SearchResultResponse;
+import com.streamline.task_management_app_java.domain.EntityType;
+import com.streamline.task_management_app_java.service.SearchIndexService;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+@WebMvcTest(SearchController.class)
+class SearchControllerTest {
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @MockitoBean
+  private SearchIndexService searchIndexService;
+
+  @DisplayName("검색어와 종류로 검색하면, 색인에서 찾은 결과를 반환한다.")
+  @Test
+  void search_withQueryAndType_returnsResults() throws Exception {
+    // Given
+    given(searchIndexService.search("rel", EntityType.TASK, 20))
+        .willReturn(List.of(new SearchResultResponse(EntityType.TASK, 1L, 10L, "Write release notes")));
+
+    // When & Then
+    mockMvc
+        .perform(get("/v1/search").param("q", "rel").param("type", "TASK"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.data[0].id").value(1L))
+        .andExpect(jsonPath("$.data[0].projectId").value(10L))
+        .andExpect(jsonPath("$.data[0].name").value("Write release notes"));
+  }
+
+  @DisplayName("색인 통계를 조회하면, 종류별 문서 수와 추정 메모리를 반환한다.")
+  @Test
+  void getStats_returnsIndexStats() throws Exception {
+    // Given
+    given(searchIndexService.getStats()).willReturn(List.of(
+        new SearchIndexStatsResponse(EntityType.PROJECT, 1, 2, 2, 500),
+        new SearchIndexStatsResponse(EntityType.TASK, 3, 5, 6, 1200)));
+
+    // When & Then
+    mockMvc
+        .perform(get("/v1/search/stats"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.data[1].type").value("TASK"))
+        .andExpect(jsonPath("$.data[1].estimatedBytes").value(1200));
+  }
+}
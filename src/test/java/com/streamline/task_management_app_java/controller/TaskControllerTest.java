@@ -1,27 +1,42 @@
 package com.streamline.task_management_app_java.controller;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import com.streamline.task_management_app_java.controller.dto.CursorPage;
+import com.streamline.task_management_app_java.controller.dto.TaskBulkCreateRequest;
+import com.streamline.task_management_app_java.controller.dto.TaskBulkCreateResult;
 import com.streamline.task_management_app_java.controller.dto.TaskCreateRequest;
+import com.streamline.task_management_app_java.controller.dto.TaskCursor;
 import com.streamline.task_management_app_java.controller.dto.TaskResponse;
+import com.streamline.task_management_app_java.controller.dto.TaskSearchCondition;
+import com.streamline.task_management_app_java.controller.dto.TaskSort;
+import com.streamline.task_management_app_java.controller.dto.TaskStatusTransitionRequest;
+import com.streamline.task_management_app_java.controller.dto.TaskStatusTransitionResponse;
 import com.streamline.task_management_app_java.controller.dto.TaskUpdateRequest;
 import com.streamline.task_management_app_java.domain.Priority;
 import com.streamline.task_management_app_java.domain.Status;
 import com.streamline.task_management_app_java.service.TaskService;
 import java.time.LocalDateTime;
+import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
@@ -45,7 +60,7 @@ class TaskControllerTest {
         new TaskCreateRequest(
             "New Task", Status.TODO, Priority.HIGH, LocalDateTime.now(), projectId);
     TaskResponse response =
-        new TaskResponse(100L, "New Task", Status.TODO, Priority.HIGH, LocalDateTime.now());
+        new TaskResponse(100L, "New Task", Status.TODO, Priority.HIGH, LocalDateTime.now(), 0L);
 
     given(taskService.createTask(any(TaskCreateRequest.class))).willReturn(response);
 
@@ -62,6 +77,90 @@ class TaskControllerTest {
     then(taskService).should().createTask(any(TaskCreateRequest.class));
   }
 
+  @DisplayName("작업 일괄 생성 요청이 오면, 항목별 결과를 반환한다.")
+  @Test
+  void createTasks_returnsPerItemResults() throws Exception {
+    // Given
+    TaskBulkCreateRequest request =
+        new TaskBulkCreateRequest(
+            List.of(
+                new TaskCreateRequest("Task 1", Status.TODO, Priority.HIGH, LocalDateTime.now(), 1L),
+                new TaskCreateRequest("Task 2", Status.TODO, Priority.LOW, LocalDateTime.now(), 99L)));
+    List<TaskBulkCreateResult> results =
+        List.of(
+            TaskBulkCreateResult.created(
+                0, new TaskResponse(100L, "Task 1", Status.TODO, Priority.HIGH, LocalDateTime.now(), 0L)),
+            TaskBulkCreateResult.failed(1, "Project not found with id: 99"));
+
+    given(taskService.createTasks(any())).willReturn(results);
+
+    // When & Then
+    mockMvc
+        .perform(
+            post("/v1/task/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.data[0].success").value(true))
+        .andExpect(jsonPath("$.data[0].task.id").value(100L))
+        .andExpect(jsonPath("$.data[1].success").value(false));
+  }
+
+  @DisplayName("작업 일괄 생성 시 목록이 비어있으면 400 Bad Request를 반환한다.")
+  @Test
+  void createTasks_withEmptyList_returnsBadRequest() throws Exception {
+    // Given
+    TaskBulkCreateRequest request = new TaskBulkCreateRequest(List.of());
+
+    // When & Then
+    mockMvc
+        .perform(
+            post("/v1/task/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+        .andExpect(status().isBadRequest());
+
+    then(taskService).shouldHaveNoInteractions();
+  }
+
+  @DisplayName("상태 일괄 전환 요청이 오면, 변경된 작업 수를 반환한다.")
+  @Test
+  void transitionStatus_returnsUpdatedCount() throws Exception {
+    // Given
+    Long projectId = 1L;
+    TaskStatusTransitionRequest request =
+        new TaskStatusTransitionRequest(List.of(Status.TODO, Status.IN_PROGRESS), null, null, Status.CANCLED);
+    given(taskService.transitionStatus(eq(projectId), any(TaskStatusTransitionRequest.class)))
+        .willReturn(new TaskStatusTransitionResponse(projectId, Status.CANCLED, 120));
+
+    // When & Then
+    mockMvc
+        .perform(
+            post("/v1/project/{projectId}/tasks/status-transition", projectId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.data.updatedTasks").value(120))
+        .andExpect(jsonPath("$.data.targetStatus").value("CANCLED"));
+  }
+
+  @DisplayName("전환할 상태 없이 일괄 전환을 요청하면 400을 반환한다.")
+  @Test
+  void transitionStatus_withoutTargetStatus_returnsBadRequest() throws Exception {
+    // Given
+    TaskStatusTransitionRequest request = new TaskStatusTransitionRequest(null, null, null, null);
+
+    // When & Then
+    mockMvc
+        .perform(
+            post("/v1/project/{projectId}/tasks/status-transition", 1L)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+        .andExpect(status().isBadRequest());
+
+    then(taskService).shouldHaveNoInteractions();
+  }
+
   @DisplayName("ID로 작업을 조회하면, 작업 정보를 반환한다.")
   @Test
   void getTask_returnsTaskResponse() throws Exception {
@@ -69,7 +168,7 @@ class TaskControllerTest {
     Long taskId = 100L;
     TaskResponse response =
         new TaskResponse(
-            taskId, "My Task", Status.IN_PROGRESS, Priority.MEDIUM, LocalDateTime.now());
+            taskId, "My Task", Status.IN_PROGRESS, Priority.MEDIUM, LocalDateTime.now(), 2L);
 
     given(taskService.getTask(taskId)).willReturn(response);
 
@@ -85,6 +184,103 @@ class TaskControllerTest {
     then(taskService).should().getTask(taskId);
   }
 
+  @DisplayName("작업 조회 시 If-None-Match가 현재 버전과 같으면, 본문 없이 304를 반환한다.")
+  @Test
+  void getTask_withMatchingIfNoneMatch_returnsNotModified() throws Exception {
+    // Given
+    Long taskId = 100L;
+    TaskResponse response =
+        new TaskResponse(taskId, "My Task", Status.TODO, Priority.MEDIUM, LocalDateTime.now(), 2L);
+    given(taskService.getTask(taskId)).willReturn(response);
+
+    // When & Then
+    mockMvc
+        .perform(get("/v1/task/{id}", taskId).header(HttpHeaders.IF_NONE_MATCH, "\"2\""))
+        .andExpect(status().isNotModified())
+        .andExpect(header().string(HttpHeaders.ETAG, "\"2\""))
+        .andExpect(content().string(""));
+  }
+
+  @DisplayName("작업 수정 시 If-Match 버전이 오래되었으면, 412를 반환한다.")
+  @Test
+  void updateTask_withStaleIfMatch_returnsPreconditionFailed() throws Exception {
+    // Given
+    Long taskId = 100L;
+    TaskUpdateRequest request =
+        new TaskUpdateRequest("Updated Name", Priority.LOW, LocalDateTime.now(), Status.DONE);
+    given(taskService.updateTask(eq(taskId), any(TaskUpdateRequest.class), eq(1L)))
+        .willThrow(new OptimisticLockingFailureException("Task was modified"));
+
+    // When & Then
+    mockMvc
+        .perform(
+            put("/v1/task/{id}", taskId)
+                .header(HttpHeaders.IF_MATCH, "\"1\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+        .andExpect(status().isPreconditionFailed())
+        .andExpect(jsonPath("$.success").value(false));
+  }
+
+  @DisplayName("프로젝트의 작업 목록을 조회하면, 필터 조건을 바인딩하여 커서 페이지를 반환한다.")
+  @Test
+  void getTasks_bindsFiltersAndReturnsCursorPage() throws Exception {
+    // Given
+    Long projectId = 1L;
+    TaskResponse response =
+        new TaskResponse(
+            100L, "Due this week", Status.TODO, Priority.HIGH, LocalDateTime.of(2026, 3, 3, 9, 0),
+            0L);
+    given(taskService.getTasks(eq(projectId), any(TaskSearchCondition.class)))
+        .willReturn(new CursorPage<>(List.of(response), "next", true));
+
+    // When & Then
+    mockMvc
+        .perform(
+            get("/v1/project/{projectId}/tasks", projectId)
+                .param("status", "TODO", "IN_PROGRESS")
+                .param("dueFrom", "2026-03-02T00:00:00")
+                .param("dueTo", "2026-03-09T00:00:00")
+                .param("sort", "DUE_DATE")
+                .param("size", "10"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.data.items[0].id").value(100L))
+        .andExpect(jsonPath("$.data.nextCursor").value("next"));
+
+    then(taskService)
+        .should()
+        .getTasks(
+            eq(projectId),
+            argThat(
+                condition ->
+                    condition.status().equals(List.of(Status.TODO, Status.IN_PROGRESS))
+                        && condition.dueFrom().equals(LocalDateTime.of(2026, 3, 2, 0, 0))
+                        && condition.sort() == TaskSort.DUE_DATE
+                        && condition.size() == 10));
+  }
+
+  @DisplayName("잘못된 커서로 작업 목록을 조회하면, 400을 반환한다.")
+  @Test
+  void getTasks_withMalformedCursor_returnsBadRequest() throws Exception {
+    // Given
+    Long projectId = 1L;
+    given(taskService.getTasks(eq(projectId), any(TaskSearchCondition.class)))
+        .willAnswer(invocation -> {
+          TaskSearchCondition condition = invocation.getArgument(1);
+          TaskCursor.decode(condition.sortOrDefault(), condition.cursor());
+          return new CursorPage<>(List.of(), null, false);
+        });
+
+    // When & Then
+    mockMvc
+        .perform(
+            get("/v1/project/{projectId}/tasks", projectId)
+                .param("sort", "DUE_DATE")
+                .param("cursor", "not-a-cursor"))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.success").value(false));
+  }
+
   @DisplayName("작업 삭제 요청이 오면, 작업을 삭제한다.")
   @Test
   void deleteTask_deletesTask() throws Exception {
@@ -97,7 +293,7 @@ class TaskControllerTest {
         .andExpect(status().isOk())
         .andExpect(jsonPath("$.success").value(true));
 
-    then(taskService).should().deleteTask(taskId);
+    then(taskService).should().deleteTask(taskId, null);
   }
 
   @DisplayName("작업 수정 요청이 오면, 작업을 수정하고 반환한다.")
@@ -108,8 +304,8 @@ class TaskControllerTest {
     TaskUpdateRequest request =
         new TaskUpdateRequest("Updated Name", Priority.LOW, LocalDateTime.now(), Status.DONE);
     TaskResponse response =
-        new TaskResponse(taskId, "Updated Name", Status.DONE, Priority.LOW, LocalDateTime.now());
-    given(taskService.updateTask(eq(taskId), any(TaskUpdateRequest.class))).willReturn(response);
+        new TaskResponse(taskId, "Updated Name", Status.DONE, Priority.LOW, LocalDateTime.now(), 1L);
+    given(taskService.updateTask(eq(taskId), any(TaskUpdateRequest.class), isNull())).willReturn(response);
 
     // When & Then
     mockMvc
@@ -122,6 +318,6 @@ class TaskControllerTest {
         .andExpect(jsonPath("$.data.name").value("Updated Name"))
         .andExpect(jsonPath("$.data.status").value("DONE"));
 
-    then(taskService).should().updateTask(eq(taskId), any(TaskUpdateRequest.class));
+    then(taskService).should().updateTask(eq(taskId), any(TaskUpdateRequest.class), isNull());
   }
 }
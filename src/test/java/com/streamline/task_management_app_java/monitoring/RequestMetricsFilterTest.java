@@ -0,0 +1,80 @@
+package com.streamline.task_management_app_java.monitoring;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+class RequestMetricsFilterTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final RequestMetricsFilter filter = new RequestMetricsFilter(
+      new StaticListableBeanFactory(Map.of("meterRegistry", meterRegistry))
+          .getBeanProvider(MeterRegistry.class),
+      3);
+
+  @DisplayName("요청마다 실행된 SQL 수와 엔티티 로딩 수를 엔드포인트 패턴별로 기록한다.")
+  @Test
+  void doFilter_recordsStatementsAndEntityLoadsPerEndpoint() throws Exception {
+    // Given
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/v1/task/1");
+    request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/v1/task/{id}");
+    MockFilterChain chain = new MockFilterChain(new HttpServlet() {
+      @Override
+      protected void service(HttpServletRequest req,
+          HttpServletResponse res) {
+        new QueryCountingStatementInspector().inspect("select t.id from task t where t.id=?");
+        new EntityLoadCountingListener().onLoad(new Object());
+      }
+    });
+
+    // When
+    filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+    // Then
+    DistributionSummary statements = meterRegistry.get("app.request.jdbc.statements")
+        .tag("uri", "/v1/task/{id}").summary();
+    DistributionSummary entityLoads = meterRegistry.get("app.request.entity.loads")
+        .tag("uri", "/v1/task/{id}").summary();
+    assertThat(statements.totalAmount()).isEqualTo(1);
+    assertThat(entityLoads.totalAmount()).isEqualTo(1);
+    assertThat(meterRegistry.find("app.request.n_plus_one").counter()).isNull();
+  }
+
+  @DisplayName("한 요청에서 같은 조회 SQL이 기준 횟수 이상 반복되면 N+1로 표시한다.")
+  @Test
+  void doFilter_withRepeatedSelect_flagsNPlusOne() throws Exception {
+    // Given
+    MockHttpServletRequest request = new MockHttpServletRequest("POST", "/v1/task");
+    request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/v1/task");
+    MockFilterChain chain = new MockFilterChain(new HttpServlet() {
+      @Override
+      protected void service(HttpServletRequest req,
+          HttpServletResponse res) {
+        QueryCountingStatementInspector inspector = new QueryCountingStatementInspector();
+        for (int i = 0; i < 3; i++) {
+          inspector.inspect("select t.id from task t where t.project_id=?");
+        }
+      }
+    });
+
+    // When
+    filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+    // Then
+    assertThat(meterRegistry.get("app.request.n_plus_one").tag("uri", "/v1/task").counter().count())
+        .isEqualTo(1);
+  }
+}
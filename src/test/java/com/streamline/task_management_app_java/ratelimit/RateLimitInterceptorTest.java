@@ -0,0 +1,175 @@
+package com.streamline.task_management_app_java.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.streamline.task_management_app_java.ratelimit.RateLimited.Budget;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Set;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import tools.jackson.databind.ObjectMapper;
+
+class RateLimitInterceptorTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  @DisplayName("토큰 버킷은 용량만큼 바로 허용하고, 이후에는 채워지는 속도만큼만 허용한다.")
+  @Test
+  void tryAcquire_allowsBurstThenRefillRate() {
+    // Given
+    // 초당 10개, 즉 100ms마다 한 개씩 채워진다
+    TokenBucket bucket = new TokenBucket(3, 10, 0L);
+
+    // When & Then
+    assertThat(bucket.tryAcquire(0L)).isZero();
+    assertThat(bucket.tryAcquire(0L)).isZero();
+    assertThat(bucket.tryAcquire(0L)).isZero();
+    assertThat(bucket.tryAcquire(0L)).isEqualTo(Duration.ofMillis(100).toNanos());
+    assertThat(bucket.tryAcquire(Duration.ofMillis(100).toNanos())).isZero();
+    // 오래 쉬어도 용량 이상으로 쌓이지 않는다
+    long later = Duration.ofSeconds(10).toNanos();
+    for (int i = 0; i < 3; i++) {
+      assertThat(bucket.tryAcquire(later)).isZero();
+    }
+    assertThat(bucket.tryAcquire(later)).isPositive();
+  }
+
+  @DisplayName("예산을 다 쓴 클라이언트는 Retry-After와 함께 429를 받고 거절 건수가 집계된다.")
+  @Test
+  void preHandle_overBudget_rejectsWith429() throws Exception {
+    // Given
+    RateLimitInterceptor interceptor = interceptor(150);
+    HandlerMethod get = handler("get");
+    interceptor.preHandle(request("client"), new MockHttpServletResponse(), get);
+    interceptor.preHandle(request("client"), new MockHttpServletResponse(), get);
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    // When
+    boolean admitted = interceptor.preHandle(request("client"), response, get);
+
+    // Then
+    assertThat(admitted).isFalse();
+    assertThat(response.getStatus()).isEqualTo(429);
+    assertThat(response.getHeader("Retry-After")).isNotNull();
+    assertThat(response.getContentAsString()).contains("\"success\":false");
+    assertThat(meterRegistry.get("app.requests.rejected").tag("reason", "rate_limit")
+        .counter().count()).isEqualTo(1);
+  }
+
+  @DisplayName("목록 예산과 기본 예산, 그리고 클라이언트마다 버킷이 따로 있다.")
+  @Test
+  void preHandle_separatesBudgetsAndClients() throws Exception {
+    // Given
+    RateLimitInterceptor interceptor = interceptor(150);
+    // 목록 예산은 한 번뿐이다
+    interceptor.preHandle(request("client"), new MockHttpServletResponse(), handler("list"));
+
+    // When & Then
+    assertThat(interceptor.preHandle(
+        request("client"), new MockHttpServletResponse(), handler("list"))).isFalse();
+    assertThat(interceptor.preHandle(
+        request("client"), new MockHttpServletResponse(), handler("get"))).isTrue();
+    assertThat(interceptor.preHandle(
+        request("other"), new MockHttpServletResponse(), handler("list"))).isTrue();
+  }
+
+  @DisplayName("처리 중인 요청이 한도에 닿으면 503으로 차단하고, 요청이 끝나면 다시 받는다.")
+  @Test
+  void preHandle_overInFlightLimit_shedsWith503() throws Exception {
+    // Given
+    RateLimitInterceptor interceptor = interceptor(1);
+    MockHttpServletRequest first = request("first");
+    interceptor.preHandle(first, new MockHttpServletResponse(), handler("get"));
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    // When
+    boolean admitted = interceptor.preHandle(request("second"), response, handler("get"));
+
+    // Then
+    assertThat(admitted).isFalse();
+    assertThat(response.getStatus()).isEqualTo(503);
+    assertThat(response.getHeader("Retry-After")).isEqualTo("1");
+    assertThat(meterRegistry.get("app.requests.rejected").tag("reason", "in_flight")
+        .counter().count()).isEqualTo(1);
+    // 끝난 요청은 한 번만 빠진다
+    interceptor.afterCompletion(first, new MockHttpServletResponse(), handler("get"), null);
+    interceptor.afterCompletion(first, new MockHttpServletResponse(), handler("get"), null);
+    assertThat(interceptor.getInFlight()).isZero();
+    assertThat(interceptor.preHandle(
+        request("second"), new MockHttpServletResponse(), handler("get"))).isTrue();
+  }
+
+  @DisplayName("등록되지 않은 API 키는 무시하고, 주소가 같으면 같은 버킷을 쓴다.")
+  @Test
+  void preHandle_withUnknownApiKeys_sharesAddressBucket() throws Exception {
+    // Given
+    RateLimitInterceptor interceptor = interceptor(150);
+    interceptor.preHandle(request("forged-1"), new MockHttpServletResponse(), handler("list"));
+
+    // When
+    // 키를 바꿔 보내도 새 버킷을 받지 못한다
+    boolean admitted = interceptor.preHandle(
+        request("forged-2"), new MockHttpServletResponse(), handler("list"));
+
+    // Then
+    assertThat(admitted).isFalse();
+  }
+
+  @DisplayName("503으로 차단된 요청은 클라이언트의 토큰을 쓰지 않는다.")
+  @Test
+  void preHandle_whenShed_keepsToken() throws Exception {
+    // Given
+    RateLimitInterceptor interceptor = interceptor(1);
+    MockHttpServletRequest first = request("other");
+    interceptor.preHandle(first, new MockHttpServletResponse(), handler("get"));
+    MockHttpServletResponse shed = new MockHttpServletResponse();
+    interceptor.preHandle(request("client"), shed, handler("list"));
+    interceptor.afterCompletion(first, new MockHttpServletResponse(), handler("get"), null);
+
+    // When
+    // 목록 예산은 한 번뿐이므로, 차단될 때 썼다면 이번 요청은 429가 된다
+    boolean admitted = interceptor.preHandle(
+        request("client"), new MockHttpServletResponse(), handler("list"));
+
+    // Then
+    assertThat(shed.getStatus()).isEqualTo(503);
+    assertThat(admitted).isTrue();
+  }
+
+  private RateLimitInterceptor interceptor(int maxInFlight) {
+    StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+    beanFactory.addBean("meterRegistry", meterRegistry);
+    // 테스트 중에는 토큰이 다시 채워지지 않을 만큼 느리게 둔다
+    return new RateLimitInterceptor(new ObjectMapper(),
+        beanFactory.getBeanProvider(MeterRegistry.class),
+        beanFactory.getBeanProvider(DataSource.class),
+        2, 0.001, 1, 0.001, Set.of("client", "other"),
+        maxInFlight, Duration.ofMillis(500), Duration.ofSeconds(1));
+  }
+
+  private MockHttpServletRequest request(String apiKey) {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/v1/project");
+    request.addHeader(RateLimitInterceptor.API_KEY_HEADER, apiKey);
+    return request;
+  }
+
+  private HandlerMethod handler(String name) throws NoSuchMethodException {
+    return new HandlerMethod(new SampleController(), SampleController.class.getMethod(name));
+  }
+
+  @RateLimited
+  static class SampleController {
+
+    public void get() {}
+
+    @RateLimited(Budget.LIST)
+    public void list() {}
+  }
+}
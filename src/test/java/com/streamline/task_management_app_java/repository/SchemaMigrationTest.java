@@ -0,0 +1,72 @@
+package com.streamline.task_management_app_java.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import jakarta.persistence.EntityManager;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import com.streamline.task_management_app_java.config.JpaConfig;
+import com.streamline.task_management_app_java.domain.Priority;
+import com.streamline.task_management_app_java.domain.Project;
+import com.streamline.task_management_app_java.domain.Status;
+import com.streamline.task_management_app_java.domain.Task;
+
+/**
+ * Builds the schema the way the prod profile does, with Flyway, and lets Hibernate validate every
+ * entity against it; the context fails to start when a migration is missing or disagrees.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=validate"
+})
+@Import(JpaConfig.class)
+class SchemaMigrationTest {
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @DisplayName("모든 마이그레이션을 적용한 스키마가 엔티티 매핑과 일치하고, 저장과 조회가 된다.")
+    @Test
+    void migrations_matchEntityMappings() {
+        // Given
+        Project project = projectRepository.save(new Project("Migrated Project"));
+        Task task = taskRepository.save(Task.builder()
+                .name("Migrated Task")
+                .status(Status.TODO)
+                .priority(Priority.HIGH)
+                .dueDate(LocalDateTime.of(2026, 3, 3, 9, 0))
+                .project(project)
+                .build());
+        taskRepository.flush();
+        entityManager.clear();
+
+        // When
+        List<?> versions = entityManager.createNativeQuery(
+                        "select \"version\" from \"flyway_schema_history\" "
+                                + "where \"success\" order by \"installed_rank\"")
+                .getResultList();
+        Task found = taskRepository.findById(task.getId()).orElseThrow();
+
+        // Then
+        // 새 마이그레이션을 추가하면 여기에도 반영한다
+        assertThat(versions).extracting(Object::toString)
+                .containsExactly("1", "2", "3", "4", "5", "6", "7");
+        assertThat(found.getStatus()).isEqualTo(Status.TODO);
+        assertThat(found.getPriority()).isEqualTo(Priority.HIGH);
+        assertThat(found.getProject().getId()).isEqualTo(project.getId());
+    }
+}
@@ -3,8 +3,13 @@ package com.streamline.task_management_app_java.repository;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
+import jakarta.persistence.EntityManager;
+
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -12,11 +17,16 @@ import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
 import org.springframework.context.annotation.Import;
 
 import com.streamline.task_management_app_java.config.JpaConfig;
+import com.streamline.task_management_app_java.controller.dto.TaskCursor;
+import com.streamline.task_management_app_java.controller.dto.TaskSearchCondition;
+import com.streamline.task_management_app_java.controller.dto.TaskSort;
+import com.streamline.task_management_app_java.controller.dto.TaskStatusTransitionRequest;
 import com.streamline.task_management_app_java.controller.dto.TaskUpdateRequest;
 import com.streamline.task_management_app_java.domain.Priority;
 import com.streamline.task_management_app_java.domain.Project;
 import com.streamline.task_management_app_java.domain.Status;
 import com.streamline.task_management_app_java.domain.Task;
+import com.streamline.task_management_app_java.tenant.TenantContext;
 
 @DataJpaTest
 @Import(JpaConfig.class)
@@ -28,9 +38,12 @@ class TaskRepositoryTest {
     @Autowired
     private ProjectRepository projectRepository;
 
-    @DisplayName("ID로 작업을 조회할 때 프로젝트도 함께 조회된다 (Join Fetch 확인).")
+    @Autowired
+    private EntityManager entityManager;
+
+    @DisplayName("ID로 작업을 조회하면, 연관된 프로젝트에 접근할 수 있다.")
     @Test
-    void findById_fetchesProject() {
+    void findById_canNavigateToProject() {
         // Given
         Project project = new Project("Parent Project");
         projectRepository.save(project);
@@ -46,12 +59,9 @@ class TaskRepositoryTest {
         taskRepository.save(task);
 
         // When
-        // 영속성 컨텍스트 초기화하여 DB에서 다시 조회하도록 강제
+        // 조회 응답(TaskResponse)은 프로젝트를 쓰지 않으므로 join fetch 없이 PK로만 조회하고,
+        // 프로젝트는 필요할 때 지연 로딩된다.
         taskRepository.flush();
-        // DataJpaTest는 기본적으로 트랜잭션 롤백되지만, 조회 쿼리 확인을 위해
-        // EntityManager를 clear하거나 flush 후 조회할 수 있음.
-        // 여기서는 join fetch 쿼리가 나가는지 로그로도 확인 가능하지만,
-        // 기능적으로는 연관된 프로젝트가 로딩되었는지 확인.
 
         Optional<Task> foundTask = taskRepository.findById(task.getId());
 
@@ -90,4 +100,156 @@ class TaskRepositoryTest {
         assertThat(updatedTask.get().getStatus()).isEqualTo(Status.IN_PROGRESS);
         assertThat(updatedTask.get().getDueDate()).isAfter(LocalDateTime.now().plusDays(1));
     }
-}
\ No newline at end of file
+
+    @DisplayName("상태와 마감일 범위로 필터링하고, 마감일 순 커서 다음부터 조회한다.")
+    @Test
+    void search_filtersAndPaginatesByDueDate() {
+        // Given
+        Project project = projectRepository.save(new Project("Search Project"));
+        Project otherProject = projectRepository.save(new Project("Other Project"));
+        LocalDateTime monday = LocalDateTime.of(2026, 3, 2, 9, 0);
+
+        saveTask(project, "first", Status.TODO, monday.plusDays(1));
+        Task second = saveTask(project, "second", Status.IN_PROGRESS, monday.plusDays(2));
+        saveTask(project, "third", Status.TODO, monday.plusDays(2));
+        saveTask(project, "done", Status.DONE, monday.plusDays(3));
+        saveTask(project, "next week", Status.TODO, monday.plusDays(8));
+        saveTask(otherProject, "other", Status.TODO, monday.plusDays(1));
+
+        TaskSearchCondition openThisWeek = new TaskSearchCondition(
+                List.of(Status.TODO, Status.IN_PROGRESS), null, monday, monday.plusDays(7),
+                TaskSort.DUE_DATE, null, null);
+
+        // When
+        List<Task> firstPage = taskRepository.findBy(
+                TaskSpecifications.search(project.getId(), openThisWeek, null),
+                query -> query.sortBy(TaskSort.DUE_DATE.toSort()).limit(2).all());
+        TaskCursor after = new TaskCursor(TaskSort.DUE_DATE, second.getDueDate(), second.getId());
+        List<Task> secondPage = taskRepository.findBy(
+                TaskSpecifications.search(project.getId(), openThisWeek, after),
+                query -> query.sortBy(TaskSort.DUE_DATE.toSort()).limit(2).all());
+
+        // Then
+        assertThat(firstPage).extracting(Task::getName).containsExactly("first", "second");
+        assertThat(secondPage).extracting(Task::getName).containsExactly("third");
+    }
+
+    @DisplayName("마감일이 없는 작업은 마감일 순 마지막에 오고, 커서로 넘겨도 빠지지 않는다.")
+    @Test
+    void search_byDueDate_pagesThroughTasksWithoutDueDate() {
+        // Given
+        Project project = projectRepository.save(new Project("Undated Project"));
+        saveTask(project, "undated 1", Status.TODO, null);
+        saveTask(project, "dated", Status.TODO, LocalDateTime.of(2026, 3, 3, 9, 0));
+        saveTask(project, "undated 2", Status.TODO, null);
+        TaskSearchCondition all =
+                new TaskSearchCondition(null, null, null, null, TaskSort.DUE_DATE, null, null);
+
+        // When
+        // 한 건씩 조회하면서 인코딩한 커서를 다시 해석해 다음 페이지를 가져온다
+        List<String> names = new ArrayList<>();
+        TaskCursor after = null;
+        for (int page = 0; page < 4; page++) {
+            List<Task> tasks = taskRepository.findBy(
+                    TaskSpecifications.search(project.getId(), all, after),
+                    query -> query.sortBy(TaskSort.DUE_DATE.toSort()).limit(1).all());
+            if (tasks.isEmpty()) {
+                break;
+            }
+            Task last = tasks.getFirst();
+            names.add(last.getName());
+            String cursor =
+                    new TaskCursor(TaskSort.DUE_DATE, last.getDueDate(), last.getId()).encode();
+            after = TaskCursor.decode(TaskSort.DUE_DATE, cursor);
+        }
+
+        // Then
+        assertThat(names).containsExactly("dated", "undated 1", "undated 2");
+    }
+
+    private Task saveTask(Project project, String name, Status status, LocalDateTime dueDate) {
+        return taskRepository.save(Task.builder()
+                .name(name)
+                .status(status)
+                .priority(Priority.MEDIUM)
+                .dueDate(dueDate)
+                .project(project)
+                .build());
+    }
+
+    @DisplayName("상태 일괄 전환 시, 조건에 맞는 작업만 한 번의 UPDATE로 바꾸고 수정 시각을 갱신한다.")
+    @Test
+    void transitionStatus_updatesMatchingTasksOnly() {
+        // Given
+        Project project = projectRepository.save(new Project("Sprint"));
+        Project otherProject = projectRepository.save(new Project("Other"));
+        LocalDateTime now = LocalDateTime.now();
+        Task overdue = saveTask(project, Status.IN_PROGRESS, now.minusDays(2));
+        Task upcoming = saveTask(project, Status.IN_PROGRESS, now.plusDays(2));
+        Task otherProjectTask = saveTask(otherProject, Status.IN_PROGRESS, now.minusDays(2));
+        taskRepository.flush();
+
+        LocalDateTime transitionedAt = now.plusMinutes(1).truncatedTo(ChronoUnit.SECONDS);
+        TaskStatusTransitionRequest request =
+                new TaskStatusTransitionRequest(List.of(Status.IN_PROGRESS), null, now, Status.DONE);
+
+        // When
+        List<Long> listed = taskRepository.findIdsToTransition(project.getId(), request, 10);
+        int updated = taskRepository.transitionStatus(project.getId(), request, transitionedAt);
+        entityManager.clear();
+
+        // Then
+        // 목록 조회도 같은 조건을 쓴다
+        assertThat(listed).containsExactly(overdue.getId());
+        assertThat(updated).isEqualTo(1);
+        Task reloaded = taskRepository.findById(overdue.getId()).orElseThrow();
+        assertThat(reloaded.getStatus()).isEqualTo(Status.DONE);
+        assertThat(reloaded.getUpdatedAt()).isEqualTo(transitionedAt);
+        assertThat(reloaded.getVersion()).isEqualTo(overdue.getVersion() + 1);
+        assertThat(taskRepository.findById(upcoming.getId()).orElseThrow().getStatus())
+                .isEqualTo(Status.IN_PROGRESS);
+        assertThat(taskRepository.findById(otherProjectTask.getId()).orElseThrow().getStatus())
+                .isEqualTo(Status.IN_PROGRESS);
+    }
+
+    @DisplayName("여러 프로젝트의 작업을 한 번에 조회하면, 프로젝트마다 마감이 가까운 순으로 개수 제한만큼과 전체 개수를 돌려준다.")
+    @Test
+    void findTopTasksByProjectIds_limitsTasksPerProject() {
+        // Given
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        Project first = projectRepository.save(new Project("First"));
+        Project second = projectRepository.save(new Project("Second"));
+        Task later = saveTask(first, Status.TODO, now.plusDays(3));
+        Task sooner = saveTask(first, Status.IN_PROGRESS, now.plusDays(1));
+        saveTask(first, Status.TODO, null);
+        saveTask(first, Status.DONE, now);
+        Task onlyOpen = saveTask(second, Status.TODO, now.plusDays(2));
+        taskRepository.flush();
+
+        // When
+        List<TaskDashboardRow> rows = taskRepository.findTopTasksByProjectIds(TenantContext.DEFAULT,
+                List.of(first.getId(), second.getId()), List.of("TODO", "IN_PROGRESS"), 2);
+
+        // Then
+        assertThat(rows).extracting(TaskDashboardRow::getId)
+                .containsExactly(sooner.getId(), later.getId(), onlyOpen.getId());
+        // 완료된 작업은 빠지고, 개수는 잘리기 전 기준이다
+        assertThat(rows.getFirst().getTaskCount()).isEqualTo(3L);
+        assertThat(rows.getFirst().getStatus()).isEqualTo(Status.IN_PROGRESS);
+        assertThat(rows.getFirst().getDueDate()).isEqualTo(now.plusDays(1));
+        assertThat(rows.getLast().getTaskCount()).isEqualTo(1L);
+        // 네이티브 쿼리도 다른 테넌트의 행은 돌려주지 않는다
+        assertThat(taskRepository.findTopTasksByProjectIds("acme",
+                List.of(first.getId(), second.getId()), List.of("TODO", "IN_PROGRESS"), 2)).isEmpty();
+    }
+
+    private Task saveTask(Project project, Status status, LocalDateTime dueDate) {
+        return taskRepository.save(Task.builder()
+                .name("Task")
+                .status(status)
+                .priority(Priority.MEDIUM)
+                .dueDate(dueDate)
+                .project(project)
+                .build());
+    }
+}
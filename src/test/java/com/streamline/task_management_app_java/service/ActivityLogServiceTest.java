@@ -0,0 +1,106 @@
+package com.streamline.task_management_app_java.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+import com.streamline.task_management_app_java.domain.ActivityLog;
+import com.streamline.task_management_app_java.domain.ActivityType;
+import com.streamline.task_management_app_java.domain.EntityType;
+import com.streamline.task_management_app_java.domain.Priority;
+import com.streamline.task_management_app_java.domain.Status;
+import com.streamline.task_management_app_java.repository.ActivityLogRepository;
+import com.streamline.task_management_app_java.service.event.TaskChangedEvent;
+import com.streamline.task_management_app_java.service.event.TaskSnapshot;
+import com.streamline.task_management_app_java.service.event.TasksBulkChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+class ActivityLogServiceTest {
+
+  private final ActivityLogRepository activityLogRepository = mock(ActivityLogRepository.class);
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  // 작성 스레드를 시작하지 않으므로 flush()를 직접 호출해 적재 시점을 제어한다
+  private final ActivityLogService activityLogService = new ActivityLogService(
+      activityLogRepository,
+      new StaticListableBeanFactory(Map.of("meterRegistry", meterRegistry))
+          .getBeanProvider(MeterRegistry.class),
+      3,
+      2,
+      Duration.ofMillis(200));
+
+  @AfterEach
+  void tearDown() {
+    RequestContextHolder.resetRequestAttributes();
+  }
+
+  @DisplayName("작업 수정 이벤트는 요청자와 바뀐 필드만 담아 큐에 쌓이고, 배치 크기만큼 한 번에 저장된다.")
+  @Test
+  void onTaskChanged_queuesEntryAndFlushesInBatches() {
+    // Given
+    MockHttpServletRequest request = new MockHttpServletRequest();
+    request.addHeader(ActivityLogService.ACTOR_HEADER, "alice");
+    RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    LocalDateTime due = LocalDateTime.now().plusDays(1);
+    TaskSnapshot before = new TaskSnapshot(10L, 1L, "Task", Status.TODO, Priority.HIGH, due);
+    TaskSnapshot after = new TaskSnapshot(10L, 1L, "Task", Status.DONE, Priority.HIGH, due);
+
+    // When
+    activityLogService.onTaskChanged(TaskChangedEvent.updated(before, after));
+    activityLogService.onTaskChanged(TaskChangedEvent.created(after));
+    activityLogService.onTasksBulkChanged(new TasksBulkChangedEvent(1L, Status.DONE, 5));
+    assertThat(activityLogService.queueDepth()).isEqualTo(3);
+    then(activityLogRepository).should(never()).saveAll(anyList());
+    int flushed = activityLogService.flush();
+
+    // Then
+    assertThat(flushed).isEqualTo(2);
+    assertThat(activityLogService.queueDepth()).isEqualTo(1);
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<List<ActivityLog>> batch = ArgumentCaptor.forClass(List.class);
+    then(activityLogRepository).should().saveAll(batch.capture());
+    ActivityLog updated = batch.getValue().getFirst();
+    assertThat(updated.getEntityType()).isEqualTo(EntityType.TASK);
+    assertThat(updated.getEntityId()).isEqualTo(10L);
+    assertThat(updated.getType()).isEqualTo(ActivityType.UPDATED);
+    assertThat(updated.getActor()).isEqualTo("alice");
+    assertThat(updated.getDetails()).isEqualTo("status: TODO -> DONE");
+
+    // 남은 일괄 변경 항목은 다음 배치로 저장된다
+    assertThat(activityLogService.flush()).isEqualTo(1);
+    assertThat(meterRegistry.counter("app.activity.written").count()).isEqualTo(3);
+  }
+
+  @DisplayName("큐가 가득 차면 요청을 막지 않고 새 항목을 버린 뒤 버린 수를 센다.")
+  @Test
+  void offer_whenQueueIsFull_dropsEntry() {
+    // Given
+    TaskSnapshot task = new TaskSnapshot(10L, 1L, "Task", Status.TODO, Priority.HIGH, null);
+    for (int i = 0; i < 3; i++) {
+      activityLogService.onTaskChanged(TaskChangedEvent.created(task));
+    }
+
+    // When
+    activityLogService.onTaskChanged(TaskChangedEvent.deleted(task));
+
+    // Then
+    assertThat(activityLogService.queueDepth()).isEqualTo(3);
+    assertThat(meterRegistry.counter("app.activity.dropped").count()).isEqualTo(1);
+    assertThat(meterRegistry.get("app.activity.queue.depth").gauge().value()).isEqualTo(3);
+  }
+}
@@ -0,0 +1,41 @@
+package com.streamline.task_management_app_java.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.streamline.task_management_app_java.config.CacheConfig;
+import com.streamline.task_management_app_java.controller.dto.CacheStatsResponse;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+class CacheStatsServiceTest {
+
+  @DisplayName("캐시별 적중, 미스 횟수와 크기를 반환한다.")
+  @Test
+  void getStats_returnsHitAndMissCounts() {
+    // Given
+    CaffeineCacheManager cacheManager = new CaffeineCacheManager(CacheConfig.PROJECTS, CacheConfig.TASKS);
+    cacheManager.setCaffeine(Caffeine.newBuilder().maximumSize(10).recordStats());
+    CacheStatsService cacheStatsService = new CacheStatsService(cacheManager);
+
+    Cache tasks = cacheManager.getCache(CacheConfig.TASKS);
+    tasks.put(1L, "task");
+    tasks.get(1L);
+    tasks.get(2L);
+
+    // When
+    List<CacheStatsResponse> stats = cacheStatsService.getStats();
+
+    // Then
+    assertThat(stats).extracting(CacheStatsResponse::name)
+        .containsExactly(CacheConfig.PROJECTS, CacheConfig.TASKS);
+    CacheStatsResponse taskStats = stats.get(1);
+    assertThat(taskStats.size()).isEqualTo(1);
+    assertThat(taskStats.hitCount()).isEqualTo(1);
+    assertThat(taskStats.missCount()).isEqualTo(1);
+    assertThat(taskStats.hitRate()).isEqualTo(0.5);
+  }
+}
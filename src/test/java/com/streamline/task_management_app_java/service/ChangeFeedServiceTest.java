@@ -0,0 +1,89 @@
+package com.streamline.task_management_app_java.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.streamline.task_management_app_java.controller.dto.ChangeEventResponse;
+import com.streamline.task_management_app_java.domain.EntityType;
+import com.streamline.task_management_app_java.domain.Priority;
+import com.streamline.task_management_app_java.domain.Status;
+import com.streamline.task_management_app_java.service.event.ChangeType;
+import com.streamline.task_management_app_java.service.event.ProjectChangedEvent;
+import com.streamline.task_management_app_java.service.event.TaskChangedEvent;
+import com.streamline.task_management_app_java.service.event.TaskSnapshot;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ChangeFeedServiceTest {
+
+  private final ChangeFeedService changeFeedService =
+      new ChangeFeedService(3, 2, Duration.ofSeconds(15), Duration.ofMinutes(30));
+
+  @AfterEach
+  void tearDown() {
+    changeFeedService.shutdown();
+  }
+
+  @DisplayName("커밋된 작업 변경을 작업 ID와 프로젝트 ID가 담긴 피드 이벤트로 남긴다.")
+  @Test
+  void onTaskChanged_appendsTaskEvent() {
+    // Given
+    TaskSnapshot task = new TaskSnapshot(10L, 1L, "Task", Status.TODO, Priority.HIGH, LocalDateTime.now());
+
+    // When
+    changeFeedService.onTaskChanged(TaskChangedEvent.created(task));
+
+    // Then
+    List<ChangeEventResponse> events = changeFeedService.eventsAfter(0);
+    assertThat(events).singleElement().satisfies(event -> {
+      assertThat(event.id()).isEqualTo(1);
+      assertThat(event.entity()).isEqualTo(EntityType.TASK);
+      assertThat(event.type()).isEqualTo(ChangeType.CREATED);
+      assertThat(event.entityId()).isEqualTo(10L);
+      assertThat(event.projectId()).isEqualTo(1L);
+    });
+  }
+
+  @DisplayName("마지막 이벤트 ID 이후의 이벤트를 순서대로 다시 보내 준다.")
+  @Test
+  void eventsAfter_returnsEventsInOrder() {
+    // Given
+    for (long id = 1; id <= 5; id++) {
+      changeFeedService.onProjectChanged(new ProjectChangedEvent(ChangeType.UPDATED, id));
+    }
+
+    // When
+    List<ChangeEventResponse> events = changeFeedService.eventsAfter(2);
+
+    // Then
+    assertThat(events).extracting(ChangeEventResponse::id).containsExactly(3L, 4L, 5L);
+    assertThat(changeFeedService.eventsAfter(5)).isEmpty();
+  }
+
+  @DisplayName("링 버퍼에서 이미 밀려난 위치에서 이어 받으려 하면, 다시 불러오도록 null을 반환한다.")
+  @Test
+  void eventsAfter_withOverwrittenEvents_returnsNull() {
+    // Given
+    for (long id = 1; id <= 5; id++) {
+      changeFeedService.onProjectChanged(new ProjectChangedEvent(ChangeType.UPDATED, id));
+    }
+
+    // When & Then
+    assertThat(changeFeedService.eventsAfter(1)).isNull();
+    // 서버 재시작 등으로 현재보다 큰 ID가 오는 경우도 다시 불러와야 한다
+    assertThat(changeFeedService.eventsAfter(9)).isNull();
+  }
+
+  @DisplayName("구독하면 구독자로 등록된다.")
+  @Test
+  void subscribe_registersSubscriber() {
+    // When
+    changeFeedService.subscribe(null);
+
+    // Then
+    assertThat(changeFeedService.subscriberCount()).isEqualTo(1);
+  }
+}
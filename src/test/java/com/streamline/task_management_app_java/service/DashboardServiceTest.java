@@ -0,0 +1,106 @@
+package com.streamline.task_management_app_java.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+
+import com.streamline.task_management_app_java.controller.dto.CursorPage;
+import com.streamline.task_management_app_java.controller.dto.ProjectDashboardResponse;
+import com.streamline.task_management_app_java.domain.Priority;
+import com.streamline.task_management_app_java.domain.Project;
+import com.streamline.task_management_app_java.domain.Status;
+import com.streamline.task_management_app_java.repository.ProjectRepository;
+import com.streamline.task_management_app_java.repository.TaskDashboardRow;
+import com.streamline.task_management_app_java.repository.TaskRepository;
+import com.streamline.task_management_app_java.tenant.TenantContext;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class DashboardServiceTest {
+
+  @InjectMocks private DashboardService dashboardService;
+
+  @Mock private ProjectRepository projectRepository;
+
+  @Mock private TaskRepository taskRepository;
+
+  @DisplayName("대시보드 한 페이지는 프로젝트 조회와 작업 조회, 두 번의 쿼리로 만든다.")
+  @Test
+  void getDashboard_usesTwoQueriesPerPage() {
+    // Given
+    Project first = project(1L, "First");
+    Project second = project(2L, "Second");
+    Project next = project(3L, "Next");
+    given(projectRepository.findPage(0L, Limit.of(3))).willReturn(List.of(first, second, next));
+    TaskDashboardRow row = row(10L, 1L, 4L);
+    given(taskRepository.findTopTasksByProjectIds(
+        eq(TenantContext.DEFAULT), eq(List.of(1L, 2L)), anyList(), eq(5)))
+        .willReturn(List.of(row));
+
+    // When
+    CursorPage<ProjectDashboardResponse> page = dashboardService.getDashboard("all", null, 2, 5);
+
+    // Then
+    assertThat(page.items()).extracting(ProjectDashboardResponse::name)
+        .containsExactly("First", "Second");
+    assertThat(page.items().getFirst().openTasks()).isEqualTo(4);
+    assertThat(page.items().getFirst().tasks()).hasSize(1);
+    // 작업이 없는 프로젝트는 빈 목록과 0건으로 내려간다
+    assertThat(page.items().getLast().openTasks()).isZero();
+    assertThat(page.items().getLast().tasks()).isEmpty();
+    assertThat(page.nextCursor()).isEqualTo("2");
+    assertThat(page.hasNext()).isTrue();
+    then(taskRepository).should(times(1))
+        .findTopTasksByProjectIds(anyString(), anyList(), anyList(), anyInt());
+  }
+
+  @DisplayName("스트리밍은 프로젝트를 페이지 단위로 끝까지 읽으며 한 건씩 넘긴다.")
+  @Test
+  void streamDashboard_walksAllPages() {
+    // Given
+    given(projectRepository.findPage(eq(0L), any(Limit.class))).willReturn(List.of(project(1L, "First")));
+    given(projectRepository.findPage(eq(1L), any(Limit.class))).willReturn(List.of());
+    given(taskRepository.findTopTasksByProjectIds(anyString(), anyList(), anyList(), anyInt()))
+        .willReturn(List.of());
+
+    // When
+    List<ProjectDashboardResponse> streamed = new ArrayList<>();
+    dashboardService.streamDashboard("all", 5, streamed::add);
+
+    // Then
+    assertThat(streamed).extracting(ProjectDashboardResponse::id).containsExactly(1L);
+  }
+
+  private Project project(Long id, String name) {
+    Project project = new Project(name);
+    ReflectionTestUtils.setField(project, "id", id);
+    return project;
+  }
+
+  private TaskDashboardRow row(Long id, Long projectId, Long taskCount) {
+    TaskDashboardRow row = mock(TaskDashboardRow.class);
+    given(row.getId()).willReturn(id);
+    given(row.getProjectId()).willReturn(projectId);
+    given(row.getName()).willReturn("Task");
+    given(row.getStatus()).willReturn(Status.TODO);
+    given(row.getPriority()).willReturn(Priority.HIGH);
+    given(row.getTaskCount()).willReturn(taskCount);
+    return row;
+  }
+}
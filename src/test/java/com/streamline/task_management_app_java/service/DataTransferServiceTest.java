@@ -0,0 +1,213 @@
+package com.streamline.task_management_app_java.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.streamline.task_management_app_java.config.JpaConfig;
+import com.streamline.task_management_app_java.controller.dto.ImportJobResponse;
+import com.streamline.task_management_app_java.domain.EntityType;
+import com.streamline.task_management_app_java.domain.ImportJob.State;
+import com.streamline.task_management_app_java.domain.Priority;
+import com.streamline.task_management_app_java.domain.Project;
+import com.streamline.task_management_app_java.domain.Status;
+import com.streamline.task_management_app_java.domain.Task;
+import com.streamline.task_management_app_java.domain.TransferFormat;
+import com.streamline.task_management_app_java.repository.ImportJobRepository;
+import com.streamline.task_management_app_java.repository.ImportedIdRepository;
+import com.streamline.task_management_app_java.repository.ProjectRepository;
+import com.streamline.task_management_app_java.repository.TaskRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.json.JsonMapper;
+
+@DataJpaTest
+@Import({JpaConfig.class, ProjectService.class})
+class DataTransferServiceTest {
+
+  @Autowired private ProjectRepository projectRepository;
+
+  @Autowired private TaskRepository taskRepository;
+
+  @Autowired private ImportJobRepository importJobRepository;
+
+  @Autowired private ImportedIdRepository importedIdRepository;
+
+  @Autowired private ProjectService projectService;
+
+  @Autowired private ApplicationEventPublisher eventPublisher;
+
+  @Autowired private PlatformTransactionManager transactionManager;
+
+  private DataTransferService dataTransferService;
+
+  @BeforeEach
+  void setUp() {
+    // 배치가 여러 번 나뉘도록 배치 크기를 작게 잡는다
+    dataTransferService = new DataTransferService(
+        projectRepository, taskRepository, importJobRepository, importedIdRepository,
+        projectService, eventPublisher, new TransactionTemplate(transactionManager), JsonMapper.builder().build(),
+        new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class), 2,
+        Duration.ofMinutes(1));
+  }
+
+  @DisplayName("CSV로 내보낸 작업은 쉼표가 든 이름도 그대로 다시 가져올 수 있다.")
+  @Test
+  void exportTasks_thenImport_roundTripsCsv() {
+    // Given
+    Project project = projectRepository.save(new Project("Source"));
+    LocalDateTime dueDate = LocalDateTime.of(2025, 12, 24, 18, 0);
+    taskRepository.save(Task.builder().name("Wrap \"gifts\", quickly").status(Status.TODO)
+        .priority(Priority.HIGH).dueDate(dueDate).project(project).build());
+    taskRepository.save(Task.builder().name("Plain").status(Status.DONE)
+        .priority(Priority.LOW).dueDate(dueDate).project(project).build());
+    taskRepository.flush();
+
+    // When
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    dataTransferService.exportTasks(TransferFormat.CSV, project.getId(), out);
+    String csv = out.toString(StandardCharsets.UTF_8);
+    Long jobId = dataTransferService.createImport(EntityType.TASK, TransferFormat.CSV, null).id();
+    ImportJobResponse job = dataTransferService.runImport(jobId, body(csv));
+
+    // Then
+    assertThat(csv).startsWith("id,projectId,name,status,priority,dueDate\r\n")
+        .contains("\"Wrap \"\"gifts\"\", quickly\"");
+    assertThat(job.state()).isEqualTo(State.COMPLETED);
+    assertThat(job.processedRows()).isEqualTo(2);
+    assertThat(job.rejectedRows()).isZero();
+    assertThat(taskRepository.countByProjectId(project.getId())).isEqualTo(4);
+    assertThat(taskRepository.findAll()).extracting(Task::getName)
+        .filteredOn(name -> name.startsWith("Wrap")).containsOnly("Wrap \"gifts\", quickly");
+  }
+
+  @DisplayName("읽을 수 없거나 저장할 수 없는 행은 건너뛰고 개수와 마지막 오류를 남긴다.")
+  @Test
+  void runImport_withInvalidRows_rejectsOnlyThoseRows() {
+    // Given
+    Project project = projectRepository.save(new Project("Target"));
+    String ndjson = taskLine(project.getId(), "Valid", "TODO")
+        + taskLine(project.getId(), "Bad status", "LATER")
+        + "\n"
+        + taskLine(project.getId(), " ", "TODO")
+        + taskLine(999_999L, "Orphan", "TODO");
+    Long jobId = dataTransferService.createImport(EntityType.TASK, TransferFormat.NDJSON, null).id();
+
+    // When
+    ImportJobResponse job = dataTransferService.runImport(jobId, body(ndjson));
+
+    // Then
+    // 빈 줄은 행으로 세지 않는다
+    assertThat(job.processedRows()).isEqualTo(4);
+    assertThat(job.rejectedRows()).isEqualTo(3);
+    assertThat(job.lastError()).isEqualTo("Project not found with id: 999999");
+    assertThat(taskRepository.countByProjectId(project.getId())).isEqualTo(1);
+  }
+
+  @DisplayName("업로드가 중간에 실패하면, 같은 파일을 다시 보냈을 때 마지막 체크포인트 다음 행부터 가져온다.")
+  @Test
+  void runImport_afterFailure_resumesFromCheckpoint() {
+    // Given
+    Long jobId =
+        dataTransferService.createImport(EntityType.PROJECT, TransferFormat.CSV, null).id();
+    String header = "id,name,status\n";
+    String committed = "1,First,TODO\n2,Second,DONE\n";
+    String rest = "3,Third,IN_PROGRESS\n";
+    // 닫히지 않은 따옴표에서 파일이 끊긴다
+    assertThatThrownBy(() -> dataTransferService.runImport(
+        jobId, body(header + committed + "3,\"Thi")))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThat(dataTransferService.getImport(jobId).state()).isEqualTo(State.FAILED);
+    assertThat(dataTransferService.getImport(jobId).processedRows()).isEqualTo(2);
+
+    // When
+    ImportJobResponse job = dataTransferService.runImport(jobId, body(header + committed + rest));
+
+    // Then
+    assertThat(job.state()).isEqualTo(State.COMPLETED);
+    assertThat(job.processedRows()).isEqualTo(3);
+    assertThat(projectRepository.findAll()).extracting(Project::getName)
+        .containsExactly("First", "Second", "Third");
+  }
+
+  @DisplayName("내보낸 프로젝트와 작업을 빈 DB로 가져오면 작업이 새로 만든 프로젝트에 연결된다.")
+  @Test
+  void runImport_withProjectImport_linksTasksToImportedProjects() {
+    // Given
+    Project home = projectRepository.save(new Project("Home"));
+    Project work = projectRepository.save(new Project("Work"));
+    LocalDateTime dueDate = LocalDateTime.of(2025, 12, 24, 18, 0);
+    taskRepository.save(Task.builder().name("Clean").status(Status.TODO)
+        .priority(Priority.LOW).dueDate(dueDate).project(home).build());
+    taskRepository.save(Task.builder().name("Report").status(Status.TODO)
+        .priority(Priority.HIGH).dueDate(dueDate).project(work).build());
+    taskRepository.flush();
+    ByteArrayOutputStream projects = new ByteArrayOutputStream();
+    dataTransferService.exportProjects(TransferFormat.NDJSON, projects);
+    ByteArrayOutputStream tasks = new ByteArrayOutputStream();
+    dataTransferService.exportTasks(TransferFormat.CSV, null, tasks);
+    // 빈 DB로 옮긴 것처럼 원본을 지운다
+    taskRepository.deleteAllInBatch();
+    projectRepository.deleteAllInBatch();
+
+    // When
+    Long projectJobId =
+        dataTransferService.createImport(EntityType.PROJECT, TransferFormat.NDJSON, null).id();
+    dataTransferService.runImport(projectJobId, body(projects.toString(StandardCharsets.UTF_8)));
+    Long taskJobId =
+        dataTransferService.createImport(EntityType.TASK, TransferFormat.CSV, projectJobId).id();
+    ImportJobResponse job =
+        dataTransferService.runImport(taskJobId, body(tasks.toString(StandardCharsets.UTF_8)));
+
+    // Then
+    assertThat(job.rejectedRows()).isZero();
+    // IDENTITY 값은 다시 쓰지 않으므로 새 프로젝트는 원본과 다른 id를 받는다
+    assertThat(projectRepository.findAll()).extracting(Project::getId)
+        .doesNotContain(home.getId(), work.getId());
+    assertThat(taskRepository.findAll())
+        .extracting(task -> task.getName() + "@" + task.getProject().getName())
+        .containsExactlyInAnyOrder("Clean@Home", "Report@Work");
+  }
+
+  @DisplayName("다른 업로드가 실행 중인 가져오기는 같은 행을 두 번 넣지 않도록 거절한다.")
+  @Test
+  void runImport_whileRunning_isRefused() {
+    // Given
+    Long jobId =
+        dataTransferService.createImport(EntityType.PROJECT, TransferFormat.CSV, null).id();
+    // 방금 체크포인트를 남긴 업로드가 아직 실행 중이다
+    importJobRepository.findById(jobId).orElseThrow().start(LocalDateTime.now().minusMinutes(1));
+    importJobRepository.flush();
+    String csv = "id,name,status\n1,First,TODO\n";
+
+    // When & Then
+    assertThatThrownBy(() -> dataTransferService.runImport(jobId, body(csv)))
+        .isInstanceOf(OptimisticLockingFailureException.class);
+    assertThat(dataTransferService.getImport(jobId).state()).isEqualTo(State.RUNNING);
+    assertThat(projectRepository.findAll()).isEmpty();
+  }
+
+  private static String taskLine(Long projectId, String name, String status) {
+    return "{\"projectId\":" + projectId + ",\"name\":\"" + name + "\",\"status\":\"" + status
+        + "\",\"priority\":\"HIGH\",\"dueDate\":\"2025-12-24T18:00:00\"}\n";
+  }
+
+  private static InputStream body(String content) {
+    return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+  }
+}
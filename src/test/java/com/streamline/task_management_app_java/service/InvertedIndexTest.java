@@ -0,0 +1,101 @@
+package com.streamline.task_management_app_java.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class InvertedIndexTest {
+
+  private final InvertedIndex index = new InvertedIndex();
+
+  @DisplayName("단어의 앞부분만 입력해도 대소문자와 관계없이 이름에 그 단어가 있는 문서를 찾는다.")
+  @Test
+  void search_withPrefix_returnsMatchingDocuments() {
+    // Given
+    index.put(1L, 10L, "Write release notes");
+    index.put(2L, 10L, "Review PR");
+    index.put(3L, 20L, "rewrite-parser");
+
+    // When & Then
+    assertThat(index.search("re", 10)).extracting(InvertedIndex.Document::id)
+        .containsExactlyInAnyOrder(1L, 2L, 3L);
+    assertThat(index.search("REL", 10)).extracting(InvertedIndex.Document::id).containsExactly(1L);
+    assertThat(index.search("pars", 10)).extracting(InvertedIndex.Document::id).containsExactly(3L);
+  }
+
+  @DisplayName("여러 단어를 입력하면 모든 단어가 이름에 있는 문서만 찾고, 개수 제한을 지킨다.")
+  @Test
+  void search_withSeveralTerms_requiresAllOfThem() {
+    // Given
+    index.put(1L, 10L, "Write release notes");
+    index.put(2L, 10L, "Write tests");
+    index.put(3L, 10L, "Write docs");
+
+    // When & Then
+    assertThat(index.search("wri not", 10)).extracting(InvertedIndex.Document::id)
+        .containsExactly(1L);
+    assertThat(index.search("write", 2)).hasSize(2);
+    assertThat(index.search("  ", 10)).isEmpty();
+  }
+
+  @DisplayName("이름을 바꾸거나 삭제하면 이전 단어로는 더 이상 검색되지 않고 통계도 줄어든다.")
+  @Test
+  void putAndRemove_keepPostingsInSync() {
+    // Given
+    index.put(1L, 10L, "Old name");
+    index.put(2L, 20L, "Other task");
+
+    // When
+    index.put(1L, 10L, "New name");
+
+    // Then
+    assertThat(index.search("old", 10)).isEmpty();
+    assertThat(index.search("new", 10)).extracting(InvertedIndex.Document::name)
+        .containsExactly("New name");
+
+    // 프로젝트 단위로 지우면 그 프로젝트의 문서만 빠진다
+    index.removeProject(10L);
+    assertThat(index.search("name", 10)).isEmpty();
+    InvertedIndex.Stats stats = index.stats();
+    assertThat(stats.documents()).isEqualTo(1);
+    assertThat(stats.terms()).isEqualTo(2);
+    assertThat(stats.postings()).isEqualTo(2);
+    assertThat(stats.estimatedBytes()).isPositive();
+  }
+
+  @DisplayName("여러 단어는 가장 드문 단어부터 교집합을 구하고, 넓은 접두어도 정확히 걸러낸다.")
+  @Test
+  void search_intersectsTermsFromTheRarest() {
+    // Given
+    // "t"로 시작하는 단어가 많아 접두어 범위가 넓다
+    for (long id = 1; id <= 20; id++) {
+      index.put(id, 10L, "task t" + id);
+    }
+    index.put(100L, 10L, "rare task");
+    index.put(101L, 10L, "rare bug");
+
+    // When & Then
+    assertThat(index.search("t rare", 10)).extracting(InvertedIndex.Document::id)
+        .containsExactly(100L);
+    assertThat(index.search("rare bu", 10)).extracting(InvertedIndex.Document::id)
+        .containsExactly(101L);
+    assertThat(index.search("rare missing", 10)).isEmpty();
+  }
+
+  @DisplayName("다른 프로젝트로 옮긴 문서는 이전 프로젝트를 지워도 남는다.")
+  @Test
+  void removeProject_afterMove_keepsMovedDocument() {
+    // Given
+    index.put(1L, 10L, "Moved task");
+    index.put(2L, 10L, "Staying task");
+    index.put(1L, 20L, "Moved task");
+
+    // When
+    index.removeProject(10L);
+
+    // Then
+    assertThat(index.search("task", 10)).extracting(InvertedIndex.Document::id)
+        .containsExactly(1L);
+  }
+}
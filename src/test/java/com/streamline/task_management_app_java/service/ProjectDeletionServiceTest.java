@@ -0,0 +1,134 @@
+package com.streamline.task_management_app_java.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+import com.streamline.task_management_app_java.controller.dto.ProjectDeletionResponse;
+import com.streamline.task_management_app_java.controller.dto.ProjectDeletionResponse.State;
+import com.streamline.task_management_app_java.repository.ProjectRepository;
+import com.streamline.task_management_app_java.repository.TaskRepository;
+import com.streamline.task_management_app_java.service.ProjectDeletionService.Key;
+import com.streamline.task_management_app_java.tenant.TenantContext;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class ProjectDeletionServiceTest {
+
+  @InjectMocks private ProjectDeletionService projectDeletionService;
+
+  @Mock private ProjectRepository projectRepository;
+
+  @Mock private TaskRepository taskRepository;
+
+  @Mock private ProjectService projectService;
+
+  @DisplayName("작업을 청크 단위로 삭제하면서 진행 상태를 갱신하고, 마지막에 프로젝트를 삭제한다.")
+  @Test
+  void purge_deletesTasksInChunksAndReportsProgress() {
+    // Given
+    Long projectId = 1L;
+    registerRunning(projectId, 2_500);
+    given(taskRepository.findIdsByProjectId(eq(projectId), any(Limit.class)))
+        .willReturn(List.of(1L, 2L), List.of(3L), List.of());
+    given(taskRepository.deleteAllByIdIn(anyList())).willReturn(1_000, 1_000);
+    given(projectService.deleteProject(projectId, null))
+        .willReturn(ProjectDeletionResponse.completed(projectId, 500));
+
+    // When
+    projectDeletionService.purge(projectId);
+
+    // Then
+    ProjectDeletionResponse deletion = projectDeletionService.getDeletion(projectId);
+    assertThat(deletion.state()).isEqualTo(State.COMPLETED);
+    assertThat(deletion.deletedTasks()).isEqualTo(2_500);
+    then(taskRepository).should(times(2)).deleteAllByIdIn(anyList());
+    then(projectService).should().evictTasks(List.of(1L, 2L));
+    then(projectService).should().evictTasks(List.of(3L));
+    then(projectService).should().deleteProject(projectId, null);
+  }
+
+  @DisplayName("삭제 도중 오류가 발생하면, 진행 상태를 FAILED로 남긴다.")
+  @Test
+  void purge_whenDeleteFails_marksFailed() {
+    // Given
+    Long projectId = 1L;
+    registerRunning(projectId, 10);
+    given(taskRepository.findIdsByProjectId(eq(projectId), any(Limit.class)))
+        .willThrow(new IllegalStateException("DB down"));
+
+    // When
+    projectDeletionService.purge(projectId);
+
+    // Then
+    assertThat(projectDeletionService.getDeletion(projectId).state()).isEqualTo(State.FAILED);
+  }
+
+  @DisplayName("존재하지 않는 프로젝트의 삭제를 시작하면, 예외가 발생한다.")
+  @Test
+  void startDeletion_withInvalidId_throwsException() {
+    // Given
+    given(projectRepository.existsById(99L)).willReturn(false);
+
+    // When & Then
+    assertThatThrownBy(() -> projectDeletionService.startDeletion(99L, null))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @DisplayName("이미 삭제 중인 프로젝트의 삭제를 다시 시작하면, 진행 중인 작업을 그대로 돌려준다.")
+  @Test
+  void startDeletion_whileRunning_returnsRunningDeletion() {
+    // Given
+    Long projectId = 1L;
+    registerRunning(projectId, 10);
+    given(projectRepository.existsById(projectId)).willReturn(true);
+    given(taskRepository.countByProjectId(projectId)).willReturn(7L);
+
+    // When
+    ProjectDeletionResponse deletion = projectDeletionService.startDeletion(projectId, null);
+
+    // Then
+    // 새 작업을 예약하지 않았으므로 처음 등록한 총 개수가 남아 있다
+    assertThat(deletion.state()).isEqualTo(State.RUNNING);
+    assertThat(deletion.totalTasks()).isEqualTo(10);
+    assertThat(projectDeletionService.getDeletion(projectId)).isSameAs(deletion);
+  }
+
+  @DisplayName("다른 테넌트는 진행 중인 삭제 상태를 조회할 수 없다.")
+  @Test
+  void getDeletion_fromOtherTenant_throwsException() {
+    // Given
+    Long projectId = 1L;
+    registerRunning(projectId, 10);
+
+    // When & Then
+    assertThatThrownBy(() -> TenantContext.run("other",
+        () -> projectDeletionService.getDeletion(projectId)))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThat(projectDeletionService.getDeletion(projectId).state()).isEqualTo(State.RUNNING);
+  }
+
+  @SuppressWarnings("unchecked")
+  private void registerRunning(Long projectId, long totalTasks) {
+    Map<Key, ProjectDeletionResponse> deletions =
+        (Map<Key, ProjectDeletionResponse>)
+            ReflectionTestUtils.getField(projectDeletionService, "deletions");
+    deletions.put(
+        ProjectDeletionService.key(projectId),
+        ProjectDeletionResponse.running(projectId, totalTasks));
+  }
+}
@@ -3,22 +3,38 @@ package com.streamline.task_management_app_java.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
 
+import com.streamline.task_management_app_java.config.CacheConfig;
+import com.streamline.task_management_app_java.controller.dto.CursorPage;
 import com.streamline.task_management_app_java.controller.dto.ProjectCreateRequest;
+import com.streamline.task_management_app_java.controller.dto.ProjectDeletionResponse;
 import com.streamline.task_management_app_java.controller.dto.ProjectResponse;
 import com.streamline.task_management_app_java.controller.dto.ProjectUpdateRequest;
 import com.streamline.task_management_app_java.domain.Project;
 import com.streamline.task_management_app_java.domain.ProjectStatus;
 import com.streamline.task_management_app_java.repository.ProjectRepository;
+import com.streamline.task_management_app_java.repository.TaskRepository;
+import com.streamline.task_management_app_java.service.event.ChangeType;
+import com.streamline.task_management_app_java.service.event.ProjectChangedEvent;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.LongStream;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
 import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
@@ -28,6 +44,14 @@ class ProjectServiceTest {
 
   @Mock private ProjectRepository projectRepository;
 
+  @Mock private TaskRepository taskRepository;
+
+  @Mock private ApplicationEventPublisher eventPublisher;
+
+  @Mock private CacheManager cacheManager;
+
+  @Mock private Cache taskCache;
+
   @DisplayName("ID로 프로젝트를 조회하면, 프로젝트 정보를 반환한다.")
   @Test
   void getProject_withValidId_returnsProject() {
@@ -59,6 +83,50 @@ class ProjectServiceTest {
         .isInstanceOf(IllegalArgumentException.class);
   }
 
+  @DisplayName("다음 페이지가 있으면, 요청 크기만큼 자르고 마지막 ID를 다음 커서로 반환한다.")
+  @Test
+  void getProjects_withMoreRows_returnsNextCursor() {
+    // Given
+    List<Project> projects =
+        LongStream.rangeClosed(11, 14)
+            .mapToObj(
+                id -> {
+                  Project project = new Project("Project " + id);
+                  ReflectionTestUtils.setField(project, "id", id);
+                  return project;
+                })
+            .toList();
+    given(projectRepository.findPage(eq(10L), argThat(limit -> limit.max() == 4))).willReturn(projects);
+
+    // When
+    CursorPage<ProjectResponse> page = projectService.getProjects("all", 10L, 3);
+
+    // Then
+    assertThat(page.items()).extracting(ProjectResponse::id).containsExactly(11L, 12L, 13L);
+    assertThat(page.hasNext()).isTrue();
+    assertThat(page.nextCursor()).isEqualTo("13");
+  }
+
+  @DisplayName("페이지 크기가 상한을 넘으면, 상한으로 제한하고 상태로 필터링한다.")
+  @Test
+  void getProjects_withHugeSize_isBounded() {
+    // Given
+    given(
+            projectRepository.findPageByStatus(
+                eq(ProjectStatus.DONE),
+                eq(0L),
+                argThat(limit -> limit.max() == ProjectService.MAX_PAGE_SIZE + 1)))
+        .willReturn(List.of());
+
+    // When
+    CursorPage<ProjectResponse> page = projectService.getProjects("done", null, 1_000_000);
+
+    // Then
+    assertThat(page.items()).isEmpty();
+    assertThat(page.hasNext()).isFalse();
+    assertThat(page.nextCursor()).isNull();
+  }
+
   @DisplayName("프로젝트 생성 요청이 오면, 프로젝트를 저장한다.")
   @Test
   void createProject_savesProject() {
@@ -74,17 +142,101 @@ class ProjectServiceTest {
     then(projectRepository).should().save(any(Project.class));
   }
 
-  @DisplayName("프로젝트 삭제 요청이 오면, 프로젝트를 삭제한다.")
+  @DisplayName("프로젝트 삭제 요청이 오면, 작업과 프로젝트를 일괄 삭제하고 삭제된 작업 수를 반환한다.")
+  @Test
+  void deleteProject_deletesTasksInBulk() {
+    // Given
+    Long projectId = 1L;
+    given(taskRepository.findIdsByProjectId(eq(projectId), any(Limit.class)))
+        .willReturn(List.of(10L, 11L));
+    given(taskRepository.deleteAllByIdIn(List.of(10L, 11L))).willReturn(2);
+    given(taskRepository.deleteAllByProjectId(projectId)).willReturn(0);
+    given(projectRepository.deleteProjectById(projectId)).willReturn(1);
+    given(cacheManager.getCache(CacheConfig.TASKS)).willReturn(taskCache);
+
+    // When
+    ProjectDeletionResponse response = projectService.deleteProject(projectId, null);
+
+    // Then
+    assertThat(response.deletedTasks()).isEqualTo(2);
+    // 지운 작업만 캐시에서 빠지고, 캐시 전체를 비우지는 않는다
+    then(taskCache).should().evict(CacheConfig.tenantKey(10L));
+    then(taskCache).should().evict(CacheConfig.tenantKey(11L));
+    then(taskCache).should(never()).clear();
+    assertThat(response.state()).isEqualTo(ProjectDeletionResponse.State.COMPLETED);
+    then(taskRepository).should().deleteAllByProjectId(projectId);
+    then(projectRepository).should().deleteProjectById(projectId);
+    then(projectRepository).should(never()).deleteById(projectId);
+    then(eventPublisher).should().publishEvent(new ProjectChangedEvent(ChangeType.DELETED, projectId));
+  }
+
+  @DisplayName("목록을 만든 뒤 추가된 작업까지 지웠다면, 작업 캐시를 통째로 비운다.")
   @Test
-  void deleteProject_deletesProject() {
+  void deleteProject_withTaskAddedAfterListing_clearsTaskCache() {
     // Given
     Long projectId = 1L;
+    given(taskRepository.findIdsByProjectId(eq(projectId), any(Limit.class)))
+        .willReturn(List.of(10L));
+    given(taskRepository.deleteAllByIdIn(List.of(10L))).willReturn(1);
+    // 다른 트랜잭션이 그사이 만든 작업으로, 생성 시 캐시에 올라갔을 수 있다
+    given(taskRepository.deleteAllByProjectId(projectId)).willReturn(1);
+    given(projectRepository.deleteProjectById(projectId)).willReturn(1);
+    given(cacheManager.getCache(CacheConfig.TASKS)).willReturn(taskCache);
 
     // When
-    projectService.deleteProject(projectId);
+    ProjectDeletionResponse response = projectService.deleteProject(projectId, null);
 
     // Then
-    then(projectRepository).should().deleteById(projectId);
+    assertThat(response.deletedTasks()).isEqualTo(2);
+    then(taskCache).should().clear();
+  }
+
+  @DisplayName("작업이 청크 크기보다 많으면, 하나씩 지우지 않고 한 번에 지운 뒤 작업 캐시를 비운다.")
+  @Test
+  void deleteProject_withManyTasks_clearsTaskCache() {
+    // Given
+    Long projectId = 1L;
+    List<Long> listed =
+        LongStream.rangeClosed(1, ProjectDeletionService.CHUNK_SIZE + 1).boxed().toList();
+    given(taskRepository.findIdsByProjectId(eq(projectId), any(Limit.class))).willReturn(listed);
+    given(taskRepository.deleteAllByProjectId(projectId)).willReturn(5_000);
+    given(projectRepository.deleteProjectById(projectId)).willReturn(1);
+    given(cacheManager.getCache(CacheConfig.TASKS)).willReturn(taskCache);
+
+    // When
+    ProjectDeletionResponse response = projectService.deleteProject(projectId, null);
+
+    // Then
+    assertThat(response.deletedTasks()).isEqualTo(5_000);
+    then(taskRepository).should(never()).deleteAllByIdIn(any());
+    then(taskCache).should().clear();
+    then(taskCache).should(never()).evict(any());
+  }
+
+  @DisplayName("존재하지 않는 프로젝트를 삭제하면, 삭제 이벤트 없이 예외가 발생한다.")
+  @Test
+  void deleteProject_withUnknownId_throwsWithoutEvent() {
+    // Given
+    Long projectId = 404L;
+    given(projectRepository.deleteProjectById(projectId)).willReturn(0);
+
+    // When & Then
+    assertThatThrownBy(() -> projectService.deleteProject(projectId, null))
+        .isInstanceOf(IllegalArgumentException.class);
+    then(eventPublisher).should(never()).publishEvent(any(Object.class));
+  }
+
+  @DisplayName("If-Match 버전이 다르면, 작업을 지우지 않고 예외가 발생한다.")
+  @Test
+  void deleteProject_withStaleVersion_throwsBeforeDeletingTasks() {
+    // Given
+    Long projectId = 1L;
+    given(projectRepository.findVersionById(projectId)).willReturn(Optional.of(5L));
+
+    // When & Then
+    assertThatThrownBy(() -> projectService.deleteProject(projectId, 4L))
+        .isInstanceOf(OptimisticLockingFailureException.class);
+    then(taskRepository).should(never()).deleteAllByProjectId(projectId);
   }
 
   @DisplayName("프로젝트 수정 요청이 오면, 프로젝트 정보를 업데이트한다.")
@@ -100,7 +252,7 @@ class ProjectServiceTest {
     ProjectUpdateRequest request = new ProjectUpdateRequest("New Name", ProjectStatus.DONE);
 
     // When
-    projectService.updateProject(projectId, request);
+    projectService.updateProject(projectId, request, null);
 
     // Then
     assertThat(project.getName()).isEqualTo("New Name");
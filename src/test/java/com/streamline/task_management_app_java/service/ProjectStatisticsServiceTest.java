@@ -0,0 +1,131 @@
+package com.streamline.task_management_app_java.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+import com.streamline.task_management_app_java.controller.dto.ProjectSummaryResponse;
+import com.streamline.task_management_app_java.domain.Priority;
+import com.streamline.task_management_app_java.domain.Status;
+import com.streamline.task_management_app_java.repository.ProjectRepository;
+import com.streamline.task_management_app_java.repository.ProjectTenantRow;
+import com.streamline.task_management_app_java.repository.TaskCountRow;
+import com.streamline.task_management_app_java.repository.TaskDueCountRow;
+import com.streamline.task_management_app_java.repository.TaskRepository;
+import com.streamline.task_management_app_java.service.event.ChangeType;
+import com.streamline.task_management_app_java.service.event.ProjectChangedEvent;
+import com.streamline.task_management_app_java.service.event.TaskChangedEvent;
+import com.streamline.task_management_app_java.service.event.TaskSnapshot;
+import com.streamline.task_management_app_java.tenant.TenantContext;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ProjectStatisticsServiceTest {
+
+  @InjectMocks private ProjectStatisticsService projectStatisticsService;
+
+  @Mock private ProjectRepository projectRepository;
+
+  @Mock private TaskRepository taskRepository;
+
+  @DisplayName("기동 시 집계 쿼리로 카운터를 채우고, 기한이 지난 미완료 작업을 기한 초과로 센다.")
+  @Test
+  void rebuild_loadsCountersFromGroupedQueries() {
+    // Given
+    LocalDateTime past = LocalDateTime.now().minusDays(1);
+    LocalDateTime future = LocalDateTime.now().plusDays(1);
+    given(projectRepository.findAllTenantRows()).willReturn(List.of(
+        new ProjectTenantRow(1L, TenantContext.DEFAULT), new ProjectTenantRow(2L, "acme")));
+    given(taskRepository.countGroupByProjectStatusPriority()).willReturn(List.of(
+        new TaskCountRow(1L, Status.TODO, Priority.HIGH, 2L),
+        new TaskCountRow(1L, Status.DONE, Priority.LOW, 1L)));
+    given(taskRepository.countGroupByProjectDueDate(any())).willReturn(List.of(
+        new TaskDueCountRow(1L, past, 1L),
+        new TaskDueCountRow(1L, future, 1L)));
+
+    // When
+    projectStatisticsService.rebuild();
+
+    // Then
+    ProjectSummaryResponse summary = projectStatisticsService.getSummary(1L);
+    assertThat(summary.totalTasks()).isEqualTo(3);
+    assertThat(summary.byStatus()).containsEntry(Status.TODO, 2L).containsEntry(Status.DONE, 1L);
+    assertThat(summary.byPriority()).containsEntry(Priority.HIGH, 2L).containsEntry(Priority.LOW, 1L);
+    assertThat(summary.overdueTasks()).isEqualTo(1);
+
+    // 작업이 없는 프로젝트도 0으로 조회되지만, 다른 테넌트에게는 없는 프로젝트다
+    assertThat(TenantContext.call("acme", () -> projectStatisticsService.getSummary(2L)))
+        .extracting(ProjectSummaryResponse::totalTasks).isEqualTo(0L);
+    assertThatThrownBy(() -> projectStatisticsService.getSummary(2L))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @DisplayName("작업 이벤트를 반영해 카운터를 증감하고, 완료 처리된 작업은 기한 초과에서 빠진다.")
+  @Test
+  void onTaskChanged_appliesDeltas() {
+    // Given
+    projectStatisticsService.onProjectChanged(new ProjectChangedEvent(ChangeType.CREATED, 1L));
+    TaskSnapshot overdue = new TaskSnapshot(10L, 1L, "Task", Status.TODO, Priority.HIGH,
+        LocalDateTime.now().minusHours(1));
+    projectStatisticsService.onTaskChanged(TaskChangedEvent.created(overdue));
+    assertThat(projectStatisticsService.getSummary(1L).overdueTasks()).isEqualTo(1);
+
+    // When
+    TaskSnapshot done = new TaskSnapshot(10L, 1L, "Task", Status.DONE, Priority.HIGH, overdue.dueDate());
+    projectStatisticsService.onTaskChanged(TaskChangedEvent.updated(overdue, done));
+
+    // Then
+    ProjectSummaryResponse summary = projectStatisticsService.getSummary(1L);
+    assertThat(summary.totalTasks()).isEqualTo(1);
+    assertThat(summary.byStatus()).containsEntry(Status.TODO, 0L).containsEntry(Status.DONE, 1L);
+    assertThat(summary.overdueTasks()).isZero();
+  }
+
+  @DisplayName("다시 불러오는 도중 들어온 작업 이벤트는 새 카운터에 반영되어 사라지지 않는다.")
+  @Test
+  void refresh_withConcurrentTaskEvent_keepsDelta() throws Exception {
+    // Given
+    projectStatisticsService.onProjectChanged(new ProjectChangedEvent(ChangeType.CREATED, 1L));
+    TaskSnapshot created =
+        new TaskSnapshot(20L, 1L, "Task", Status.DONE, Priority.LOW, null);
+    Thread event = Thread.ofPlatform().unstarted(
+        () -> projectStatisticsService.onTaskChanged(TaskChangedEvent.created(created)));
+    given(projectRepository.existsById(1L)).willReturn(true);
+    given(taskRepository.countGroupByStatusPriority(1L)).willAnswer(invocation -> {
+      // 불러오는 도중에 다른 스레드가 이벤트를 반영하려 한다
+      event.start();
+      event.join(200);
+      return List.of(new TaskCountRow(1L, Status.TODO, Priority.HIGH, 1L));
+    });
+    given(taskRepository.countGroupByDueDate(any(), any())).willReturn(List.of());
+
+    // When
+    projectStatisticsService.refresh(1L);
+    event.join();
+
+    // Then
+    assertThat(projectStatisticsService.getSummary(1L).totalTasks()).isEqualTo(2);
+  }
+
+  @DisplayName("삭제된 프로젝트의 요약을 조회하면 예외가 발생한다.")
+  @Test
+  void getSummary_afterProjectDeleted_throwsException() {
+    // Given
+    projectStatisticsService.onProjectChanged(new ProjectChangedEvent(ChangeType.CREATED, 1L));
+
+    // When
+    projectStatisticsService.onProjectChanged(new ProjectChangedEvent(ChangeType.DELETED, 1L));
+
+    // Then
+    assertThatThrownBy(() -> projectStatisticsService.getSummary(1L))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -0,0 +1,110 @@
+package com.streamline.task_management_app_java.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import com.streamline.task_management_app_java.domain.Priority;
+import com.streamline.task_management_app_java.domain.Status;
+import com.streamline.task_management_app_java.repository.TaskReminderRow;
+import com.streamline.task_management_app_java.repository.TaskRepository;
+import com.streamline.task_management_app_java.service.event.TaskChangedEvent;
+import com.streamline.task_management_app_java.service.event.TaskSnapshot;
+import com.streamline.task_management_app_java.service.reminder.Reminder;
+import com.streamline.task_management_app_java.service.reminder.ReminderType;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ReminderServiceTest {
+
+  private final TaskRepository taskRepository = mock(TaskRepository.class);
+  private final List<Reminder> sent = new ArrayList<>();
+
+  // 스케줄러 스레드를 시작하지 않고 tick()에 시각을 넘겨 시간 흐름을 흉내 낸다
+  private final ReminderService reminderService = new ReminderService(
+      taskRepository,
+      sent::add,
+      Duration.ofSeconds(1),
+      Duration.ofHours(1),
+      Duration.ofMinutes(30));
+
+  private final LocalDateTime start = LocalDateTime.now();
+
+  @DisplayName("시간 구간을 불러온 뒤, 마감 임박 알림과 기한 초과 알림을 각각의 시각에 보낸다.")
+  @Test
+  void tick_firesDueSoonAndOverdueAtTheirTimes() {
+    // Given
+    LocalDateTime due = start.plusMinutes(40);
+    TaskReminderRow task = row(Status.TODO, due);
+    given(taskRepository.findReminderRowsDueBetween(any(), any(), anyCollection()))
+        .willReturn(List.of(task), List.of());
+    given(taskRepository.findReminderRows(anyCollection())).willReturn(List.of(task));
+
+    // When
+    reminderService.tick(start);
+    assertThat(reminderService.scheduledCount()).isEqualTo(2);
+    reminderService.tick(start.plusMinutes(5));
+    assertThat(sent).isEmpty();
+    reminderService.tick(start.plusMinutes(10));
+    reminderService.tick(start.plusMinutes(40));
+
+    // Then
+    assertThat(sent).extracting(Reminder::type)
+        .containsExactly(ReminderType.DUE_SOON, ReminderType.OVERDUE);
+    assertThat(sent.getFirst().dueDate()).isEqualTo(due);
+    assertThat(sent.getFirst().tenantId()).isEqualTo("acme");
+    assertThat(reminderService.scheduledCount()).isZero();
+  }
+
+  @DisplayName("보내기 직전에 다시 조회해서, 일괄 전환 등으로 이미 닫힌 작업에는 알림을 보내지 않는다.")
+  @Test
+  void tick_skipsTasksClosedInTheMeantime() {
+    // Given
+    LocalDateTime due = start.plusMinutes(40);
+    given(taskRepository.findReminderRowsDueBetween(any(), any(), anyCollection()))
+        .willReturn(List.of(row(Status.TODO, due)), List.of());
+    given(taskRepository.findReminderRows(anyCollection()))
+        .willReturn(List.of(row(Status.DONE, due)));
+
+    // When
+    reminderService.tick(start);
+    reminderService.tick(start.plusMinutes(40));
+
+    // Then
+    assertThat(sent).isEmpty();
+  }
+
+  @DisplayName("마감일이 바뀌면 이전 알림은 건너뛰고 새 마감일 기준으로만 알림을 보낸다.")
+  @Test
+  void onTaskChanged_withNewDueDate_reschedules() {
+    // Given
+    LocalDateTime oldDue = start.plusMinutes(40);
+    LocalDateTime newDue = start.plusMinutes(50);
+    given(taskRepository.findReminderRowsDueBetween(any(), any(), anyCollection()))
+        .willReturn(List.of(row(Status.TODO, oldDue)), List.of());
+    given(taskRepository.findReminderRows(anyCollection()))
+        .willReturn(List.of(row(Status.TODO, newDue)));
+    reminderService.tick(start);
+
+    // When
+    reminderService.onTaskChanged(TaskChangedEvent.updated(
+        new TaskSnapshot(1L, 10L, "Task", Status.TODO, Priority.HIGH, oldDue),
+        new TaskSnapshot(1L, 10L, "Task", Status.TODO, Priority.HIGH, newDue)));
+    reminderService.tick(start.plusMinutes(45));
+
+    // Then
+    assertThat(sent).hasSize(1);
+    assertThat(sent.getFirst().type()).isEqualTo(ReminderType.DUE_SOON);
+    assertThat(sent.getFirst().dueDate()).isEqualTo(newDue);
+  }
+
+  private static TaskReminderRow row(Status status, LocalDateTime dueDate) {
+    return new TaskReminderRow(1L, "acme", 10L, "Task", status, dueDate);
+  }
+}
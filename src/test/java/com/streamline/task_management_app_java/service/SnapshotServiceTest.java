@@ -0,0 +1,151 @@
+package com.streamline.task_management_app_java.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.streamline.task_management_app_java.config.JpaConfig;
+import com.streamline.task_management_app_java.domain.EntityType;
+import com.streamline.task_management_app_java.domain.Priority;
+import com.streamline.task_management_app_java.domain.Project;
+import com.streamline.task_management_app_java.domain.ProjectStatus;
+import com.streamline.task_management_app_java.domain.Status;
+import com.streamline.task_management_app_java.domain.Task;
+import com.streamline.task_management_app_java.domain.Tombstone;
+import com.streamline.task_management_app_java.repository.ProjectRepository;
+import com.streamline.task_management_app_java.repository.TaskRepository;
+import com.streamline.task_management_app_java.repository.TombstoneRepository;
+import com.streamline.task_management_app_java.tenant.TenantContext;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+// 스냅샷은 별도 커넥션으로 읽고 쓰므로, 테스트 트랜잭션 없이 실제로 커밋한다.
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(JpaConfig.class)
+class SnapshotServiceTest {
+
+  @Autowired private DataSource dataSource;
+
+  @Autowired private ProjectRepository projectRepository;
+
+  @Autowired private TaskRepository taskRepository;
+
+  @Autowired private TombstoneRepository tombstoneRepository;
+
+  @TempDir private Path directory;
+
+  private Path path;
+  private SnapshotService snapshotService;
+
+  @BeforeEach
+  void setUp() {
+    path = directory.resolve("snapshot.bin");
+    snapshotService = new SnapshotService(
+        dataSource, new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class),
+        path, Duration.ofMinutes(5));
+  }
+
+  @AfterEach
+  void tearDown() {
+    deleteAll();
+  }
+
+  @DisplayName("스냅샷을 쓰고 빈 데이터베이스에 복원하면, id와 버전까지 그대로 돌아오고 새 id는 겹치지 않는다.")
+  @Test
+  void writeSnapshot_thenRestore_bringsBackAllRows() {
+    // Given
+    Project project = projectRepository.save(new Project("Release 🚀", ProjectStatus.DONE));
+    LocalDateTime dueDate = LocalDateTime.of(2025, 12, 24, 18, 0, 0, 123_456_000);
+    Task task = taskRepository.save(Task.builder().name("Ship it").status(Status.IN_PROGRESS)
+        .priority(Priority.HIGH).dueDate(dueDate).project(project).build());
+    Tombstone tombstone = tombstoneRepository.save(
+        new Tombstone(EntityType.TASK, 42L, project.getId(), LocalDateTime.now()));
+    Project otherTenant =
+        TenantContext.call("acme", () -> projectRepository.save(new Project("Other")));
+    // 저장된 값과 비교하도록 다시 읽는다 (DB 정밀도는 마이크로초)
+    LocalDateTime createdAt = taskRepository.findById(task.getId()).orElseThrow().getCreatedAt();
+    snapshotService.writeSnapshot();
+    deleteAll();
+
+    // When
+    snapshotService.restore();
+
+    // Then
+    Project restoredProject = projectRepository.findById(project.getId()).orElseThrow();
+    assertThat(restoredProject.getName()).isEqualTo("Release 🚀");
+    assertThat(restoredProject.getStatus()).isEqualTo(ProjectStatus.DONE);
+    assertThat(restoredProject.getVersion()).isEqualTo(project.getVersion());
+    Task restoredTask = taskRepository.findById(task.getId()).orElseThrow();
+    assertThat(restoredTask.getDueDate()).isEqualTo(dueDate);
+    assertThat(restoredTask.getStatus()).isEqualTo(Status.IN_PROGRESS);
+    assertThat(restoredTask.getCreatedAt()).isEqualTo(createdAt);
+    assertThat(tombstoneRepository.findById(tombstone.getId())).isPresent();
+    // 다른 테넌트의 행은 그 테넌트로 돌아온다
+    assertThat(projectRepository.findById(otherTenant.getId())).isEmpty();
+    assertThat(TenantContext.call("acme", () -> projectRepository.findById(otherTenant.getId())))
+        .isPresent();
+    // 복원 뒤 새로 만든 행은 복원된 id와 겹치지 않는다
+    Project newProject = projectRepository.save(new Project("New"));
+    Task newTask = taskRepository.save(Task.builder().name("New").status(Status.TODO)
+        .priority(Priority.LOW).dueDate(dueDate).project(newProject).build());
+    assertThat(newProject.getId()).isGreaterThan(project.getId());
+    assertThat(newTask.getId()).isGreaterThan(task.getId());
+  }
+
+  @DisplayName("데이터가 이미 있으면 스냅샷을 복원하지 않는다.")
+  @Test
+  void restore_withExistingData_keepsDatabase() {
+    // Given
+    projectRepository.save(new Project("Snapshotted"));
+    snapshotService.writeSnapshot();
+    deleteAll();
+    projectRepository.save(new Project("Current"));
+
+    // When
+    snapshotService.restore();
+
+    // Then
+    assertThat(projectRepository.findAll()).extracting(Project::getName).containsExactly("Current");
+  }
+
+  @DisplayName("손상된 스냅샷은 건너뛰지 않고 복원을 실패시켜, 다음 스냅샷이 덮어쓰지 않게 한다.")
+  @Test
+  void restore_withCorruptFile_fails() throws IOException {
+    // Given
+    projectRepository.save(new Project("Snapshotted"));
+    snapshotService.writeSnapshot();
+    deleteAll();
+    byte[] bytes = Files.readAllBytes(path);
+    bytes[bytes.length / 2] ^= 1;
+    Files.write(path, bytes);
+
+    // When & Then
+    assertThatThrownBy(() -> snapshotService.restore()).isInstanceOf(UncheckedIOException.class);
+    assertThat(projectRepository.count()).isZero();
+  }
+
+  private void deleteAll() {
+    TenantContext.runAsRoot(() -> {
+      taskRepository.deleteAllInBatch();
+      projectRepository.deleteAllInBatch();
+      tombstoneRepository.deleteAllInBatch();
+    });
+  }
+}
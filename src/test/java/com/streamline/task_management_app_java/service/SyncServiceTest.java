@@ -0,0 +1,169 @@
+package com.streamline.task_management_app_java.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.streamline.task_management_app_java.config.JpaConfig;
+import com.streamline.task_management_app_java.controller.dto.ProjectResponse;
+import com.streamline.task_management_app_java.controller.dto.SyncCursor;
+import com.streamline.task_management_app_java.controller.dto.SyncCursor.Position;
+import com.streamline.task_management_app_java.controller.dto.SyncResponse;
+import com.streamline.task_management_app_java.controller.dto.TaskChangeResponse;
+import com.streamline.task_management_app_java.controller.dto.TaskUpdateRequest;
+import com.streamline.task_management_app_java.controller.dto.TombstoneResponse;
+import com.streamline.task_management_app_java.domain.EntityType;
+import com.streamline.task_management_app_java.domain.Priority;
+import com.streamline.task_management_app_java.domain.Project;
+import com.streamline.task_management_app_java.domain.Status;
+import com.streamline.task_management_app_java.domain.Task;
+import com.streamline.task_management_app_java.domain.Tombstone;
+import com.streamline.task_management_app_java.repository.ProjectRepository;
+import com.streamline.task_management_app_java.repository.TaskRepository;
+import com.streamline.task_management_app_java.repository.TombstoneRepository;
+import com.streamline.task_management_app_java.service.event.ChangeType;
+import com.streamline.task_management_app_java.service.event.ProjectChangedEvent;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+@DataJpaTest(properties = "app.sync.grace=0s")
+@Import({JpaConfig.class, SyncService.class})
+class SyncServiceTest {
+
+  @Autowired private SyncService syncService;
+
+  @Autowired private ProjectRepository projectRepository;
+
+  @Autowired private TaskRepository taskRepository;
+
+  @Autowired private TombstoneRepository tombstoneRepository;
+
+  @Autowired private EntityManager em;
+
+  @DisplayName("워터마크 이후에 바뀐 프로젝트만 페이지 단위로 반환하고, 다음 워터마크로 이어서 조회한다.")
+  @Test
+  void getChanges_pagesThroughChangesAfterWatermark() {
+    // Given
+    Project first = projectRepository.save(new Project("First"));
+    Project second = projectRepository.save(new Project("Second"));
+    Project third = projectRepository.save(new Project("Third"));
+    em.flush();
+    em.clear();
+
+    // When
+    SyncResponse page1 = syncService.getChanges(null, 2);
+    SyncResponse page2 = syncService.getChanges(page1.nextSince(), 2);
+    SyncResponse page3 = syncService.getChanges(page2.nextSince(), 2);
+
+    // Then
+    assertThat(page1.projects()).extracting(ProjectResponse::id).containsExactly(first.getId(), second.getId());
+    assertThat(page1.hasMore()).isTrue();
+    assertThat(page2.projects()).extracting(ProjectResponse::id).containsExactly(third.getId());
+    assertThat(page2.hasMore()).isFalse();
+    // 변경이 없으면 빈 응답과 같은 프로젝트 워터마크를 돌려준다
+    assertThat(page3.projects()).isEmpty();
+    assertThat(SyncCursor.decode(page3.nextSince()).projects())
+        .isEqualTo(SyncCursor.decode(page2.nextSince()).projects());
+  }
+
+  @DisplayName("이미 받은 작업이 수정되면, 다음 동기화에 그 작업만 다시 포함된다.")
+  @Test
+  void getChanges_returnsOnlyUpdatedTasks() {
+    // Given
+    Project project = projectRepository.save(new Project("Project"));
+    Task untouched = saveTask(project, "Untouched");
+    Task edited = saveTask(project, "Edited");
+    em.flush();
+    em.clear();
+    String watermark = syncService.getChanges(null, 100).nextSince();
+
+    taskRepository.findById(edited.getId()).orElseThrow().updateTask(
+        new TaskUpdateRequest("Edited again", Priority.HIGH, LocalDateTime.now(), Status.DONE));
+    em.flush();
+    em.clear();
+
+    // When
+    SyncResponse response = syncService.getChanges(watermark, 100);
+
+    // Then
+    assertThat(response.tasks()).singleElement().satisfies(task -> {
+      assertThat(task.id()).isEqualTo(edited.getId());
+      assertThat(task.projectId()).isEqualTo(project.getId());
+      assertThat(task.name()).isEqualTo("Edited again");
+    });
+    assertThat(response.tasks()).extracting(TaskChangeResponse::id).doesNotContain(untouched.getId());
+    assertThat(response.projects()).isEmpty();
+  }
+
+  @DisplayName("삭제된 프로젝트는 툼스톤으로 전달된다.")
+  @Test
+  void getChanges_returnsTombstones() {
+    // Given
+    String watermark = syncService.getChanges(null, 100).nextSince();
+    syncService.onProjectChanged(new ProjectChangedEvent(ChangeType.DELETED, 42L));
+    em.flush();
+
+    // When
+    SyncResponse response = syncService.getChanges(watermark, 100);
+
+    // Then
+    assertThat(response.tombstones()).singleElement().satisfies(tombstone -> {
+      assertThat(tombstone.entityType()).isEqualTo(EntityType.PROJECT);
+      assertThat(tombstone.entityId()).isEqualTo(42L);
+    });
+    assertThat(response.tombstones()).extracting(TombstoneResponse::projectId).containsExactly(42L);
+    assertThat(response.reset()).isFalse();
+  }
+
+  @DisplayName("툼스톤 보존 기간보다 오래된 워터마크는 리셋 응답과 함께 처음부터 다시 동기화한다.")
+  @Test
+  void getChanges_withWatermarkOlderThanRetention_resets() {
+    // Given
+    Project project = projectRepository.save(new Project("Project"));
+    em.flush();
+    String stale = new SyncCursor(
+        Position.START, Position.START, new Position(LocalDateTime.now().minusDays(31), 0))
+        .encode();
+
+    // When
+    SyncResponse response = syncService.getChanges(stale, 100);
+
+    // Then
+    assertThat(response.reset()).isTrue();
+    assertThat(response.projects()).extracting(ProjectResponse::id)
+        .containsExactly(project.getId());
+    // 새 워터마크는 보존 기간 안에 있으므로 다음 호출은 리셋되지 않는다
+    assertThat(syncService.getChanges(response.nextSince(), 100).reset()).isFalse();
+  }
+
+  @DisplayName("보존 기간이 지난 툼스톤만 삭제한다.")
+  @Test
+  void purgeTombstones_deletesOnlyExpired() {
+    // Given
+    LocalDateTime now = LocalDateTime.now();
+    tombstoneRepository.save(new Tombstone(EntityType.TASK, 1L, 10L, now.minusDays(31)));
+    Tombstone recent =
+        tombstoneRepository.save(new Tombstone(EntityType.TASK, 2L, 10L, now.minusDays(1)));
+    em.flush();
+
+    // When
+    syncService.purgeTombstones(now);
+
+    // Then
+    assertThat(tombstoneRepository.findAll()).extracting(Tombstone::getId)
+        .containsExactly(recent.getId());
+  }
+
+  private Task saveTask(Project project, String name) {
+    return taskRepository.save(Task.builder()
+        .name(name)
+        .status(Status.TODO)
+        .priority(Priority.MEDIUM)
+        .dueDate(LocalDateTime.now().plusDays(1))
+        .project(project)
+        .build());
+  }
+}
@@ -0,0 +1,150 @@
+package com.streamline.task_management_app_java.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.streamline.task_management_app_java.config.JpaConfig;
+import com.streamline.task_management_app_java.controller.dto.TaskBulkCreateResult;
+import com.streamline.task_management_app_java.controller.dto.TaskCreateRequest;
+import com.streamline.task_management_app_java.controller.dto.TaskResponse;
+import com.streamline.task_management_app_java.domain.Priority;
+import com.streamline.task_management_app_java.domain.Project;
+import com.streamline.task_management_app_java.domain.Status;
+import com.streamline.task_management_app_java.domain.Task;
+import com.streamline.task_management_app_java.repository.ProjectRepository;
+import com.streamline.task_management_app_java.repository.TaskRepository;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({JpaConfig.class, TaskService.class, ProjectService.class})
+class TaskServiceIntegrationTest {
+
+  @Autowired private TaskService taskService;
+
+  @Autowired private ProjectRepository projectRepository;
+
+  @Autowired private TaskRepository taskRepository;
+
+  @Autowired private EntityManager em;
+
+  private Statistics statistics;
+
+  @BeforeEach
+  void setUp() {
+    statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+  }
+
+  @DisplayName("작업을 일괄 생성하면, INSERT가 JDBC batch로 묶여 실행된다.")
+  @Test
+  void createTasks_insertsInJdbcBatches() {
+    // Given
+    Project project = projectRepository.save(new Project("Bulk Project"));
+    em.flush();
+    em.clear();
+
+    int size = 120;
+    List<TaskCreateRequest> requests =
+        IntStream.range(0, size)
+            .mapToObj(
+                i ->
+                    new TaskCreateRequest(
+                        "Task " + i, Status.TODO, Priority.MEDIUM, LocalDateTime.now(), project.getId()))
+            .toList();
+    statistics.clear();
+
+    // When
+    List<TaskBulkCreateResult> results = taskService.createTasks(requests);
+    em.flush();
+
+    // Then
+    assertThat(results).hasSize(size).allMatch(TaskBulkCreateResult::success);
+    assertThat(statistics.getEntityInsertCount()).isEqualTo(size);
+    // 프로젝트 조회 1회 + 시퀀스 조회 + batch 당 PreparedStatement 1개
+    assertThat(statistics.getPrepareStatementCount()).isLessThan(size / 10);
+    assertThat(statistics.getCollectionLoadCount()).isZero();
+  }
+
+  @DisplayName("작업이 많은 프로젝트에 작업을 생성해도, 프로젝트의 작업 컬렉션을 로딩하지 않는다.")
+  @Test
+  void createTask_doesNotLoadProjectTasks() {
+    // Given
+    Project project = projectWithTasks(200);
+    statistics.clear();
+
+    // When
+    TaskResponse response =
+        taskService.createTask(
+            new TaskCreateRequest(
+                "New Task", Status.TODO, Priority.HIGH, LocalDateTime.now(), project.getId()));
+    em.flush();
+
+    // Then
+    assertThat(response.id()).isNotNull();
+    assertThat(statistics.getCollectionLoadCount()).isZero();
+    assertThat(statistics.getEntityLoadCount()).isZero();
+    // 존재 확인 1회 + 시퀀스 조회 + INSERT
+    assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(3);
+  }
+
+  @DisplayName("작업 삭제 비용은 프로젝트의 작업 수와 무관하게 일정하다.")
+  @Test
+  void deleteTask_costsTheSameRegardlessOfProjectSize() {
+    // Given
+    Long smallTaskId = firstTaskId(projectWithTasks(1));
+    Long largeTaskId = firstTaskId(projectWithTasks(500));
+
+    // When
+    long smallStatements = statementsToDelete(smallTaskId);
+    long largeStatements = statementsToDelete(largeTaskId);
+
+    // Then
+    assertThat(largeStatements).isEqualTo(smallStatements).isLessThanOrEqualTo(2);
+    assertThat(statistics.getCollectionLoadCount()).isZero();
+    assertThat(taskRepository.existsById(largeTaskId)).isFalse();
+  }
+
+  private long statementsToDelete(Long taskId) {
+    statistics.clear();
+    taskService.deleteTask(taskId, null);
+    em.flush();
+    long statements = statistics.getPrepareStatementCount();
+    em.clear();
+    return statements;
+  }
+
+  private Project projectWithTasks(int count) {
+    Project project = projectRepository.save(new Project("Project with " + count + " tasks"));
+    taskRepository.saveAll(
+        IntStream.range(0, count)
+            .mapToObj(
+                i ->
+                    Task.builder()
+                        .name("Task " + i)
+                        .status(Status.TODO)
+                        .priority(Priority.LOW)
+                        .dueDate(LocalDateTime.now())
+                        .project(project)
+                        .build())
+            .toList());
+    em.flush();
+    em.clear();
+    return project;
+  }
+
+  private Long firstTaskId(Project project) {
+    return em.createQuery(
+            "select min(t.id) from Task t where t.project.id = :projectId", Long.class)
+        .setParameter("projectId", project.getId())
+        .getSingleResult();
+  }
+}
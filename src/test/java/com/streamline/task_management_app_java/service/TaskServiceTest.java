@@ -3,11 +3,19 @@ package com.streamline.task_management_app_java.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.LongStream;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -15,9 +23,17 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import com.streamline.task_management_app_java.config.CacheConfig;
+import com.streamline.task_management_app_java.controller.dto.TaskBulkCreateResult;
 import com.streamline.task_management_app_java.controller.dto.TaskResponse;
+import com.streamline.task_management_app_java.controller.dto.TaskStatusTransitionRequest;
+import com.streamline.task_management_app_java.controller.dto.TaskStatusTransitionResponse;
 import com.streamline.task_management_app_java.controller.dto.TaskUpdateRequest;
 import com.streamline.task_management_app_java.controller.dto.TaskCreateRequest;
 import com.streamline.task_management_app_java.domain.Priority;
@@ -25,6 +41,9 @@ import com.streamline.task_management_app_java.domain.Project;
 import com.streamline.task_management_app_java.domain.Status;
 import com.streamline.task_management_app_java.domain.Task;
 import com.streamline.task_management_app_java.repository.TaskRepository;
+import com.streamline.task_management_app_java.service.event.ChangeType;
+import com.streamline.task_management_app_java.service.event.TaskChangedEvent;
+import com.streamline.task_management_app_java.service.event.TasksBulkChangedEvent;
 
 @ExtendWith(MockitoExtension.class)
 class TaskServiceTest {
@@ -38,6 +57,15 @@ class TaskServiceTest {
     @Mock
     private ProjectService projectService;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private Cache taskCache;
+
     @DisplayName("ID로 작업을 조회하면, 작업 응답을 반환한다.")
     @Test
     void getTask_returnsTaskResponse() {
@@ -62,13 +90,13 @@ class TaskServiceTest {
         then(taskRepository).should().findById(taskId);
     }
 
-    @DisplayName("작업 생성 시, 프로젝트를 조회하고 작업을 저장한다.")
+    @DisplayName("작업 생성 시, 프로젝트 참조만 연결하고 작업을 저장한다.")
     @Test
-    void createTask_savesTaskAndAssignsToProject() {
+    void createTask_savesTaskWithProjectReference() {
         // Given
         Long projectId = 1L;
         Project project = new Project("Test Project");
-        given(projectService.getProjectEntity(projectId)).willReturn(project);
+        given(projectService.getProjectReference(projectId)).willReturn(project);
 
         Task savedTask = Task.builder()
                 .name("Task")
@@ -86,36 +114,55 @@ class TaskServiceTest {
 
         // Then
         assertThat(response.id()).isEqualTo(10L);
-        then(projectService).should().getProjectEntity(projectId);
-        then(taskRepository).should().save(any(Task.class));
+        then(projectService).should().getProjectReference(projectId);
+        then(taskRepository).should().save(argThat(task -> task.getProject() == project));
+
+        // 프로젝트의 tasks 컬렉션은 건드리지 않는다
+        assertThat(project.getTasks()).isEmpty();
+    }
+
+    @DisplayName("작업 일괄 생성 시, 프로젝트는 한 번만 조회하고 항목별 결과를 반환한다.")
+    @Test
+    void createTasks_resolvesProjectsOnceAndReturnsPerItemResults() {
+        // Given
+        Project project = new Project("Test Project");
+        ReflectionTestUtils.setField(project, "id", 1L);
+        given(projectService.getProjectEntities(any())).willReturn(Map.of(1L, project));
+        given(taskRepository.save(any(Task.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        List<TaskCreateRequest> requests = List.of(
+                new TaskCreateRequest("Task 1", Status.TODO, Priority.HIGH, LocalDateTime.now(), 1L),
+                new TaskCreateRequest("Task 2", Status.TODO, Priority.LOW, LocalDateTime.now(), 99L),
+                new TaskCreateRequest("Task 3", Status.DONE, Priority.LOW, LocalDateTime.now(), 1L));
+
+        // When
+        List<TaskBulkCreateResult> results = taskService.createTasks(requests);
 
-        // Verify that the task was added to the project's list (logic inside addTask)
-        assertThat(project.getTasks()).hasSize(1);
+        // Then
+        assertThat(results).extracting(TaskBulkCreateResult::index).containsExactly(0, 1, 2);
+        assertThat(results).extracting(TaskBulkCreateResult::success).containsExactly(true, false, true);
+        assertThat(results.get(1).message()).contains("99");
+        then(projectService).should().getProjectEntities(any());
+        then(taskRepository).should(times(2)).save(any(Task.class));
     }
 
-    @DisplayName("작업 삭제 시, 작업과 프로젝트 연결을 해제한다.")
+    @DisplayName("작업 삭제 시, 프로젝트 컬렉션을 거치지 않고 작업만 삭제한다.")
     @Test
-    void deleteTask_removesTaskFromProject() {
+    void deleteTask_deletesTaskOnly() {
         // Given
         Long taskId = 10L;
         Project project = new Project("Test Project");
-        Task task = Task.builder().name("Task").build();
+        Task task = Task.builder().name("Task").project(project).build();
         ReflectionTestUtils.setField(task, "id", taskId);
 
-        // Link them initially
-        project.addTask(task);
-
         given(taskRepository.findById(taskId)).willReturn(Optional.of(task));
 
         // When
-        taskService.deleteTask(taskId);
+        taskService.deleteTask(taskId, null);
 
         // Then
-        // orphanRemoval relies on JPA, but here we verify the domain logic:
-        // 1. Task removed from Project's list
+        then(taskRepository).should().delete(task);
         assertThat(project.getTasks()).isEmpty();
-        // 2. Task's project reference is nullified
-        assertThat(task.getProject()).isNull();
     }
 
     @DisplayName("존재하지 않는 작업 삭제 시 예외가 발생한다.")
@@ -126,7 +173,7 @@ class TaskServiceTest {
         given(taskRepository.findById(taskId)).willReturn(Optional.empty());
 
         // When & Then
-        assertThatThrownBy(() -> taskService.deleteTask(taskId))
+        assertThatThrownBy(() -> taskService.deleteTask(taskId, null))
                 .isInstanceOf(IllegalArgumentException.class);
     }
 
@@ -142,11 +189,93 @@ class TaskServiceTest {
         TaskUpdateRequest request = new TaskUpdateRequest("New Name", Priority.HIGH, LocalDateTime.now(), Status.IN_PROGRESS);
 
         // When
-        taskService.updateTask(taskId, request);
+        taskService.updateTask(taskId, request, null);
 
         // Then
         assertThat(task.getName()).isEqualTo("New Name");
         assertThat(task.getPriority()).isEqualTo(Priority.HIGH);
         assertThat(task.getStatus()).isEqualTo(Status.IN_PROGRESS);
+
+        // 통계 갱신을 위해 변경 전후 상태를 함께 발행한다
+        then(eventPublisher).should().publishEvent(argThat((Object event) ->
+                event instanceof TaskChangedEvent changed
+                        && changed.type() == ChangeType.UPDATED
+                        && changed.before().status() == Status.TODO
+                        && changed.after().status() == Status.IN_PROGRESS));
+    }
+
+    @DisplayName("상태 일괄 전환 시, 작업을 불러오지 않고 변경된 작업 수를 반환한다.")
+    @Test
+    void transitionStatus_updatesWithoutLoadingTasks() {
+        // Given
+        Long projectId = 1L;
+        TaskStatusTransitionRequest request =
+                new TaskStatusTransitionRequest(List.of(Status.IN_PROGRESS), null, null, Status.DONE);
+        List<Long> ids = List.of(10L, 11L, 12L);
+        given(taskRepository.findIdsToTransition(eq(projectId), eq(request), anyInt()))
+                .willReturn(ids);
+        given(taskRepository.transitionStatus(
+                eq(projectId), eq(request), any(LocalDateTime.class), eq(ids)))
+                .willReturn(3);
+        given(taskRepository.transitionStatus(eq(projectId), eq(request), any(LocalDateTime.class)))
+                .willReturn(0);
+        given(cacheManager.getCache(CacheConfig.TASKS)).willReturn(taskCache);
+
+        // When
+        TaskStatusTransitionResponse response = taskService.transitionStatus(projectId, request);
+
+        // Then
+        assertThat(response.updatedTasks()).isEqualTo(3);
+        // 바뀐 작업만 캐시에서 빠지고, 다른 테넌트의 캐시는 그대로 둔다
+        ids.forEach(id -> then(taskCache).should().evict(CacheConfig.tenantKey(id)));
+        then(taskCache).should(never()).clear();
+        assertThat(response.targetStatus()).isEqualTo(Status.DONE);
+        then(projectService).should().getProjectReference(projectId);
+        then(taskRepository).should(never()).findById(any());
+        then(eventPublisher).should().publishEvent(new TasksBulkChangedEvent(projectId, Status.DONE, 3));
+    }
+
+    @DisplayName("일괄 전환 대상이 한도보다 많으면, 한 번에 바꾸고 작업 캐시를 비운다.")
+    @Test
+    void transitionStatus_withManyTasks_clearsTaskCache() {
+        // Given
+        Long projectId = 1L;
+        TaskStatusTransitionRequest request =
+                new TaskStatusTransitionRequest(null, null, null, Status.DONE);
+        List<Long> ids =
+                LongStream.rangeClosed(1, TaskService.MAX_EVICTED_TASKS + 1).boxed().toList();
+        given(taskRepository.findIdsToTransition(eq(projectId), eq(request), anyInt()))
+                .willReturn(ids);
+        given(taskRepository.transitionStatus(eq(projectId), eq(request), any(LocalDateTime.class)))
+                .willReturn(5_000);
+        given(cacheManager.getCache(CacheConfig.TASKS)).willReturn(taskCache);
+
+        // When
+        TaskStatusTransitionResponse response = taskService.transitionStatus(projectId, request);
+
+        // Then
+        assertThat(response.updatedTasks()).isEqualTo(5_000);
+        then(taskRepository).should(never())
+                .transitionStatus(any(), any(), any(), any());
+        then(taskCache).should().clear();
+    }
+
+    @DisplayName("작업 수정 시 If-Match 버전이 현재 버전과 다르면, 수정하지 않고 예외가 발생한다.")
+    @Test
+    void updateTask_withStaleVersion_throwsException() {
+        // Given
+        Long taskId = 10L;
+        Task task = Task.builder().name("Old Name").priority(Priority.LOW).status(Status.TODO).build();
+        ReflectionTestUtils.setField(task, "id", taskId);
+        ReflectionTestUtils.setField(task, "version", 3L);
+        given(taskRepository.findById(taskId)).willReturn(Optional.of(task));
+
+        TaskUpdateRequest request = new TaskUpdateRequest("New Name", Priority.HIGH, LocalDateTime.now(), Status.DONE);
+
+        // When & Then
+        assertThatThrownBy(() -> taskService.updateTask(taskId, request, 2L))
+                .isInstanceOf(OptimisticLockingFailureException.class);
+        assertThat(task.getName()).isEqualTo("Old Name");
+        then(eventPublisher).shouldHaveNoInteractions();
     }
 }
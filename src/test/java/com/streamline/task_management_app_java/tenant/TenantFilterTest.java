@@ -0,0 +1,77 @@
+package com.streamline.task_management_app_java.tenant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import tools.jackson.databind.ObjectMapper;
+
+class TenantFilterTest {
+
+  private final TenantFilter filter = new TenantFilter(new ObjectMapper());
+
+  @DisplayName("헤더의 테넌트는 요청 처리 동안만 유지된다.")
+  @Test
+  void doFilter_bindsTenantForRequest() throws Exception {
+    // Given
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/v1/project");
+    request.addHeader(TenantFilter.TENANT_HEADER, "acme");
+    AtomicReference<String> seen = new AtomicReference<>();
+
+    // When
+    filter.doFilter(request, new MockHttpServletResponse(), chain(seen));
+
+    // Then
+    assertThat(seen).hasValue("acme");
+    assertThat(TenantContext.current()).isEqualTo(TenantContext.DEFAULT);
+  }
+
+  @DisplayName("헤더가 없으면 기본 테넌트로 처리한다.")
+  @Test
+  void doFilter_withoutHeader_usesDefaultTenant() throws Exception {
+    // Given
+    AtomicReference<String> seen = new AtomicReference<>();
+
+    // When
+    filter.doFilter(new MockHttpServletRequest("GET", "/v1/project"),
+        new MockHttpServletResponse(), chain(seen));
+
+    // Then
+    assertThat(seen).hasValue(TenantContext.DEFAULT);
+  }
+
+  @DisplayName("형식이 잘못된 테넌트는 400으로 거절하고 요청을 처리하지 않는다.")
+  @Test
+  void doFilter_withInvalidTenant_rejectsRequest() throws Exception {
+    // Given
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/v1/project");
+    // 루트 테넌트 값은 헤더로 지정할 수 없다
+    request.addHeader(TenantFilter.TENANT_HEADER, "*");
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    AtomicReference<String> seen = new AtomicReference<>();
+
+    // When
+    filter.doFilter(request, response, chain(seen));
+
+    // Then
+    assertThat(response.getStatus()).isEqualTo(400);
+    assertThat(response.getContentAsString()).contains("\"success\":false");
+    assertThat(seen).hasNullValue();
+  }
+
+  private MockFilterChain chain(AtomicReference<String> seen) {
+    return new MockFilterChain(new HttpServlet() {
+      @Override
+      protected void service(HttpServletRequest req, HttpServletResponse res) {
+        seen.set(TenantContext.current());
+      }
+    });
+  }
+}
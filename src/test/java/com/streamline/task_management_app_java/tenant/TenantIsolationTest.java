@@ -0,0 +1,103 @@
+package com.streamline.task_management_app_java.tenant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.streamline.task_management_app_java.config.JpaConfig;
+import com.streamline.task_management_app_java.domain.Priority;
+import com.streamline.task_management_app_java.domain.Project;
+import com.streamline.task_management_app_java.domain.Status;
+import com.streamline.task_management_app_java.domain.Task;
+import com.streamline.task_management_app_java.repository.ProjectRepository;
+import com.streamline.task_management_app_java.repository.TaskRepository;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+// 테넌트는 세션을 열 때 정해지므로, 테스트 트랜잭션 없이 호출마다 새 세션을 연다.
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(JpaConfig.class)
+class TenantIsolationTest {
+
+  @Autowired private ProjectRepository projectRepository;
+
+  @Autowired private TaskRepository taskRepository;
+
+  @AfterEach
+  void tearDown() {
+    TenantContext.runAsRoot(() -> {
+      taskRepository.deleteAllInBatch();
+      projectRepository.deleteAllInBatch();
+    });
+  }
+
+  @DisplayName("저장할 때 현재 테넌트가 들어가고, 다른 테넌트의 조회에는 보이지 않는다.")
+  @Test
+  void queries_seeOnlyCurrentTenant() {
+    // Given
+    Project acme = TenantContext.call("acme", () -> saveProjectWithTask("Acme"));
+    Project globex = TenantContext.call("globex", () -> saveProjectWithTask("Globex"));
+
+    // When
+    List<Project> acmePage =
+        TenantContext.call("acme", () -> projectRepository.findPage(0L, Limit.of(10)));
+
+    // Then
+    assertThat(acme.getTenantId()).isEqualTo("acme");
+    assertThat(acmePage).extracting(Project::getName).containsExactly("Acme");
+    assertThat(TenantContext.call("acme", () -> projectRepository.findById(globex.getId())))
+        .isEmpty();
+    assertThat(TenantContext.call("acme", () -> taskRepository.countByProjectId(globex.getId())))
+        .isZero();
+    // 헤더 없는 요청의 기본 테넌트에도 보이지 않는다
+    assertThat(projectRepository.count()).isZero();
+  }
+
+  @DisplayName("일괄 삭제도 현재 테넌트의 행에만 적용된다.")
+  @Test
+  void bulkDelete_affectsOnlyCurrentTenant() {
+    // Given
+    Project globex = TenantContext.call("globex", () -> saveProjectWithTask("Globex"));
+
+    // When
+    int deleted = TenantContext.call(
+        "acme", () -> taskRepository.deleteAllByProjectId(globex.getId()));
+
+    // Then
+    assertThat(deleted).isZero();
+    assertThat(TenantContext.call("globex", () -> taskRepository.countByProjectId(globex.getId())))
+        .isEqualTo(1);
+  }
+
+  @DisplayName("루트로 실행하면 모든 테넌트의 행을 본다.")
+  @Test
+  void root_seesAllTenants() {
+    // Given
+    TenantContext.run("acme", () -> saveProjectWithTask("Acme"));
+    TenantContext.run("globex", () -> saveProjectWithTask("Globex"));
+
+    // When
+    long[] counts = new long[2];
+    TenantContext.runAsRoot(() -> {
+      counts[0] = projectRepository.count();
+      counts[1] = taskRepository.count();
+    });
+
+    // Then
+    assertThat(counts).containsExactly(2, 2);
+  }
+
+  private Project saveProjectWithTask(String name) {
+    Project project = projectRepository.save(new Project(name));
+    taskRepository.save(Task.builder().name(name + " task").status(Status.TODO)
+        .priority(Priority.HIGH).project(project).build());
+    return project;
+  }
+}